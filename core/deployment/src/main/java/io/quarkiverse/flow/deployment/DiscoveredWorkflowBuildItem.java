@@ -18,6 +18,8 @@ import io.serverlessworkflow.impl.WorkflowDefinitionId;
  */
 public final class DiscoveredWorkflowBuildItem extends MultiBuildItem {
 
+    private static final String PRECOMPILED_RESOURCE_DIR = "META-INF/quarkus-flow/workflows/";
+
     private final From from;
     private String definitionResourcePath;
     private WorkflowDefinitionId workflowDefinitionId;
@@ -116,6 +118,18 @@ public final class DiscoveredWorkflowBuildItem extends MultiBuildItem {
         return definitionResourcePath;
     }
 
+    /**
+     * Returns the classpath resource path of the pre-parsed workflow definition generated at build time.
+     * <p/>
+     * The generated resource holds the definition parsed from {@link #definitionResourcePath()} written as compact
+     * JSON, so it is read at runtime without parsing YAML again.
+     *
+     * @return the generated resource path (e.g., "META-INF/quarkus-flow/workflows/flow/subdir/order-workflow.yaml.json")
+     */
+    public String precompiledResourcePath() {
+        return PRECOMPILED_RESOURCE_DIR + definitionResourcePath + ".json";
+    }
+
     /**
      * @return Workflow descriptor parsed from {@link From#SPEC}, null otherwise.
      */
@@ -32,12 +32,17 @@ import io.quarkiverse.flow.internal.WorkflowApplicationInitializer;
 import io.quarkiverse.flow.internal.WorkflowNameUtils;
 import io.quarkiverse.flow.internal.WorkflowRegistrarService;
 import io.quarkiverse.flow.metrics.MicrometerExecutionListener;
+import io.quarkiverse.flow.providers.ClientRoutingTable;
 import io.quarkiverse.flow.providers.CredentialsProviderSecretManager;
 import io.quarkiverse.flow.providers.FaultToleranceProvider;
 import io.quarkiverse.flow.providers.HttpClientProvider;
 import io.quarkiverse.flow.providers.JQScopeSupplier;
 import io.quarkiverse.flow.providers.MicroprofileConfigManager;
 import io.quarkiverse.flow.providers.QuarkusManagedExecutorServiceFactory;
+import io.quarkiverse.flow.providers.TaskConcurrencyLimiter;
+import io.quarkiverse.flow.providers.WorkflowAdmissionController;
+import io.quarkiverse.flow.providers.WorkflowAdmissionException;
+import io.quarkiverse.flow.providers.WorkflowAdmissionExceptionMapper;
 import io.quarkiverse.flow.providers.WorkflowExceptionMapper;
 import io.quarkiverse.flow.recorders.SDKRecorder;
 import io.quarkiverse.flow.recorders.WorkflowApplicationCreator;
@@ -122,8 +127,8 @@ class FlowProcessor {
                 .addValue("value", identifier).done()
                 .addInjectionPoint(ClassType.create(DotName.createSimple(WorkflowRegistrarService.class)));
 
-        // Load workflow from classpath resource at runtime
-        return configurator.createWith(recorder.workflowDefinitionFromResourceCreator(workflow.definitionResourcePath()))
+        // Load the workflow pre-parsed at build time from its generated classpath resource at runtime
+        return configurator.createWith(recorder.workflowDefinitionFromResourceCreator(workflow.precompiledResourcePath()))
                 .done();
     }
 
@@ -180,9 +185,12 @@ class FlowProcessor {
                 .addBeanClass(JQScopeSupplier.class)
                 .addBeanClass(CredentialsProviderSecretManager.class)
                 .addBeanClass(MicroprofileConfigManager.class)
+                .addBeanClass(ClientRoutingTable.class)
                 .addBeanClass(HttpClientProvider.class)
                 .addBeanClass(FaultToleranceProvider.class)
                 .addBeanClass(QuarkusManagedExecutorServiceFactory.class)
+                .addBeanClass(TaskConcurrencyLimiter.class)
+                .addBeanClass(WorkflowAdmissionController.class)
                 .addBeanClass(WorkflowApplicationCreator.class)
                 .addBeanClass(WorkflowApplicationInitializer.class)
                 .addBeanClass(WorkflowRegistrarService.class)
@@ -218,6 +226,19 @@ class FlowProcessor {
                 true));
     }
 
+    /**
+     * Registers the {@link WorkflowAdmissionExceptionMapper} answering rejected instance starts with
+     * {@code 429 Too Many Requests}.
+     */
+    @BuildStep
+    void registerWorkflowAdmissionExceptionMapper(BuildProducer<ExceptionMapperBuildItem> mappers) {
+        mappers.produce(new ExceptionMapperBuildItem(
+                WorkflowAdmissionExceptionMapper.class.getName(),
+                WorkflowAdmissionException.class.getName(),
+                Priorities.USER,
+                true));
+    }
+
     /**
      * Produce one WorkflowDefinition bean per discovered descriptor.
      * Each bean is qualified with @Identifier("<id>").
@@ -2,11 +2,13 @@ package io.quarkiverse.flow.deployment;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,8 +18,11 @@ import io.quarkiverse.flow.internal.WorkflowNameUtils;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.serverlessworkflow.api.WorkflowFormat;
 import io.serverlessworkflow.api.WorkflowReader;
+import io.serverlessworkflow.api.WorkflowWriter;
 import io.serverlessworkflow.api.types.Workflow;
 
 /**
@@ -39,7 +44,8 @@ public class FlowResourceCollectorProcessor {
             ApplicationArchivesBuildItem archives,
             FlowDefinitionsConfig flowDefinitionsConfig,
             BuildProducer<DiscoveredWorkflowBuildItem> workflows,
-            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources) {
 
         final String flowResourcePath = flowDefinitionsConfig.dir().orElse(FlowDefinitionsConfig.DEFAULT_FLOW_DIR);
         Map<String, DiscoveredWorkflowBuildItem> workflowsMap = new HashMap<>();
@@ -62,7 +68,7 @@ public class FlowResourceCollectorProcessor {
                     // Parse workflow to extract metadata (namespace, name, version)
                     Workflow workflow = WorkflowReader.readWorkflow(filePath);
 
-                    // No need to read content - we'll load from classpath at runtime
+                    // The parsed workflow is written as a pre-parsed resource loaded at runtime
                     DiscoveredWorkflowBuildItem item = DiscoveredWorkflowBuildItem.fromSpec(
                             relativePath,
                             workflow);
@@ -79,9 +85,15 @@ public class FlowResourceCollectorProcessor {
         // Produce workflow build items
         workflowsMap.values().forEach(workflows::produce);
 
+        // Write every parsed workflow as compact JSON, so it is not parsed as YAML again at runtime
+        for (DiscoveredWorkflowBuildItem item : workflowsMap.values()) {
+            generatedResources.produce(new GeneratedResourceBuildItem(item.precompiledResourcePath(),
+                    precompile(item)));
+        }
+
         // Register workflow resources for native image compilation
         List<String> resourcePaths = workflowsMap.values().stream()
-                .map(DiscoveredWorkflowBuildItem::definitionResourcePath)
+                .flatMap(item -> Stream.of(item.definitionResourcePath(), item.precompiledResourcePath()))
                 .toList();
 
         if (!resourcePaths.isEmpty()) {
@@ -90,6 +102,15 @@ public class FlowResourceCollectorProcessor {
         }
     }
 
+    private static byte[] precompile(DiscoveredWorkflowBuildItem item) {
+        try {
+            return WorkflowWriter.workflowAsString(item.workflowFromSpec(), WorkflowFormat.JSON)
+                    .getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing pre-parsed workflow file: " + item.definitionResourcePath(), e);
+        }
+    }
+
     private static void tryAddUniqueWorkflow(DiscoveredWorkflowBuildItem item,
             Map<String, DiscoveredWorkflowBuildItem> uniqueWorkflows) {
         DiscoveredWorkflowBuildItem existing = uniqueWorkflows.put(item.specIdentifier(), item);
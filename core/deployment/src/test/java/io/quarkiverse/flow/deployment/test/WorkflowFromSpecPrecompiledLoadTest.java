@@ -0,0 +1,73 @@
+package io.quarkiverse.flow.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.smallrye.common.annotation.Identifier;
+
+/**
+ * Bundles many workflow files and reports how long it takes to create their definitions at startup, run with
+ * {@code -Pload-tests}.
+ */
+public class WorkflowFromSpecPrecompiledLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowFromSpecPrecompiledLoadTest.class);
+
+    private static final int WORKFLOWS = 500;
+
+    private static final String WORKFLOW_YAML = """
+            document:
+              dsl: '1.0.0'
+              namespace: bench
+              name: workflow-%d
+              version: '1.0.0'
+            do:
+              - setMessage:
+                  set:
+                    message: "Hello from %d"
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> {
+                JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+                for (int i = 0; i < WORKFLOWS; i++) {
+                    jar.addAsResource(new StringAsset(WORKFLOW_YAML.formatted(i, i)), "flow/workflow-" + i + ".yaml");
+                }
+                return jar;
+            })
+            .withConfigurationResource("application-test-random.properties");
+
+    @Test
+    void should_create_all_bundled_definitions() {
+        long start = System.nanoTime();
+        for (int i = 0; i < WORKFLOWS; i++) {
+            var handle = Arc.container().instance(WorkflowDefinition.class,
+                    Identifier.Literal.of("bench:workflow-" + i + ":1.0.0"));
+            assertTrue(handle.isAvailable());
+            assertEquals("workflow-" + i, handle.get().workflow().getDocument().getName());
+        }
+        LOG.info("Created {} bundled workflow definitions in {} ms", WORKFLOWS,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        WorkflowDefinition last = Arc.container().instance(WorkflowDefinition.class,
+                Identifier.Literal.of("bench:workflow-" + (WORKFLOWS - 1))).get();
+        WorkflowModel model = last.instance(Map.of()).start().join();
+        assertEquals("Hello from " + (WORKFLOWS - 1), model.asMap().orElseThrow().get("message"));
+    }
+}
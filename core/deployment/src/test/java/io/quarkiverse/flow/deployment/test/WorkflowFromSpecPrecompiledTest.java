@@ -0,0 +1,81 @@
+package io.quarkiverse.flow.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.smallrye.common.annotation.Identifier;
+
+/**
+ * Bundles a few workflow files to check they are loaded from the resources pre-parsed at build time.
+ *
+ * @see WorkflowFromSpecPrecompiledLoadTest
+ */
+public class WorkflowFromSpecPrecompiledTest {
+
+    private static final int WORKFLOWS = 3;
+
+    private static final String WORKFLOW_YAML = """
+            document:
+              dsl: '1.0.0'
+              namespace: bench
+              name: workflow-%d
+              version: '1.0.0'
+            do:
+              - setMessage:
+                  set:
+                    message: "Hello from %d"
+            """;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(() -> {
+                JavaArchive jar = ShrinkWrap.create(JavaArchive.class);
+                for (int i = 0; i < WORKFLOWS; i++) {
+                    jar.addAsResource(new StringAsset(WORKFLOW_YAML.formatted(i, i)), "flow/workflow-" + i + ".yaml");
+                }
+                return jar;
+            })
+            .withConfigurationResource("application-test-random.properties");
+
+    @Test
+    void should_generate_pre_parsed_json_resources() throws IOException {
+        try (InputStream precompiled = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("META-INF/quarkus-flow/workflows/flow/workflow-0.yaml.json")) {
+            assertNotNull(precompiled);
+            String json = new String(precompiled.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.startsWith("{"), json);
+            assertTrue(json.contains("\"workflow-0\""), json);
+        }
+    }
+
+    @Test
+    void should_create_all_bundled_definitions() {
+        for (int i = 0; i < WORKFLOWS; i++) {
+            var handle = Arc.container().instance(WorkflowDefinition.class,
+                    Identifier.Literal.of("bench:workflow-" + i + ":1.0.0"));
+            assertTrue(handle.isAvailable());
+            assertEquals("workflow-" + i, handle.get().workflow().getDocument().getName());
+        }
+
+        WorkflowDefinition last = Arc.container().instance(WorkflowDefinition.class,
+                Identifier.Literal.of("bench:workflow-" + (WORKFLOWS - 1))).get();
+        WorkflowModel model = last.instance(Map.of()).start().join();
+        assertEquals("Hello from " + (WORKFLOWS - 1), model.asMap().orElseThrow().get("message"));
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Map;
 
 import jakarta.annotation.PostConstruct;
 
+import io.quarkiverse.flow.providers.WorkflowAdmissionException;
 import io.quarkus.arc.Arc;
 import io.serverlessworkflow.api.types.Workflow;
 import io.serverlessworkflow.impl.WorkflowDefinition;
@@ -231,6 +232,9 @@ public abstract class Flow implements Flowable {
      * <p>
      * This is a convenience method that combines {@link #instance(Object)} and {@link WorkflowInstance#start()} into a
      * single call, returning a reactive {@link Uni} for non-blocking execution.
+     * <p>
+     * Like any instance of this workflow, it is subject to the {@code quarkus.flow.admission} limits: it may wait for
+     * running instances to complete, and fails with a {@link WorkflowAdmissionException} when rejected.
      *
      * <pre>{@code
      * Uni<WorkflowModel> result = myFlow.startInstance(Map.of("orderId", "12345"))
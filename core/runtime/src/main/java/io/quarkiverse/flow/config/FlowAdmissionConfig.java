@@ -0,0 +1,64 @@
+package io.quarkiverse.flow.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+/**
+ * Admission control of workflow instance starts.
+ * <p>
+ * The limits configured directly under {@code quarkus.flow.admission} apply to every workflow definition separately.
+ * They can be overridden per workflow with {@code quarkus.flow.admission.workflow."<key>".*}, where the key is
+ * {@code namespace:name:version}, {@code namespace:name} or {@code name}, the most specific one winning.
+ */
+@ConfigMapping(prefix = "quarkus.flow.admission")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface FlowAdmissionConfig extends FlowAdmissionConfig.Limits {
+
+    /**
+     * Per-workflow overrides, keyed by {@code namespace:name:version}, {@code namespace:name} or {@code name}.
+     */
+    Map<String, Limits> workflow();
+
+    interface Limits {
+
+        /**
+         * Maximum number of instances of the workflow running at the same time.
+         * <p>
+         * When not set (the default), instance starts are not limited.
+         */
+        OptionalInt maxRunning();
+
+        /**
+         * Maximum number of instance starts waiting for {@code max-running} with the {@code wait} policy.
+         * <p>
+         * Defaults to {@code 1000}.
+         */
+        OptionalInt maxQueued();
+
+        /**
+         * How long an instance start waits for {@code max-running} with the {@code wait} policy before being rejected.
+         * <p>
+         * When not set (the default), starts wait until a running instance completes.
+         */
+        Optional<Duration> queueTimeout();
+
+        /**
+         * What happens to an instance start while {@code max-running} instances are running.
+         * <p>
+         * {@code wait} (the default) queues the start until a running instance completes, {@code reject} fails it
+         * right away.
+         */
+        Optional<Policy> policy();
+    }
+
+    enum Policy {
+        REJECT,
+        WAIT
+    }
+}
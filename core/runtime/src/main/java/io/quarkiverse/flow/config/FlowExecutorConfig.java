@@ -0,0 +1,49 @@
+package io.quarkiverse.flow.config;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Executor configuration for Quarkus Flow.
+ * <p>
+ * Controls which threads run workflow tasks and how many call tasks of the same workflow definition may run at once.
+ */
+@ConfigMapping(prefix = "quarkus.flow.executor")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface FlowExecutorConfig {
+
+    /**
+     * Executor running the asynchronous work of workflow tasks.
+     * <p>
+     * {@code managed} uses the application {@code ManagedExecutor}, shared with the rest of the application.
+     * {@code virtual-threads} starts a virtual thread per task, propagating the Quarkus context to it. It requires a
+     * JVM supporting virtual threads, the managed executor is used otherwise.
+     */
+    @WithDefault("managed")
+    Type type();
+
+    /**
+     * Maximum number of call tasks of a single workflow definition running at the same time.
+     * <p>
+     * Call tasks started while the limit is reached wait for a running one to complete. When not set (the default),
+     * call tasks are not limited.
+     */
+    OptionalInt maxConcurrency();
+
+    /**
+     * Maximum number of call tasks of a single workflow definition waiting for {@code max-concurrency}.
+     * <p>
+     * Call tasks started while the queue is full fail with a {@code RejectedExecutionException}.
+     */
+    @WithDefault("1000")
+    int maxQueued();
+
+    enum Type {
+        MANAGED,
+        VIRTUAL_THREADS
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkiverse.flow.config;
+
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Java function task configuration for Quarkus Flow.
+ */
+@ConfigMapping(prefix = FlowFunctionConfig.ROOT_KEY)
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface FlowFunctionConfig {
+
+    String ROOT_KEY = "quarkus.flow.function";
+    String EXECUTION_MODE_KEY = ROOT_KEY + ".execution-mode";
+
+    /**
+     * Where Java function tasks run when the task does not set its own execution mode.
+     * <p>
+     * {@code default} runs functions with a known output class on the workflow executor and the others on the calling
+     * thread. {@code inline} runs every function on the calling thread, {@code managed} on the workflow executor and
+     * {@code virtual-thread} on a new virtual thread.
+     */
+    @WithDefault("default")
+    ExecutionMode executionMode();
+}
@@ -153,4 +153,62 @@ public interface FlowStructuredLoggingConfig {
      */
     Optional<String> timestampPattern();
 
+    /**
+     * Asynchronous sink configuration.
+     */
+    Async async();
+
+    interface Async {
+
+        /**
+         * Writes structured events from a dedicated thread instead of the workflow execution thread.
+         * <p>
+         * Events are still formatted when they happen, so the logged payloads reflect the state at that moment, but the
+         * actual write to the log handlers happens in batches from a bounded in-memory queue. This keeps slow log handlers
+         * from stalling task progress.
+         * <p>
+         * Events still queued when the application stops are flushed before shutdown completes.
+         * <p>
+         * Default: {@code false}
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Maximum number of formatted events waiting to be written.
+         * <p>
+         * Default: {@code 8192}
+         */
+        @WithDefault("8192")
+        int queueSize();
+
+        /**
+         * Maximum number of events written per drain cycle of the sink thread, as a single log record holding one
+         * event per line.
+         * <p>
+         * Default: {@code 256}
+         */
+        @WithDefault("256")
+        int batchSize();
+
+        /**
+         * What to do when the queue is full.
+         * <ul>
+         * <li>{@code drop-oldest} - Discards the oldest queued event to make room for the new one (default)</li>
+         * <li>{@code drop-payloads} - Once the queue is three quarters full, events are formatted without input/output
+         * payloads; if it still fills up, behaves like {@code drop-oldest}</li>
+         * <li>{@code block} - The workflow execution thread waits until there is room in the queue</li>
+         * </ul>
+         * <p>
+         * Default: {@code drop-oldest}
+         */
+        @WithDefault("drop-oldest")
+        OverflowPolicy overflowPolicy();
+
+        enum OverflowPolicy {
+            DROP_OLDEST,
+            DROP_PAYLOADS,
+            BLOCK
+        }
+    }
 }
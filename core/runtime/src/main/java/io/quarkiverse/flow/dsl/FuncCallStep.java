@@ -4,6 +4,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.quarkiverse.flow.dsl.types.ContextFunction;
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.quarkiverse.flow.dsl.types.FilterFunction;
 
 public final class FuncCallStep<T, R> extends Step<FuncCallStep<T, R>, FuncCallTaskBuilder> {
@@ -14,6 +15,7 @@ public final class FuncCallStep<T, R> extends Step<FuncCallStep<T, R>, FuncCallT
     private final FilterFunction<T, R> filterFn;
     private final Class<T> argClass;
     private final Class<R> returnClass;
+    private ExecutionMode executionMode;
 
     /** Function<T,R> variant (unnamed). */
     FuncCallStep(Function<T, R> fn, Class<T> argClass, Class<R> returnClass) {
@@ -61,6 +63,20 @@ public final class FuncCallStep<T, R> extends Step<FuncCallStep<T, R>, FuncCallT
         this.returnClass = returnClass;
     }
 
+    /**
+     * Sets where the function runs, overriding the {@code quarkus.flow.function.execution-mode} default.
+     * <p>
+     * Use {@link ExecutionMode#INLINE} for short, non-blocking functions to avoid a thread hop per task, and
+     * {@link ExecutionMode#VIRTUAL_THREAD} for blocking ones.
+     *
+     * @param executionMode the execution mode of this task
+     * @return this step for further chaining
+     */
+    public FuncCallStep<T, R> executionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+        return this;
+    }
+
     @Override
     protected void configure(FuncTaskItemListBuilder list, Consumer<FuncCallTaskBuilder> post) {
         final Consumer<FuncCallTaskBuilder> apply = cb -> {
@@ -71,6 +87,9 @@ public final class FuncCallStep<T, R> extends Step<FuncCallStep<T, R>, FuncCallT
             } else {
                 cb.function(fn, argClass, returnClass);
             }
+            if (executionMode != null) {
+                cb.executionMode(executionMode);
+            }
             post.accept(cb);
         };
 
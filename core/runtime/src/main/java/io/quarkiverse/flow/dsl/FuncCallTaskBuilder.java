@@ -7,6 +7,7 @@ import io.quarkiverse.flow.dsl.spi.ConditionalTaskBuilder;
 import io.quarkiverse.flow.dsl.spi.FuncTaskTransformations;
 import io.quarkiverse.flow.dsl.types.CallJava;
 import io.quarkiverse.flow.dsl.types.ContextFunction;
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.quarkiverse.flow.dsl.types.FilterFunction;
 import io.quarkiverse.flow.dsl.types.SerializableFunction;
 import io.serverlessworkflow.api.types.CallTask;
@@ -85,6 +86,17 @@ public class FuncCallTaskBuilder extends TaskBaseBuilder<FuncCallTaskBuilder>
         return this;
     }
 
+    /**
+     * Sets where the function runs, overriding the {@code quarkus.flow.function.execution-mode} default.
+     */
+    public FuncCallTaskBuilder executionMode(ExecutionMode mode) {
+        if (this.callTaskJava == null) {
+            throw new IllegalStateException("Call function(...) or consumer(...) before executionMode(...).");
+        }
+        this.callTaskJava.getCallFunction().getWith().withAdditionalProperty(CallJava.EXECUTION_MODE_KEY, mode);
+        return this;
+    }
+
     public CallTask build() {
         if (this.callTaskJava == null) {
             throw new IllegalStateException(
@@ -2,75 +2,178 @@ package io.quarkiverse.flow.dsl.executors;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
 import io.serverlessworkflow.impl.WorkflowModel;
 import io.serverlessworkflow.impl.WorkflowModelFactory;
 import io.serverlessworkflow.impl.executors.CallableTask;
 
-@SuppressWarnings("unchecked")
+/**
+ * Base executor of the Java functions called by a workflow.
+ * <p>
+ * Everything that only depends on the declared input and output classes (input conversion, output converter and the
+ * way the result is dispatched) is resolved once, when the executor is built for the workflow definition, so that
+ * calling the function only does the work depending on the actual input and result.
+ * <p>
+ * The {@link ExecutionMode} decides whether the function runs on the calling thread, on the workflow executor or on
+ * a virtual thread. Functions returning a {@link CompletableFuture} are always called on the calling thread.
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public abstract class AbstractJavaCallExecutor<T, V> implements CallableTask {
 
     protected final Optional<Class<T>> inputClass;
-    private final Optional<Class<V>> outputClass;
-    private final Optional<DataTypeConverter> typeConverter;
-    private final boolean directCompletable;
-    private final boolean convertedCompletable;
+    private final Class<T> inputType;
+    private final DataTypeConverter typeConverter;
+    private final Dispatch dispatch;
+    private final ExecutionMode executionMode;
+    private volatile ResponseConverter lastResponseConverter;
+    private volatile WorkflowModelFactory modelFactory;
 
     protected AbstractJavaCallExecutor(
             Optional<Class<T>> inputClass, Optional<Class<V>> outputClass) {
+        this(inputClass, outputClass, ExecutionMode.DEFAULT);
+    }
+
+    protected AbstractJavaCallExecutor(
+            Optional<Class<T>> inputClass, Optional<Class<V>> outputClass, ExecutionMode executionMode) {
         this.inputClass = inputClass;
-        this.outputClass = outputClass;
-        this.typeConverter = outputClass.flatMap(DataTypeConverterRegistry.get()::find);
-        this.directCompletable = outputClass.filter(c -> c.equals(CompletableFuture.class)).isPresent();
-        this.convertedCompletable = typeConverter.filter(c -> c.targetType().equals(CompletableFuture.class)).isPresent();
+        this.executionMode = executionMode == null ? ExecutionMode.DEFAULT : executionMode;
+        this.inputType = inputClass.orElse(null);
+        this.typeConverter = outputClass.flatMap(DataTypeConverterRegistry.get()::find).orElse(null);
+        this.dispatch = dispatch(outputClass.orElse(null), typeConverter);
+    }
+
+    private static Dispatch dispatch(Class<?> outputClass, DataTypeConverter typeConverter) {
+        if (outputClass == null) {
+            return Dispatch.UNTYPED;
+        } else if (outputClass.equals(CompletableFuture.class)) {
+            return Dispatch.DIRECT_COMPLETABLE;
+        } else if (typeConverter != null && typeConverter.targetType().equals(CompletableFuture.class)) {
+            return Dispatch.CONVERTED_COMPLETABLE;
+        } else {
+            return Dispatch.TYPED;
+        }
     }
 
     @Override
     public CompletableFuture<WorkflowModel> apply(
             WorkflowContext workflowContext, TaskContext taskContext, WorkflowModel input) {
-        WorkflowModelFactory modelFactory = workflowContext.definition().application().modelFactory();
-
-        if (directCompletable) {
-            return ((CompletableFuture<?>) callJavaFunction(workflowContext, taskContext, model2Input(input)))
-                    .thenApply(v -> output2Model(modelFactory, input, convertResponse(v)));
-        } else if (convertedCompletable) {
-            return ((CompletableFuture<?>) convertTypedResponse(
-                    callJavaFunction(workflowContext, taskContext, model2Input(input))))
-                    .thenApply(v -> output2Model(modelFactory, input, convertResponse(v)));
-        } else if (outputClass.isPresent()) {
-            return CompletableFuture.supplyAsync(
-                    () -> callJavaFunction(workflowContext, taskContext, model2Input(input)),
-                    workflowContext.definition().application().executorService())
-                    .thenApply(v -> output2Model(modelFactory, input, convertTypedResponse(v)));
-        } else {
-            Object result = convertResponse(callJavaFunction(workflowContext, taskContext, model2Input(input)));
-            return result instanceof CompletableFuture future
-                    ? future.thenApply(v -> output2Model(modelFactory, input, convertResponse(v)))
-                    : CompletableFuture.completedFuture(output2Model(modelFactory, input, result));
+        WorkflowModelFactory modelFactory = modelFactory(workflowContext);
+
+        switch (dispatch) {
+            case DIRECT_COMPLETABLE:
+                return ((CompletableFuture<?>) callJavaFunction(workflowContext, taskContext, model2Input(input)))
+                        .thenApply(v -> output2Model(modelFactory, input, convertResponse(v)));
+            case CONVERTED_COMPLETABLE:
+                return ((CompletableFuture<?>) convertTypedResponse(
+                        callJavaFunction(workflowContext, taskContext, model2Input(input))))
+                        .thenApply(v -> output2Model(modelFactory, input, convertResponse(v)));
+            case TYPED:
+                if (executionMode == ExecutionMode.INLINE) {
+                    return CompletableFuture.completedFuture(output2Model(modelFactory, input,
+                            convertTypedResponse(callJavaFunction(workflowContext, taskContext, model2Input(input)))));
+                }
+                return CompletableFuture.supplyAsync(
+                        () -> callJavaFunction(workflowContext, taskContext, model2Input(input)),
+                        executor(workflowContext))
+                        .thenApply(v -> output2Model(modelFactory, input, convertTypedResponse(v)));
+            default:
+                if (executionMode == ExecutionMode.MANAGED || executionMode == ExecutionMode.VIRTUAL_THREAD) {
+                    return CompletableFuture.supplyAsync(
+                            () -> convertResponse(callJavaFunction(workflowContext, taskContext, model2Input(input))),
+                            executor(workflowContext))
+                            .thenCompose(result -> untypedResult(modelFactory, input, result));
+                }
+                return untypedResult(modelFactory, input,
+                        convertResponse(callJavaFunction(workflowContext, taskContext, model2Input(input))));
         }
     }
 
+    private CompletableFuture<WorkflowModel> untypedResult(WorkflowModelFactory modelFactory, WorkflowModel input,
+            Object result) {
+        return result instanceof CompletableFuture future
+                ? future.thenApply(v -> output2Model(modelFactory, input, convertResponse(v)))
+                : CompletableFuture.completedFuture(output2Model(modelFactory, input, result));
+    }
+
+    private Executor executor(WorkflowContext workflowContext) {
+        if (executionMode == ExecutionMode.VIRTUAL_THREAD) {
+            Optional<? extends ExecutorService> virtualThreads = VirtualThreads.executor();
+            if (virtualThreads.isPresent()) {
+                return virtualThreads.get();
+            }
+        }
+        return workflowContext.definition().application().executorService();
+    }
+
     protected abstract V callJavaFunction(
             WorkflowContext workflowContext, TaskContext taskContext, T input);
 
     protected T model2Input(WorkflowModel model) {
-        return JavaFuncUtils.convertT(model, inputClass);
+        return JavaFuncUtils.convertT(model, inputType);
     }
 
     protected Object convertTypedResponse(V obj) {
-        return obj == null ? null : typeConverter.map(c -> c.apply(obj)).orElse(obj);
+        return obj == null || typeConverter == null ? obj : typeConverter.apply(obj);
     }
 
     protected Object convertResponse(Object obj) {
-        return obj == null || obj instanceof CompletableFuture
-                ? obj
-                : DataTypeConverterRegistry.get().find(obj.getClass()).map(c -> c.apply(obj)).orElse(obj);
+        if (obj == null || obj instanceof CompletableFuture) {
+            return obj;
+        }
+        DataTypeConverter converter = responseConverter(obj.getClass());
+        return converter == null ? obj : converter.apply(obj);
     }
 
     protected WorkflowModel output2Model(
             WorkflowModelFactory modelFactory, WorkflowModel input, Object result) {
         return modelFactory.fromAny(input, result);
     }
+
+    private WorkflowModelFactory modelFactory(WorkflowContext workflowContext) {
+        // an executor is built for a single workflow definition, hence for a single application
+        WorkflowModelFactory factory = modelFactory;
+        if (factory == null) {
+            factory = workflowContext.definition().application().modelFactory();
+            modelFactory = factory;
+        }
+        return factory;
+    }
+
+    private DataTypeConverter responseConverter(Class<?> type) {
+        // a function usually returns instances of the same class, remember the converter of the last one
+        ResponseConverter last = lastResponseConverter;
+        if (last == null || last.type() != type) {
+            last = new ResponseConverter(type, DataTypeConverterRegistry.get().find(type).orElse(null));
+            lastResponseConverter = last;
+        }
+        return last.converter();
+    }
+
+    private enum Dispatch {
+        /**
+         * The function returns a {@link CompletableFuture}.
+         */
+        DIRECT_COMPLETABLE,
+        /**
+         * The function returns a type converted to a {@link CompletableFuture}.
+         */
+        CONVERTED_COMPLETABLE,
+        /**
+         * The function returns a known type, it is called on the workflow executor unless inlined.
+         */
+        TYPED,
+        /**
+         * The output type is unknown, the function is called on the calling thread unless offloaded, and its result
+         * converted by its class.
+         */
+        UNTYPED
+    }
+
+    private record ResponseConverter(Class<?> type, DataTypeConverter converter) {
+    }
 }
@@ -8,8 +8,10 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.quarkiverse.flow.config.FlowFunctionConfig;
 import io.quarkiverse.flow.dsl.types.CallJava;
 import io.quarkiverse.flow.dsl.types.ContextFunction;
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.quarkiverse.flow.dsl.types.FilterFunction;
 import io.quarkiverse.flow.dsl.types.LoopFunction;
 import io.quarkiverse.flow.dsl.types.LoopFunctionIndex;
@@ -17,6 +19,7 @@ import io.serverlessworkflow.api.types.CallFunction;
 import io.serverlessworkflow.impl.WorkflowDefinition;
 import io.serverlessworkflow.impl.WorkflowMutablePosition;
 import io.serverlessworkflow.impl.executors.CallFunctionExecutorBuilder;
+import io.serverlessworkflow.impl.executors.CallableTask;
 import io.serverlessworkflow.impl.executors.CallableTaskFactory;
 
 @SuppressWarnings("unchecked")
@@ -47,31 +50,49 @@ public class JavaCallFunctionBuilder extends CallFunctionExecutorBuilder {
             }
             Optional<Class<?>> input = (Optional<Class<?>>) props.getOrDefault(CallJava.INPUT_CLASS_KEY, Optional.empty());
             Optional<Class<?>> output = (Optional<Class<?>>) props.getOrDefault(CallJava.OUTPUT_CLASS_KEY, Optional.empty());
-            if (obj instanceof ContextFunction fn) {
-                return () -> new JavaContextFunctionCallExecutor(input, output, fn);
-            } else if (obj instanceof FilterFunction fn) {
-                return () -> new JavaFilterFunctionCallExecutor(input, output, fn);
-            } else if (obj instanceof LoopFunction loop) {
-                return () -> new JavaLoopFunctionCallExecutor(
-                        loop, (String) props.get(CallJava.VAR_NAME_KEY), input, output);
-            } else if (obj instanceof LoopFunctionIndex loop) {
-                return () -> new JavaLoopFunctionIndexCallExecutor(
-                        loop,
-                        (String) props.get(CallJava.VAR_NAME_KEY),
-                        (String) props.get(CallJava.INDEX_NAME_KEY),
-                        input,
-                        output);
-
-            } else if (obj instanceof Function fn) {
-                return () -> new JavaFunctionCallExecutor(input, output, fn);
-            } else if (obj instanceof Consumer consumer) {
-                return () -> new JavaConsumerCallExecutor(input, consumer);
-            } else {
-                throw new UnsupportedOperationException("Unrecognized function " + obj);
-            }
+            // Executors are stateless, build each one once per definition so that its call plan is resolved once
+            CallableTask executor = executor(obj, props, input, output, executionMode(props, definition));
+            return () -> executor;
         } else {
             logger.info("Calling regular function handler for task call {}", task.getCall());
             return super.init(task, definition, position);
         }
     }
+
+    private static ExecutionMode executionMode(Map<String, Object> props, WorkflowDefinition definition) {
+        if (props.get(CallJava.EXECUTION_MODE_KEY) instanceof ExecutionMode mode && mode != ExecutionMode.DEFAULT) {
+            return mode;
+        }
+        return definition.application().configManager()
+                .config(FlowFunctionConfig.EXECUTION_MODE_KEY, String.class)
+                .map(ExecutionMode::from)
+                .orElse(ExecutionMode.DEFAULT);
+    }
+
+    private static CallableTask executor(Object obj, Map<String, Object> props, Optional<Class<?>> input,
+            Optional<Class<?>> output, ExecutionMode mode) {
+        if (obj instanceof ContextFunction fn) {
+            return new JavaContextFunctionCallExecutor(input, output, fn, mode);
+        } else if (obj instanceof FilterFunction fn) {
+            return new JavaFilterFunctionCallExecutor(input, output, fn, mode);
+        } else if (obj instanceof LoopFunction loop) {
+            return new JavaLoopFunctionCallExecutor(
+                    loop, (String) props.get(CallJava.VAR_NAME_KEY), input, output, mode);
+        } else if (obj instanceof LoopFunctionIndex loop) {
+            return new JavaLoopFunctionIndexCallExecutor(
+                    loop,
+                    (String) props.get(CallJava.VAR_NAME_KEY),
+                    (String) props.get(CallJava.INDEX_NAME_KEY),
+                    input,
+                    output,
+                    mode);
+
+        } else if (obj instanceof Function fn) {
+            return new JavaFunctionCallExecutor(input, output, fn, mode);
+        } else if (obj instanceof Consumer consumer) {
+            return new JavaConsumerCallExecutor(input, consumer);
+        } else {
+            throw new UnsupportedOperationException("Unrecognized function " + obj);
+        }
+    }
 }
@@ -11,11 +11,11 @@ import io.serverlessworkflow.impl.executors.CallableTask;
 
 public class JavaConsumerCallExecutor<T> implements CallableTask {
 
-    private final Optional<Class<T>> inputClass;
+    private final Class<T> inputClass;
     private final Consumer<T> consumer;
 
     public JavaConsumerCallExecutor(Optional<Class<T>> inputClass, Consumer<T> consumer) {
-        this.inputClass = inputClass;
+        this.inputClass = inputClass.orElse(null);
         this.consumer = consumer;
     }
 
@@ -3,6 +3,7 @@ package io.quarkiverse.flow.dsl.executors;
 import java.util.Optional;
 
 import io.quarkiverse.flow.dsl.types.ContextFunction;
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
 
@@ -14,7 +15,15 @@ public class JavaContextFunctionCallExecutor<T, V> extends AbstractJavaCallExecu
             Optional<Class<T>> inputClass,
             Optional<Class<V>> outputClass,
             ContextFunction<T, V> function) {
-        super(inputClass, outputClass);
+        this(inputClass, outputClass, function, ExecutionMode.DEFAULT);
+    }
+
+    public JavaContextFunctionCallExecutor(
+            Optional<Class<T>> inputClass,
+            Optional<Class<V>> outputClass,
+            ContextFunction<T, V> function,
+            ExecutionMode executionMode) {
+        super(inputClass, outputClass, executionMode);
         this.function = function;
     }
 
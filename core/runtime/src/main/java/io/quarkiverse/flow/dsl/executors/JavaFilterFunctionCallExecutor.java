@@ -2,6 +2,7 @@ package io.quarkiverse.flow.dsl.executors;
 
 import java.util.Optional;
 
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.quarkiverse.flow.dsl.types.FilterFunction;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
@@ -14,7 +15,15 @@ public class JavaFilterFunctionCallExecutor<T, V> extends AbstractJavaCallExecut
             Optional<Class<T>> inputClass,
             Optional<Class<V>> outputClass,
             FilterFunction<T, V> function) {
-        super(inputClass, outputClass);
+        this(inputClass, outputClass, function, ExecutionMode.DEFAULT);
+    }
+
+    public JavaFilterFunctionCallExecutor(
+            Optional<Class<T>> inputClass,
+            Optional<Class<V>> outputClass,
+            FilterFunction<T, V> function,
+            ExecutionMode executionMode) {
+        super(inputClass, outputClass, executionMode);
         this.function = function;
     }
 
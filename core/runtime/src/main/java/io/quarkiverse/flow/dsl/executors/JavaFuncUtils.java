@@ -17,18 +17,23 @@ public class JavaFuncUtils {
         return application.expressionFactory().buildPredicate(ExpressionDescriptor.object(predicate));
     }
 
-    @SuppressWarnings("unchecked")
     static <T> T convertT(WorkflowModel model, Optional<Class<T>> inputClass) {
-        return model.isNull()
-                ? null
-                : inputClass
-                        .map(
-                                c -> model
-                                        .as(c)
-                                        .orElseThrow(
-                                                () -> new IllegalArgumentException(
-                                                        "Model " + model + " cannot be converted to type " + c)))
-                        .orElseGet(() -> (T) model.asJavaObject());
+        return convertT(model, inputClass.orElse(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T convertT(WorkflowModel model, Class<T> inputClass) {
+        if (model.isNull()) {
+            return null;
+        }
+        if (inputClass == null) {
+            return (T) model.asJavaObject();
+        }
+        Optional<T> converted = model.as(inputClass);
+        if (converted.isEmpty()) {
+            throw new IllegalArgumentException("Model " + model + " cannot be converted to type " + inputClass);
+        }
+        return converted.get();
     }
 
     static Object convert(WorkflowModel model, Optional<Class<?>> inputClass) {
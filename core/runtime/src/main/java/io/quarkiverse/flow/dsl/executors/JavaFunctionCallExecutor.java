@@ -3,6 +3,7 @@ package io.quarkiverse.flow.dsl.executors;
 import java.util.Optional;
 import java.util.function.Function;
 
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
 
@@ -12,7 +13,13 @@ public class JavaFunctionCallExecutor<T, V> extends AbstractJavaCallExecutor<T,
 
     public JavaFunctionCallExecutor(
             Optional<Class<T>> inputClass, Optional<Class<V>> outputClass, Function<T, V> function) {
-        super(inputClass, outputClass);
+        this(inputClass, outputClass, function, ExecutionMode.DEFAULT);
+    }
+
+    public JavaFunctionCallExecutor(
+            Optional<Class<T>> inputClass, Optional<Class<V>> outputClass, Function<T, V> function,
+            ExecutionMode executionMode) {
+        super(inputClass, outputClass, executionMode);
         this.function = function;
     }
 
@@ -4,6 +4,7 @@ import static io.quarkiverse.flow.dsl.executors.JavaFuncUtils.safeObject;
 
 import java.util.Optional;
 
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.quarkiverse.flow.dsl.types.LoopFunction;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
@@ -18,7 +19,16 @@ public class JavaLoopFunctionCallExecutor<T, V, R> extends AbstractJavaCallExecu
             String varName,
             Optional<Class<T>> inputClass,
             Optional<Class<R>> outputClass) {
-        super(inputClass, outputClass);
+        this(function, varName, inputClass, outputClass, ExecutionMode.DEFAULT);
+    }
+
+    public JavaLoopFunctionCallExecutor(
+            LoopFunction<T, V, R> function,
+            String varName,
+            Optional<Class<T>> inputClass,
+            Optional<Class<R>> outputClass,
+            ExecutionMode executionMode) {
+        super(inputClass, outputClass, executionMode);
         this.function = function;
         this.varName = varName;
     }
@@ -4,6 +4,7 @@ import static io.quarkiverse.flow.dsl.executors.JavaFuncUtils.safeObject;
 
 import java.util.Optional;
 
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
 import io.quarkiverse.flow.dsl.types.LoopFunctionIndex;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
@@ -20,7 +21,17 @@ public class JavaLoopFunctionIndexCallExecutor<T, V, R> extends AbstractJavaCall
             String indexName,
             Optional<Class<T>> inputClass,
             Optional<Class<R>> outputClass) {
-        super(inputClass, outputClass);
+        this(function, varName, indexName, inputClass, outputClass, ExecutionMode.DEFAULT);
+    }
+
+    public JavaLoopFunctionIndexCallExecutor(
+            LoopFunctionIndex<T, V, R> function,
+            String varName,
+            String indexName,
+            Optional<Class<T>> inputClass,
+            Optional<Class<R>> outputClass,
+            ExecutionMode executionMode) {
+        super(inputClass, outputClass, executionMode);
         this.function = function;
         this.varName = varName;
         this.indexName = indexName;
@@ -0,0 +1,39 @@
+package io.quarkiverse.flow.dsl.executors;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import io.quarkiverse.flow.providers.QuarkusManagedExecutorServiceFactory;
+import io.quarkiverse.flow.providers.VirtualThreadExecutorService;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+
+/**
+ * Virtual thread executor of the functions configured to run on virtual threads.
+ * <p>
+ * Within a Quarkus application, this is the executor of {@link QuarkusManagedExecutorServiceFactory}, propagating the
+ * Quarkus context. Otherwise, a shared executor without context propagation is used.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    static Optional<? extends ExecutorService> executor() {
+        ArcContainer container = Arc.container();
+        if (container != null && container.isRunning()) {
+            InstanceHandle<QuarkusManagedExecutorServiceFactory> factory = container
+                    .instance(QuarkusManagedExecutorServiceFactory.class);
+            if (factory.isAvailable()) {
+                return factory.get().virtualThreadExecutor();
+            }
+        }
+        return Standalone.EXECUTOR;
+    }
+
+    private static final class Standalone {
+
+        private static final Optional<VirtualThreadExecutorService> EXECUTOR = VirtualThreadExecutorService.create(null);
+    }
+}
@@ -1,28 +1,57 @@
 package io.quarkiverse.flow.dsl.model;
 
 import java.time.OffsetDateTime;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 import io.serverlessworkflow.impl.AbstractWorkflowModel;
 import io.serverlessworkflow.impl.WorkflowModel;
 
+/**
+ * {@link WorkflowModel} wrapping plain Java objects.
+ * <p>
+ * The wrapped object is not copied. Maps and collections are only copied down to the {@link WorkflowModel}s nested
+ * in them, if any, to unwrap those models. A model therefore reads through the maps and collections of the
+ * application, but never writes to them: the maps and lists it hands out copy the wrapped one into the model on their
+ * first change, and other collections are handed out read-only. Code keeping the content of a model past the current
+ * task, like the context delta encoder of the persistence providers, must still copy it first, since the application
+ * may change its own objects later.
+ */
 @SuppressWarnings("unchecked")
 public class JavaModel extends AbstractWorkflowModel {
 
     protected Object object;
+    // whether object may be the map or collection given by the caller, which is copied before being modified
+    private boolean shared;
 
     public JavaModel(Object object) {
         this.object = asJavaObject(object);
+        this.shared = true;
     }
 
     protected void setObject(Object object) {
         this.object = object;
+        this.shared = true;
+    }
+
+    private Object writable() {
+        if (shared) {
+            object = object instanceof Map map ? new LinkedHashMap<>(map) : new ArrayList<>((Collection<Object>) object);
+            shared = false;
+        }
+        return object;
     }
 
     @Override
@@ -59,28 +88,182 @@ public class JavaModel extends AbstractWorkflowModel {
 
     @Override
     public Optional<Map<String, Object>> asMap() {
-        return object instanceof Map ? Optional.of((Map<String, Object>) object) : Optional.empty();
+        return object instanceof Map ? Optional.of(new ModelMap()) : Optional.empty();
     }
 
     @Override
     public Object asJavaObject() {
-        return object;
+        if (!shared) {
+            return object;
+        } else if (object instanceof Map) {
+            return new ModelMap();
+        } else if (object instanceof List) {
+            return new ModelList();
+        } else if (object instanceof Collection col) {
+            return Collections.unmodifiableCollection(col);
+        } else {
+            return object;
+        }
     }
 
+    /**
+     * Map handed out while the model shares its map with the application. It reads through that map and copies it into
+     * the model on its first change.
+     */
+    private class ModelMap extends AbstractMap<String, Object> {
+
+        private Map<String, Object> map() {
+            return (Map<String, Object>) object;
+        }
+
+        private Map<String, Object> writableMap() {
+            return (Map<String, Object>) writable();
+        }
+
+        @Override
+        public int size() {
+            return map().size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map().containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return map().get(key);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(map()).entrySet();
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return writableMap().put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return writableMap().remove(key);
+        }
+
+        @Override
+        public void putAll(Map<? extends String, ? extends Object> m) {
+            writableMap().putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            writableMap().clear();
+        }
+
+        @Override
+        public void replaceAll(BiFunction<? super String, ? super Object, ? extends Object> function) {
+            writableMap().replaceAll(function);
+        }
+    }
+
+    /**
+     * List handed out while the model shares its list with the application, copying it like {@link ModelMap}.
+     */
+    private class ModelList extends AbstractList<Object> {
+
+        private List<Object> list() {
+            return (List<Object>) object;
+        }
+
+        private List<Object> writableList() {
+            return (List<Object>) writable();
+        }
+
+        @Override
+        public int size() {
+            return list().size();
+        }
+
+        @Override
+        public Object get(int index) {
+            return list().get(index);
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            return writableList().set(index, element);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            writableList().add(index, element);
+        }
+
+        @Override
+        public Object remove(int index) {
+            return writableList().remove(index);
+        }
+
+        @Override
+        public void clear() {
+            writableList().clear();
+        }
+    }
+
+    /**
+     * Unwraps the {@link WorkflowModel}s nested in the given object.
+     * <p>
+     * Maps and collections are only copied when they hold a nested model, down to that model, so plain Java objects
+     * are wrapped as is, however large they are. The result may therefore be the given object itself and must not be
+     * modified.
+     */
     static Object asJavaObject(Object object) {
         if (object instanceof WorkflowModel model) {
             return model.asJavaObject();
         } else if (object instanceof Map map) {
-            return ((Map<String, Object>) map)
-                    .entrySet().stream()
-                    .collect(Collectors.toMap(Entry::getKey, e -> asJavaObject(e.getValue())));
+            return unwrapMap(map);
         } else if (object instanceof Collection col) {
-            return col.stream().map(JavaModel::asJavaObject).collect(Collectors.toList());
+            return unwrapCollection(col);
         } else {
             return object;
         }
     }
 
+    private static Object unwrapMap(Map<String, Object> map) {
+        Map<String, Object> copy = null;
+        for (Entry<String, Object> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object unwrapped = asJavaObject(value);
+            if (copy == null && unwrapped != value) {
+                copy = new LinkedHashMap<>(map);
+            }
+            if (copy != null) {
+                copy.put(entry.getKey(), unwrapped);
+            }
+        }
+        return copy != null ? copy : map;
+    }
+
+    private static Object unwrapCollection(Collection<Object> col) {
+        List<Object> copy = null;
+        int index = 0;
+        for (Object item : col) {
+            Object unwrapped = asJavaObject(item);
+            if (copy == null && unwrapped != item) {
+                copy = new ArrayList<>(col.size());
+                Iterator<Object> previous = col.iterator();
+                for (int i = 0; i < index; i++) {
+                    copy.add(previous.next());
+                }
+            }
+            if (copy != null) {
+                copy.add(unwrapped);
+            }
+            index++;
+        }
+        return copy != null ? copy : col;
+    }
+
     @Override
     public Class<?> objectClass() {
         return object != null ? object.getClass() : Object.class;
@@ -88,9 +271,12 @@ public class JavaModel extends AbstractWorkflowModel {
 
     @Override
     protected <T> Optional<T> convert(Class<T> clazz) {
-        return object != null && clazz.isAssignableFrom(object.getClass())
-                ? Optional.of(clazz.cast(object))
-                : Optional.empty();
+        if (object == null || !clazz.isAssignableFrom(object.getClass())) {
+            return Optional.empty();
+        }
+        // hand out the copy-on-write view when it satisfies the requested type, like a Map or a List
+        Object value = asJavaObject();
+        return Optional.of(clazz.cast(clazz.isInstance(value) ? value : object));
     }
 
     @Override
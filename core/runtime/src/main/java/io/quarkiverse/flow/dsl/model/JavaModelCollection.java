@@ -14,7 +14,9 @@ import io.serverlessworkflow.impl.WorkflowModelCollection;
 @SuppressWarnings("unchecked")
 public class JavaModelCollection implements Collection<WorkflowModel>, WorkflowModelCollection {
 
-    protected final Collection object;
+    protected Collection object;
+    // whether object may be the collection given by the caller, which is copied before being modified
+    private boolean shared;
 
     protected JavaModelCollection() {
         this.object = new ArrayList<>();
@@ -22,6 +24,15 @@ public class JavaModelCollection implements Collection<WorkflowModel>, WorkflowM
 
     protected JavaModelCollection(Collection<?> object) {
         this.object = (Collection) JavaModel.asJavaObject(object);
+        this.shared = true;
+    }
+
+    private Collection writable() {
+        if (shared) {
+            object = new ArrayList<>(object);
+            shared = false;
+        }
+        return object;
     }
 
     @Override
@@ -88,12 +99,12 @@ public class JavaModelCollection implements Collection<WorkflowModel>, WorkflowM
 
     @Override
     public boolean add(WorkflowModel e) {
-        return object.add(e.asJavaObject());
+        return writable().add(e.asJavaObject());
     }
 
     @Override
     public boolean remove(Object o) {
-        return object.remove(((WorkflowModel) o).asJavaObject());
+        return writable().remove(((WorkflowModel) o).asJavaObject());
     }
 
     @Override
@@ -122,7 +133,7 @@ public class JavaModelCollection implements Collection<WorkflowModel>, WorkflowM
 
     @Override
     public void clear() {
-        object.clear();
+        writable().clear();
     }
 
     @Override
@@ -8,7 +8,8 @@ public class JavaModelMarshaller implements CustomObjectMarshaller<JavaModel> {
 
     @Override
     public void write(WorkflowOutputBuffer buffer, JavaModel object) {
-        buffer.writeObject(object.asJavaObject());
+        // the wrapped object itself rather than its copy-on-write view, which is only read here
+        buffer.writeObject(object.object);
     }
 
     @Override
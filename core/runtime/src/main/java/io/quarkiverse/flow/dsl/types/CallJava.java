@@ -20,6 +20,7 @@ public abstract class CallJava {
     public static final String OUTPUT_CLASS_KEY = "outputClass";
     public static final String VAR_NAME_KEY = "varName";
     public static final String INDEX_NAME_KEY = "index";
+    public static final String EXECUTION_MODE_KEY = "executionMode";
 
     private static CallFunction buildFunction(
             Object function, Optional<Class<?>> inputClass, Optional<Class<?>> outputClass) {
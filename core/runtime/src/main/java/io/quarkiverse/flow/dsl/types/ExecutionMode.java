@@ -0,0 +1,35 @@
+package io.quarkiverse.flow.dsl.types;
+
+import java.util.Locale;
+
+/**
+ * Where the Java function of a call task runs.
+ */
+public enum ExecutionMode {
+
+    /**
+     * Functions with a known output class run on the workflow application executor, the others on the calling
+     * thread.
+     */
+    DEFAULT,
+    /**
+     * On the calling thread, without any thread hop. Meant for short, non-blocking functions such as field mappings.
+     */
+    INLINE,
+    /**
+     * On the workflow application executor, which propagates the Quarkus context.
+     */
+    MANAGED,
+    /**
+     * On a new virtual thread, for blocking functions. The Quarkus context is not propagated. Falls back to
+     * {@link #MANAGED} when the JVM does not support virtual threads.
+     */
+    VIRTUAL_THREAD;
+
+    /**
+     * Parses a configuration value such as {@code inline} or {@code virtual-thread}.
+     */
+    public static ExecutionMode from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
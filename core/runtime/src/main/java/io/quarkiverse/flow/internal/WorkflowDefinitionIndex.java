@@ -0,0 +1,135 @@
+package io.quarkiverse.flow.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import com.github.zafarkhaja.semver.Version;
+
+import io.quarkus.arc.Unremovable;
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Index of the registered {@link WorkflowDefinition}s by namespace and name, keeping the versions of every workflow
+ * sorted so the latest one is found without scanning all the definitions.
+ * <p>
+ * Definitions registered through {@link WorkflowRegistrarService} are indexed as they are registered. Definitions
+ * registered directly on the {@link WorkflowApplication} are picked up the next time the index is queried.
+ */
+@ApplicationScoped
+@Unremovable
+public class WorkflowDefinitionIndex {
+
+    private final WorkflowApplication application;
+    private final Map<String, Map<String, Versions>> namespaces = new ConcurrentHashMap<>();
+    private final Set<WorkflowDefinitionId> indexed = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    public WorkflowDefinitionIndex(WorkflowApplication application) {
+        this.application = application;
+    }
+
+    /**
+     * @return the definition with the highest semantic version of the given workflow, if any. A workflow with a single
+     *         version is returned whatever its version is.
+     * @throws IllegalArgumentException if the workflow has several versions and one of them is not a semantic version
+     */
+    public Optional<WorkflowDefinition> latest(String namespace, String name) {
+        return versions(namespace, name).flatMap(Versions::latest);
+    }
+
+    /**
+     * @return every version of every workflow of the given namespace
+     */
+    public List<WorkflowDefinition> namespace(String namespace) {
+        sync();
+        Map<String, Versions> names = namespaces.get(namespace);
+        if (names == null) {
+            return List.of();
+        }
+        List<WorkflowDefinition> definitions = new ArrayList<>();
+        names.values().forEach(versions -> versions.addTo(definitions));
+        return definitions;
+    }
+
+    synchronized void add(WorkflowDefinition definition) {
+        index(definition.id(), definition);
+    }
+
+    private Optional<Versions> versions(String namespace, String name) {
+        sync();
+        Map<String, Versions> names = namespaces.get(namespace);
+        return names == null ? Optional.empty() : Optional.ofNullable(names.get(name));
+    }
+
+    private void sync() {
+        // Definitions are never unregistered, so a size change means some were registered outside the registrar
+        if (application.workflowDefinitions().size() != indexed.size()) {
+            indexMissing();
+        }
+    }
+
+    private synchronized void indexMissing() {
+        application.workflowDefinitions().forEach((id, definition) -> {
+            if (!indexed.contains(id)) {
+                index(id, definition);
+            }
+        });
+    }
+
+    private void index(WorkflowDefinitionId id, WorkflowDefinition definition) {
+        namespaces.computeIfAbsent(id.namespace(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(id.name(), k -> new Versions())
+                .put(id, definition);
+        indexed.add(id);
+    }
+
+    private static final class Versions {
+
+        private final NavigableMap<Version, WorkflowDefinition> byVersion = new TreeMap<>();
+        private final Map<String, WorkflowDefinition> invalid = new ConcurrentHashMap<>();
+        private volatile IllegalArgumentException invalidVersion;
+        private volatile WorkflowDefinition latest;
+
+        synchronized void put(WorkflowDefinitionId id, WorkflowDefinition definition) {
+            try {
+                byVersion.put(WorkflowVersionComparator.version(id), definition);
+                latest = byVersion.lastEntry().getValue();
+            } catch (IllegalArgumentException e) {
+                // Kept so that looking up the latest version keeps failing as long as the workflow has one
+                invalid.put(id.version(), definition);
+                invalidVersion = e;
+            }
+        }
+
+        Optional<WorkflowDefinition> latest() {
+            IllegalArgumentException e = invalidVersion;
+            if (e != null) {
+                // Versions are only compared when there are several of them, as Stream.max did before the index
+                synchronized (this) {
+                    if (byVersion.isEmpty() && invalid.size() == 1) {
+                        return Optional.of(invalid.values().iterator().next());
+                    }
+                }
+                throw new IllegalArgumentException(e.getMessage(), e.getCause());
+            }
+            return Optional.ofNullable(latest);
+        }
+
+        synchronized void addTo(Collection<WorkflowDefinition> definitions) {
+            definitions.addAll(byVersion.values());
+            definitions.addAll(invalid.values());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.inject.Inject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.quarkiverse.flow.providers.ClientRoutingTable;
 import io.quarkus.arc.Unremovable;
 import io.serverlessworkflow.api.types.Workflow;
 import io.serverlessworkflow.impl.WorkflowApplication;
@@ -24,9 +25,17 @@ public class WorkflowRegistrarService {
     @Inject
     WorkflowApplication application;
 
+    @Inject
+    WorkflowDefinitionIndex definitionIndex;
+
+    @Inject
+    ClientRoutingTable routingTable;
+
     public WorkflowDefinition register(Workflow workflow) {
         LOGGER.debug("Registering workflow {}", WorkflowDefinitionId.of(workflow));
         final WorkflowDefinition definition = application.workflowDefinition(workflow);
+        definitionIndex.add(definition);
+        routingTable.add(definition);
         return definition;
     }
 
@@ -14,13 +14,15 @@ public class WorkflowVersionComparator implements Comparator<Map.Entry<WorkflowD
     @Override
     public int compare(Map.Entry<WorkflowDefinitionId, WorkflowDefinition> o1,
             Map.Entry<WorkflowDefinitionId, WorkflowDefinition> o2) {
-        return tryParseSemver(o1.getKey().version(), o1.getKey())
-                .compareTo(tryParseSemver(o2.getKey().version(), o2.getKey()));
+        return version(o1.getKey()).compareTo(version(o2.getKey()));
     }
 
-    private Version tryParseSemver(String semver, WorkflowDefinitionId id) {
+    /**
+     * @throws IllegalArgumentException if the version of the given definition is not a semantic version
+     */
+    static Version version(WorkflowDefinitionId id) {
         try {
-            return Version.parse(semver);
+            return Version.parse(id.version());
         } catch (IllegalArgumentException | ParseException e) {
             throw new IllegalArgumentException(
                     String.format("Invalid semantic version '%s' in workflow '%s:%s'. " +
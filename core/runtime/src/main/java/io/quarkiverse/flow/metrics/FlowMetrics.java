@@ -21,7 +21,19 @@ public enum FlowMetrics {
     FAULT_TOLERANCE_CIRCUIT_BREAKER_HALF_OPEN("fault.tolerance.circuit.breaker.half.open"),
     FAULT_TOLERANCE_CIRCUIT_BREAKER_CLOSED("fault.tolerance.circuit.breaker.closed"),
     FAULT_TOLERANCE_CIRCUIT_BREAKER_PREVENTED_TOTAL("fault.tolerance.circuit.breaker.prevented.total"),
-    FAULT_TOLERANCE_CIRCUIT_BREAKER_FAILURE_TOTAL("fault.tolerance.circuit.breaker.failure.total");
+    FAULT_TOLERANCE_CIRCUIT_BREAKER_FAILURE_TOTAL("fault.tolerance.circuit.breaker.failure.total"),
+    STRUCTURED_LOGGING_QUEUE_SIZE("structured.logging.queue.size"),
+    STRUCTURED_LOGGING_DROPPED_TOTAL("structured.logging.dropped.total"),
+    EXECUTOR_ACTIVE("executor.active"),
+    EXECUTOR_QUEUED("executor.queued"),
+    EXECUTOR_REJECTED_TOTAL("executor.rejected.total"),
+    ADMISSION_RUNNING("admission.running"),
+    ADMISSION_QUEUED("admission.queued"),
+    ADMISSION_REJECTED_TOTAL("admission.rejected.total"),
+    OIDC_TOKEN_CACHE_HITS_TOTAL("oidc.token.cache.hits.total"),
+    OIDC_TOKEN_CACHE_MISSES_TOTAL("oidc.token.cache.misses.total"),
+    OIDC_TOKEN_CACHE_REFRESHES_TOTAL("oidc.token.cache.refreshes.total"),
+    OIDC_TOKEN_CACHE_SIZE("oidc.token.cache.size");
 
     private final String metricName;
 
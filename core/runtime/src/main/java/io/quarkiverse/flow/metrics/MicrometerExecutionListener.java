@@ -9,15 +9,23 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoublePredicate;
 
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.quarkiverse.flow.internal.WorkflowApplicationReadyEvent;
 import io.quarkus.arc.lookup.LookupUnlessProperty;
 import io.serverlessworkflow.api.types.Document;
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
 import io.serverlessworkflow.impl.WorkflowStatus;
 import io.serverlessworkflow.impl.lifecycle.TaskCompletedEvent;
 import io.serverlessworkflow.impl.lifecycle.TaskEvent;
@@ -35,83 +43,50 @@ import io.serverlessworkflow.impl.lifecycle.WorkflowStatusEvent;
 @LookupUnlessProperty(name = "quarkus.flow.metrics.enabled", stringValue = "false", lookupIfMissing = true)
 public class MicrometerExecutionListener implements WorkflowExecutionListener {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MicrometerExecutionListener.class);
+
     private final MeterRegistry meterRegistry;
     private final String prefix;
+    private final boolean enabled;
     private final boolean enableDurations;
     private final double[] percentiles;
     private final ConcurrentHashMap<WorkflowMetadata, WorkflowInstanceCounters> countersForGauge = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<WorkflowDefinitionId, WorkflowMeters> meters = new ConcurrentHashMap<>();
 
     @Inject
     public MicrometerExecutionListener(MeterRegistry meterRegistry, FlowMetricsConfig flowMetricsConfig) {
         this.meterRegistry = meterRegistry;
         this.prefix = flowMetricsConfig.prefix().orElse(DEFAULT_PREFIX);
+        this.enabled = flowMetricsConfig.enabled().orElse(true);
         this.enableDurations = flowMetricsConfig.durations().enabled();
         this.percentiles = parsePercentiles(flowMetricsConfig.durations().percentiles().orElse(List.of()));
     }
 
     @Override
     public void onWorkflowStarted(WorkflowStartedEvent event) {
-        Counter.builder(FlowMetrics.WORKFLOW_STARTED_TOTAL.prefixedWith(prefix))
-                .description("Workflow Started Total")
-                .tag("workflow", workflowName(event))
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
+        metersFor(event).started.increment();
     }
 
     @Override
     public void onWorkflowCompleted(WorkflowCompletedEvent event) {
-        String workflowName = workflowName(event);
-
-        // counter
-        Counter.builder(FlowMetrics.WORKFLOW_COMPLETED_TOTAL.prefixedWith(prefix))
-                .description("Workflow Completed Total: The workflow/task ran to completion.")
-                .tag("workflow", workflowName)
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
-
-        // timer
-        Duration totalDurationInSeconds = identifyTotalDurationInSeconds(event);
-        Timer.Builder builder = Timer.builder(FlowMetrics.WORKFLOW_DURATION.prefixedWith(prefix))
-                .description("Workflow Duration Total In Seconds")
-                .tag("workflowVersion", workflowVersion(event))
-                .tag("workflow", workflowName);
-
-        configurePercentiles(builder);
-
-        builder
-                .register(meterRegistry)
-                .record(totalDurationInSeconds);
+        WorkflowMeters workflowMeters = metersFor(event);
+        workflowMeters.completed.increment();
+        workflowMeters.duration.record(identifyTotalDurationInSeconds(event));
     }
 
     @Override
     public void onWorkflowFailed(WorkflowFailedEvent event) {
-        String workflowName = workflowName(event);
-        Counter.builder(FlowMetrics.WORKFLOW_FAULTED_TOTAL.prefixedWith(prefix))
-                .description("Workflow Faulted Total: The workflow/task execution has encountered an error.")
-                .tag("workflow", workflowName)
-                .tag("workflowVersion", workflowVersion(event))
-                .tag("errorType", event.workflowContext().instanceData().status().name())
-                .register(meterRegistry)
-                .increment();
+        metersFor(event).faulted(event.workflowContext().instanceData().status()).increment();
     }
 
     @Override
     public void onWorkflowCancelled(WorkflowCancelledEvent event) {
-        String workflowName = workflowName(event);
-        Counter.builder(FlowMetrics.WORKFLOW_CANCELLED_TOTAL.prefixedWith(prefix))
-                .description("Workflow Cancelled Total: The workflow/task execution has been terminated before completion.")
-                .tag("workflow", workflowName)
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
+        metersFor(event).cancelled.increment();
     }
 
     @Override
     public void onWorkflowStatusChanged(WorkflowStatusEvent event) {
-        WorkflowMetadata metadata = workflowMetadata(event);
-        WorkflowInstanceCounters counters = countersFor(metadata);
+        WorkflowInstanceCounters counters = metersFor(event).instances;
 
         WorkflowStatus previous = event.previousStatus();
         WorkflowStatus current = event.status();
@@ -122,68 +97,57 @@ public class MicrometerExecutionListener implements WorkflowExecutionListener {
 
     @Override
     public void onTaskStarted(TaskStartedEvent event) {
-        String workflowName = workflowName(event);
-        Counter.builder(FlowMetrics.TASK_STARTED_TOTAL.prefixedWith(prefix))
-                .description("Task Started Total")
-                .tag("task", event.taskContext().taskName())
-                .tag("workflow", workflowName)
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
+        taskMetersFor(event).started.increment();
     }
 
     @Override
     public void onTaskCompleted(TaskCompletedEvent event) {
-
-        String workflowName = workflowName(event);
-
-        // counter
-        Counter.builder(FlowMetrics.TASK_COMPLETED_TOTAL.prefixedWith(prefix))
-                .description("Task Execution Total")
-                .tag("workflow", workflowName)
-                .tag("task", event.taskContext().taskName())
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
-
-        // timer
-        Duration totalDurationInSeconds = identifyTotalDurationInSeconds(event);
-
-        Timer.Builder builder = Timer.builder(FlowMetrics.TASK_DURATION.prefixedWith(prefix))
-                .description("Task Duration In Seconds")
-                .tag("workflow", workflowName)
-                .tag("task", event.taskContext().taskName())
-                .tag("workflowVersion", workflowVersion(event));
-
-        configurePercentiles(builder);
-
-        builder
-                .register(meterRegistry)
-                .record(totalDurationInSeconds);
+        TaskMeters taskMeters = taskMetersFor(event);
+        taskMeters.completed.increment();
+        taskMeters.duration.record(identifyTotalDurationInSeconds(event));
     }
 
     @Override
     public void onTaskFailed(TaskFailedEvent event) {
-        String workflowName = workflowName(event);
-        Counter.builder(FlowMetrics.TASK_FAILED_TOTAL.prefixedWith(prefix))
-                .description("Task Failed Total")
-                .tag("workflow", workflowName)
-                .tag("task", event.taskContext().taskName())
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
+        taskMetersFor(event).failed.increment();
     }
 
     @Override
     public void onTaskRetried(TaskRetriedEvent event) {
-        String workflowName = workflowName(event);
-        Counter.builder(FlowMetrics.TASK_RETRIES_TOTAL.prefixedWith(prefix))
-                .description("Task Retries Total")
-                .tag("workflow", workflowName)
-                .tag("task", event.taskContext().taskName())
-                .tag("workflowVersion", workflowVersion(event))
-                .register(meterRegistry)
-                .increment();
+        taskMetersFor(event).retries.increment();
+    }
+
+    /**
+     * Resolves the meter handles of every workflow definition known at startup, so that the first instances do not pay
+     * for the meter registration.
+     */
+    void onApplicationReady(@Observes WorkflowApplicationReadyEvent event, WorkflowApplication application) {
+        if (!enabled) {
+            return;
+        }
+        application.workflowDefinitions().values().forEach(this::metersFor);
+        LOG.debug("Flow: Pre-registered meters for {} workflow definitions", meters.size());
+    }
+
+    /**
+     * Meters are cached per {@link WorkflowDefinitionId} so the per-event path is a single map lookup. The fallback lambda
+     * is only allocated on a cache miss.
+     */
+    private WorkflowMeters metersFor(WorkflowEvent event) {
+        return metersFor(event.workflowContext().definition());
+    }
+
+    private WorkflowMeters metersFor(WorkflowDefinition definition) {
+        WorkflowMeters workflowMeters = meters.get(definition.id());
+        if (workflowMeters == null) {
+            workflowMeters = meters.computeIfAbsent(definition.id(),
+                    id -> new WorkflowMeters(definition.workflow().getDocument()));
+        }
+        return workflowMeters;
+    }
+
+    private TaskMeters taskMetersFor(TaskEvent event) {
+        return metersFor(event).task(event.taskContext().taskName());
     }
 
     private void incrementChangeableState(WorkflowInstanceCounters counters, WorkflowStatus status) {
@@ -202,22 +166,6 @@ public class MicrometerExecutionListener implements WorkflowExecutionListener {
         }
     }
 
-    private WorkflowMetadata workflowMetadata(WorkflowEvent event) {
-        Document document = event.workflowContext().definition().workflow().getDocument();
-        String namespace = document.getNamespace();
-        String name = document.getName();
-        String version = document.getVersion();
-        return new WorkflowMetadata(namespace, name, version);
-    }
-
-    private String workflowVersion(WorkflowEvent event) {
-        return event.workflowContext().definition().workflow().getDocument().getVersion();
-    }
-
-    private String workflowName(WorkflowEvent event) {
-        return event.workflowContext().definition().workflow().getDocument().getName();
-    }
-
     private Duration identifyTotalDurationInSeconds(TaskEvent taskEvent) {
         Instant startedAt = taskEvent.taskContext().startedAt();
         Instant completedAt = taskEvent.taskContext().completedAt();
@@ -287,6 +235,125 @@ public class MicrometerExecutionListener implements WorkflowExecutionListener {
         return p -> p > 0.0 && p < 1.0;
     }
 
+    /**
+     * Meter handles of a single workflow definition, registered once and reused by every instance.
+     */
+    private final class WorkflowMeters {
+        private final String workflowName;
+        private final String workflowVersion;
+        private final Counter started;
+        private final Counter completed;
+        private final Counter cancelled;
+        private final Timer duration;
+        private final WorkflowInstanceCounters instances;
+        private final Counter[] faulted = new Counter[WorkflowStatus.values().length];
+        private final ConcurrentHashMap<String, TaskMeters> tasks = new ConcurrentHashMap<>();
+
+        private WorkflowMeters(Document document) {
+            this.workflowName = document.getName();
+            this.workflowVersion = document.getVersion();
+            this.instances = countersFor(new WorkflowMetadata(document.getNamespace(), workflowName, workflowVersion));
+
+            this.started = Counter.builder(FlowMetrics.WORKFLOW_STARTED_TOTAL.prefixedWith(prefix))
+                    .description("Workflow Started Total")
+                    .tag("workflow", workflowName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            this.completed = Counter.builder(FlowMetrics.WORKFLOW_COMPLETED_TOTAL.prefixedWith(prefix))
+                    .description("Workflow Completed Total: The workflow/task ran to completion.")
+                    .tag("workflow", workflowName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            this.cancelled = Counter.builder(FlowMetrics.WORKFLOW_CANCELLED_TOTAL.prefixedWith(prefix))
+                    .description(
+                            "Workflow Cancelled Total: The workflow/task execution has been terminated before completion.")
+                    .tag("workflow", workflowName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            Timer.Builder builder = Timer.builder(FlowMetrics.WORKFLOW_DURATION.prefixedWith(prefix))
+                    .description("Workflow Duration Total In Seconds")
+                    .tag("workflowVersion", workflowVersion)
+                    .tag("workflow", workflowName);
+            configurePercentiles(builder);
+            this.duration = builder.register(meterRegistry);
+        }
+
+        private Counter faulted(WorkflowStatus status) {
+            Counter counter = faulted[status.ordinal()];
+            if (counter == null) {
+                // racing registrations are harmless: the registry hands back the same meter for the same id
+                counter = Counter.builder(FlowMetrics.WORKFLOW_FAULTED_TOTAL.prefixedWith(prefix))
+                        .description("Workflow Faulted Total: The workflow/task execution has encountered an error.")
+                        .tag("workflow", workflowName)
+                        .tag("workflowVersion", workflowVersion)
+                        .tag("errorType", status.name())
+                        .register(meterRegistry);
+                faulted[status.ordinal()] = counter;
+            }
+            return counter;
+        }
+
+        private TaskMeters task(String taskName) {
+            TaskMeters taskMeters = tasks.get(taskName);
+            if (taskMeters == null) {
+                taskMeters = tasks.computeIfAbsent(taskName, name -> new TaskMeters(workflowName, workflowVersion, name));
+            }
+            return taskMeters;
+        }
+    }
+
+    /**
+     * Meter handles of a single task, keyed by task name since the name is what identifies the meters.
+     */
+    private final class TaskMeters {
+        private final Counter started;
+        private final Counter completed;
+        private final Counter failed;
+        private final Counter retries;
+        private final Timer duration;
+
+        private TaskMeters(String workflowName, String workflowVersion, String taskName) {
+            this.started = Counter.builder(FlowMetrics.TASK_STARTED_TOTAL.prefixedWith(prefix))
+                    .description("Task Started Total")
+                    .tag("task", taskName)
+                    .tag("workflow", workflowName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            this.completed = Counter.builder(FlowMetrics.TASK_COMPLETED_TOTAL.prefixedWith(prefix))
+                    .description("Task Execution Total")
+                    .tag("workflow", workflowName)
+                    .tag("task", taskName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            this.failed = Counter.builder(FlowMetrics.TASK_FAILED_TOTAL.prefixedWith(prefix))
+                    .description("Task Failed Total")
+                    .tag("workflow", workflowName)
+                    .tag("task", taskName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            this.retries = Counter.builder(FlowMetrics.TASK_RETRIES_TOTAL.prefixedWith(prefix))
+                    .description("Task Retries Total")
+                    .tag("workflow", workflowName)
+                    .tag("task", taskName)
+                    .tag("workflowVersion", workflowVersion)
+                    .register(meterRegistry);
+
+            Timer.Builder builder = Timer.builder(FlowMetrics.TASK_DURATION.prefixedWith(prefix))
+                    .description("Task Duration In Seconds")
+                    .tag("workflow", workflowName)
+                    .tag("task", taskName)
+                    .tag("workflowVersion", workflowVersion);
+            configurePercentiles(builder);
+            this.duration = builder.register(meterRegistry);
+        }
+    }
+
     private static class WorkflowInstanceCounters {
         private final AtomicLong running = new AtomicLong();
         private final AtomicLong waiting = new AtomicLong();
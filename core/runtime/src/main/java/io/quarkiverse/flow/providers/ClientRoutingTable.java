@@ -0,0 +1,209 @@
+package io.quarkiverse.flow.providers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkiverse.flow.config.FlowHttpConfig;
+import io.quarkus.arc.Unremovable;
+import io.serverlessworkflow.api.types.Task;
+import io.serverlessworkflow.api.types.TaskItem;
+import io.serverlessworkflow.api.types.Workflow;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Client routing of every task of the registered workflow definitions, shared by the HTTP, fault tolerance and gRPC
+ * providers.
+ * <p>
+ * Walking the 6-level cascade of {@link io.quarkiverse.flow.config.ClientConfigCascade} builds six keys per call, so
+ * the result is computed once per workflow and task: the routes of a definition are computed when the definition is
+ * registered and kept in an immutable map per definition, and a task is resolved with two map lookups. Registering a
+ * definition only replaces the map of that definition. Tasks of definitions registered outside
+ * {@link io.quarkiverse.flow.internal.WorkflowRegistrarService} are resolved and added the first time they are looked
+ * up.
+ * <p>
+ * The HTTP client name is always part of a route. Other modules add their own routing to the table with
+ * {@link #register(Resolver)}.
+ */
+@ApplicationScoped
+@Unremovable
+public class ClientRoutingTable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ClientRoutingTable.class);
+
+    private final RoutingNameResolver httpNameResolver;
+    private final Map<WorkflowDefinitionId, Map<String, Route>> routes = new ConcurrentHashMap<>();
+    private volatile List<Resolver<?>> resolvers = List.of();
+
+    @Inject
+    public ClientRoutingTable(FlowHttpConfig httpConfig) {
+        this.httpNameResolver = new RoutingNameResolver(httpConfig);
+    }
+
+    /**
+     * @return the route of the given task, computed on the first lookup if its definition was not registered yet
+     */
+    public Route route(WorkflowDefinitionId workflowId, String taskName) {
+        Map<String, Route> definitionRoutes = routes.get(workflowId);
+        Route route = definitionRoutes != null ? definitionRoutes.get(taskName) : null;
+        return route != null ? route : addMissing(workflowId, taskName);
+    }
+
+    /**
+     * Computes the routes of every task of the given definition, replacing the ones of a previous definition with the
+     * same id.
+     */
+    public void add(WorkflowDefinition definition) {
+        WorkflowDefinitionId id = definition.id();
+        List<String> taskNames = new ArrayList<>();
+        collectTaskNames(definition.workflow(), taskNames);
+        // serialized with register, so the routes are never computed with resolvers that register already replaced
+        synchronized (this) {
+            routes.put(id, resolveAll(id, taskNames, resolvers));
+        }
+        LOG.debug("Computed client routes of {} tasks of workflow {}", taskNames.size(), id);
+    }
+
+    /**
+     * Adds a routing resolved by another module to every route. The routes computed so far are computed again, one
+     * definition at a time; until then, they return {@code null} for the new slot.
+     *
+     * @return the slot to read the resolved value from a {@link Route}
+     */
+    public synchronized <T> Slot<T> register(Resolver<T> resolver) {
+        Objects.requireNonNull(resolver, "resolver is null");
+        List<Resolver<?>> updated = new ArrayList<>(resolvers);
+        updated.add(resolver);
+        List<Resolver<?>> current = List.copyOf(updated);
+        resolvers = current;
+        routes.replaceAll((id, definitionRoutes) -> resolveAll(id, definitionRoutes.keySet(), current));
+        return new Slot<>(current.size() - 1);
+    }
+
+    private Route addMissing(WorkflowDefinitionId workflowId, String taskName) {
+        return routes.compute(workflowId, (id, definitionRoutes) -> {
+            if (definitionRoutes != null && definitionRoutes.containsKey(taskName)) {
+                return definitionRoutes;
+            }
+            Map<String, Route> updated = definitionRoutes != null ? new HashMap<>(definitionRoutes) : new HashMap<>();
+            updated.put(taskName, resolve(id, taskName, resolvers));
+            return Map.copyOf(updated);
+        }).get(taskName);
+    }
+
+    private Map<String, Route> resolveAll(WorkflowDefinitionId id, Collection<String> taskNames,
+            List<Resolver<?>> current) {
+        Map<String, Route> resolved = new HashMap<>();
+        for (String taskName : taskNames) {
+            resolved.put(taskName, resolve(id, taskName, current));
+        }
+        return Map.copyOf(resolved);
+    }
+
+    private Route resolve(WorkflowDefinitionId workflowId, String taskName, List<Resolver<?>> current) {
+        Object[] values = new Object[current.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current.get(i).resolve(workflowId, taskName);
+        }
+        return new Route(httpNameResolver.resolveName(workflowId, taskName), values);
+    }
+
+    private static void collectTaskNames(Workflow workflow, List<String> taskNames) {
+        if (workflow != null) {
+            collectTaskNames(workflow.getDo(), taskNames);
+        }
+    }
+
+    private static void collectTaskNames(List<TaskItem> items, List<String> taskNames) {
+        if (items == null) {
+            return;
+        }
+        for (TaskItem item : items) {
+            taskNames.add(item.getName());
+            Task task = item.getTask();
+            if (task == null) {
+                continue;
+            }
+            if (task.getDoTask() != null) {
+                collectTaskNames(task.getDoTask().getDo(), taskNames);
+            }
+            if (task.getForTask() != null) {
+                collectTaskNames(task.getForTask().getDo(), taskNames);
+            }
+            if (task.getTryTask() != null) {
+                collectTaskNames(task.getTryTask().getTry(), taskNames);
+                if (task.getTryTask().getCatch() != null) {
+                    collectTaskNames(task.getTryTask().getCatch().getDo(), taskNames);
+                }
+            }
+            if (task.getForkTask() != null && task.getForkTask().getFork() != null) {
+                collectTaskNames(task.getForkTask().getFork().getBranches(), taskNames);
+            }
+        }
+    }
+
+    /**
+     * Resolves the routing of a module for a task. Called once per workflow and task, never on the task path.
+     */
+    @FunctionalInterface
+    public interface Resolver<T> {
+
+        /**
+         * @return the routing of the task, or {@code null} for the module default
+         */
+        T resolve(WorkflowDefinitionId workflowId, String taskName);
+    }
+
+    /**
+     * Position of the value of a {@link Resolver} in every {@link Route}.
+     */
+    public static final class Slot<T> {
+
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+    }
+
+    /**
+     * Resolved client routing of one task.
+     */
+    public static final class Route {
+
+        private final String httpClientName;
+        private final Object[] values;
+
+        private Route(String httpClientName, Object[] values) {
+            this.httpClientName = httpClientName;
+            this.values = values;
+        }
+
+        /**
+         * @return the named HTTP client, and fault tolerance guard, of the task, or {@code null} for the default one
+         */
+        public String httpClientName() {
+            return httpClientName;
+        }
+
+        /**
+         * @return the value resolved for the given slot, or {@code null} for the module default
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(Slot<T> slot) {
+            // slots registered after this route was computed are resolved when the table recomputes it
+            return slot.index < values.length ? (T) values[slot.index] : null;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.quarkiverse.flow.providers;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.quarkiverse.flow.metrics.FlowMetrics;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Lock-free permits bounding how many asynchronous operations run at once.
+ * <p>
+ * Permits are counted with a CAS on the number of running operations. An operation submitted while no permit is
+ * available is queued without blocking the calling thread, and is started by the operation releasing the next permit.
+ * Queued operations fail with the configured rejection once they have waited longer than the queue timeout.
+ */
+final class ConcurrencyPermits {
+
+    private final int maxRunning;
+    private final int maxQueued;
+    private final Duration queueTimeout;
+    private final Function<String, ? extends RuntimeException> rejection;
+    private final String description;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param maxRunning maximum number of operations running at once
+     * @param maxQueued maximum number of operations waiting for a permit, {@code 0} rejects them right away
+     * @param queueTimeout how long an operation may wait for a permit, {@code null} to wait until one is released
+     * @param rejection creates the exception failing rejected operations from a message
+     * @param description what is limited, used in rejection messages
+     */
+    ConcurrencyPermits(int maxRunning, int maxQueued, Duration queueTimeout,
+            Function<String, ? extends RuntimeException> rejection, String description) {
+        this.maxRunning = maxRunning;
+        this.maxQueued = Math.max(0, maxQueued);
+        this.queueTimeout = queueTimeout;
+        this.rejection = rejection;
+        this.description = description;
+    }
+
+    /**
+     * Starts the given operation as soon as a permit is available, releasing the permit once it completes.
+     *
+     * @return a future completed with the result of the operation, or failed with the configured rejection when too
+     *         many operations are already waiting or the operation waited longer than the queue timeout
+     */
+    <T> CompletableFuture<T> submit(Supplier<CompletionStage<T>> operation) {
+        if (tryAcquire()) {
+            return run(operation);
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return CompletableFuture
+                    .failedFuture(reject("the limit is " + maxRunning + " running and " + maxQueued + " queued"));
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Pending entry = new Pending(() -> run(operation).whenComplete((value, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
+        }));
+        pending.offer(entry);
+        if (queueTimeout != null) {
+            CompletableFuture.delayedExecutor(queueTimeout.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+                if (entry.claim()) {
+                    pending.remove(entry);
+                    queued.decrementAndGet();
+                    result.completeExceptionally(reject("waited more than " + queueTimeout + " for a permit"));
+                }
+            });
+        }
+        // a permit may have been released between the failed acquire and the offer
+        drain();
+        return result;
+    }
+
+    int running() {
+        return running.get();
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Registers the running, queued and rejected meters of these permits, tagged with the namespace, name and version
+     * of the given workflow.
+     */
+    void registerMetrics(MeterRegistry registry, WorkflowDefinitionId id, FlowMetrics runningMetric,
+            FlowMetrics queuedMetric, FlowMetrics rejectedMetric, String prefix, String subject) {
+        Tags tags = Tags.of("namespace", id.namespace(), "workflow", id.name(), "workflowVersion", id.version());
+        Gauge.builder(runningMetric.prefixedWith(prefix), running, AtomicInteger::get)
+                .description(subject + " currently running")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(queuedMetric.prefixedWith(prefix), queued, AtomicInteger::get)
+                .description(subject + " waiting for the concurrency limit")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(rejectedMetric.prefixedWith(prefix), rejected, AtomicLong::get)
+                .description(subject + " rejected by the concurrency limit")
+                .tags(tags)
+                .register(registry);
+    }
+
+    private RuntimeException reject(String reason) {
+        rejected.incrementAndGet();
+        return rejection.apply("Too many " + description + ", " + reason);
+    }
+
+    private <T> CompletableFuture<T> run(Supplier<CompletionStage<T>> operation) {
+        CompletableFuture<T> future;
+        try {
+            future = operation.get().toCompletableFuture();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((value, error) -> {
+            running.decrementAndGet();
+            drain();
+        });
+    }
+
+    /**
+     * Starts queued operations while permits are available.
+     * <p>
+     * Only one thread drains at a time: a drain requested meanwhile, including by an operation completing
+     * synchronously while it is started, makes the draining thread loop once more instead of recursing.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        int requests = 1;
+        do {
+            while (!pending.isEmpty() && tryAcquire()) {
+                Pending next = pending.poll();
+                if (next == null || !next.claim()) {
+                    // empty queue or timed out entry, give the permit back
+                    running.decrementAndGet();
+                    continue;
+                }
+                queued.decrementAndGet();
+                next.start.run();
+            }
+            requests = drainRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = running.get();
+            if (current >= maxRunning) {
+                return false;
+            }
+        } while (!running.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Queued operation, claimed either by the drain starting it or by its queue timeout.
+     */
+    private static final class Pending extends AtomicBoolean {
+
+        private final Runnable start;
+
+        Pending(Runnable start) {
+            this.start = start;
+        }
+
+        boolean claim() {
+            return compareAndSet(false, true);
+        }
+    }
+}
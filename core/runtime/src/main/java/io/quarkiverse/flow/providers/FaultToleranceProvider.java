@@ -17,6 +17,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,7 +40,7 @@ public class FaultToleranceProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(FaultToleranceProvider.class);
 
     private final FlowHttpConfig flowHttpConfig;
-    private final RoutingNameResolver routingNameResolver;
+    private final ClientRoutingTable routingTable;
     private final Map<String, TypedGuard<CompletionStage<WorkflowModel>>> namedGuards = new ConcurrentHashMap<>();
     private final FlowMetricsConfig flowMetricsConfig;
     private final ConcurrentHashMap<CircuitBreakerKey, CircuitBreakerCounters> countersForGauge = new ConcurrentHashMap<>();
@@ -56,13 +57,19 @@ public class FaultToleranceProvider {
     private volatile TypedGuard<CompletionStage<WorkflowModel>> defaultGuard;
 
     public FaultToleranceProvider(FlowHttpConfig flowHttpConfig, FlowMetricsConfig flowMetricsConfig) {
+        this(flowHttpConfig, flowMetricsConfig, new ClientRoutingTable(flowHttpConfig));
+    }
+
+    @Inject
+    public FaultToleranceProvider(FlowHttpConfig flowHttpConfig, FlowMetricsConfig flowMetricsConfig,
+            ClientRoutingTable routingTable) {
         this.flowHttpConfig = flowHttpConfig;
         this.flowMetricsConfig = flowMetricsConfig;
-        this.routingNameResolver = new RoutingNameResolver(flowHttpConfig);
+        this.routingTable = routingTable;
     }
 
     public TypedGuard<CompletionStage<WorkflowModel>> guardFor(WorkflowTaskContext ctx) {
-        String guardName = this.routingNameResolver.resolveName(ctx.workflowId(), ctx.taskName());
+        String guardName = routingTable.route(ctx.workflowId(), ctx.taskName()).httpClientName();
         if (guardName == null) {
             return getOrCreateDefaultGuard(ctx);
         }
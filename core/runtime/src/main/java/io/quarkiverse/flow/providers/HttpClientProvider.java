@@ -82,16 +82,20 @@ public class HttpClientProvider {
      * Cached named clients, keyed by logical client name (e.g. "secureA").
      */
     private final Map<String, Client> namedClients = new ConcurrentHashMap<>();
-    private final RoutingNameResolver routingNameResolver;
+    private final ClientRoutingTable routingTable;
     /**
      * Cached default client (using {@link FlowHttpConfig} as {@link HttpClientConfig}).
      */
     private volatile Client defaultClient;
 
-    @Inject
     public HttpClientProvider(FlowHttpConfig config) {
+        this(config, new ClientRoutingTable(config));
+    }
+
+    @Inject
+    public HttpClientProvider(FlowHttpConfig config, ClientRoutingTable routingTable) {
         this.config = config;
-        this.routingNameResolver = new RoutingNameResolver(config);
+        this.routingTable = routingTable;
     }
 
     /**
@@ -108,7 +112,7 @@ public class HttpClientProvider {
     /**
      * Resolve the {@link Client} to use for the given workflow and task.
      * <p>
-     * Uses the 6-level progressive specificity cascade (ADR 2026-07-07).
+     * Uses the 6-level progressive specificity cascade (ADR 2026-07-07), precomputed by {@link ClientRoutingTable}.
      * Falls back to the global default client when no override matches.
      *
      * @param workflowId the workflow identity (namespace, name, version)
@@ -116,7 +120,7 @@ public class HttpClientProvider {
      * @return a cached {@link Client} instance
      */
     public Client clientFor(WorkflowDefinitionId workflowId, String taskName) {
-        final String clientName = routingNameResolver.resolveName(workflowId, taskName);
+        final String clientName = routingTable.route(workflowId, taskName).httpClientName();
         if (clientName == null) {
             return getOrCreateDefaultClient();
         }
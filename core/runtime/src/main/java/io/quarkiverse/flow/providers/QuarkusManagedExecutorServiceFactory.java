@@ -1,5 +1,6 @@
 package io.quarkiverse.flow.providers;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -7,7 +8,9 @@ import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
 
+import io.quarkiverse.flow.config.FlowExecutorConfig;
 import io.quarkus.arc.Unremovable;
 import io.serverlessworkflow.impl.ExecutorServiceFactory;
 
@@ -18,6 +21,9 @@ import io.serverlessworkflow.impl.ExecutorServiceFactory;
  * This ensures that CompletableFutures returned by HTTP and other async tasks
  * properly propagate Quarkus request context and can signal completion to
  * JAX-RS async processing.
+ * <p>
+ * With {@code quarkus.flow.executor.type=virtual-threads}, tasks run on virtual threads instead, with the same
+ * context propagated through the SmallRye {@link ThreadContext}.
  */
 @ApplicationScoped
 @Unremovable
@@ -26,8 +32,22 @@ public class QuarkusManagedExecutorServiceFactory implements ExecutorServiceFact
     @Inject
     Instance<ManagedExecutor> managedExecutor;
 
+    @Inject
+    Instance<ThreadContext> threadContext;
+
+    @Inject
+    FlowExecutorConfig executorConfig;
+
+    private volatile Optional<VirtualThreadExecutorService> virtualThreads;
+
     @Override
     public ExecutorService get() {
+        if (executorConfig.type() == FlowExecutorConfig.Type.VIRTUAL_THREADS) {
+            Optional<VirtualThreadExecutorService> executor = virtualThreadExecutor();
+            if (executor.isPresent()) {
+                return executor.get();
+            }
+        }
         if (managedExecutor.isResolvable())
             return managedExecutor.get();
         throw new IllegalStateException(
@@ -37,5 +57,28 @@ public class QuarkusManagedExecutorServiceFactory implements ExecutorServiceFact
     @Override
     public void close() {
         // ManagedExecutor is managed by Quarkus container, don't close it
+        Optional<VirtualThreadExecutorService> executor = virtualThreads;
+        if (executor != null) {
+            executor.ifPresent(ExecutorService::shutdown);
+        }
+    }
+
+    /**
+     * @return the executor starting a virtual thread per task with the Quarkus context propagated, created on first
+     *         use, or empty when the JVM does not support virtual threads
+     */
+    public Optional<VirtualThreadExecutorService> virtualThreadExecutor() {
+        Optional<VirtualThreadExecutorService> executor = virtualThreads;
+        if (executor == null) {
+            synchronized (this) {
+                executor = virtualThreads;
+                if (executor == null) {
+                    executor = VirtualThreadExecutorService
+                            .create(threadContext.isResolvable() ? threadContext.get() : null);
+                    virtualThreads = executor;
+                }
+            }
+        }
+        return executor;
     }
 }
@@ -0,0 +1,80 @@
+package io.quarkiverse.flow.providers;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkiverse.flow.config.FlowExecutorConfig;
+import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.quarkiverse.flow.metrics.FlowMetrics;
+import io.quarkus.arc.Unremovable;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Bounds how many call tasks of the same workflow definition run at once, so a large fan-out cannot take over the
+ * workflow executor.
+ * <p>
+ * A call task started while no permit is available is queued without blocking the calling thread, see
+ * {@link ConcurrencyPermits}.
+ */
+@ApplicationScoped
+@Unremovable
+public class TaskConcurrencyLimiter {
+
+    private final Map<WorkflowDefinitionId, ConcurrencyPermits> permits = new ConcurrentHashMap<>();
+
+    @Inject
+    FlowExecutorConfig executorConfig;
+
+    @Inject
+    FlowMetricsConfig metricsConfig;
+
+    private int maxConcurrency;
+    private int maxQueued;
+    private String metricsPrefix;
+    private MeterRegistry registry;
+
+    @PostConstruct
+    void init() {
+        maxConcurrency = executorConfig.maxConcurrency().orElse(0);
+        maxQueued = Math.max(0, executorConfig.maxQueued());
+        metricsPrefix = metricsConfig.prefix().orElse(FlowMetricsConfig.DEFAULT_PREFIX);
+        registry = metricsConfig.enabled().orElse(true) ? Metrics.globalRegistry : null;
+    }
+
+    /**
+     * @return whether call tasks are limited at all
+     */
+    public boolean isEnabled() {
+        return maxConcurrency > 0;
+    }
+
+    /**
+     * Starts the given call task as soon as the workflow definition has a free permit.
+     *
+     * @return a future completed with the result of the task, or failed with a {@link RejectedExecutionException}
+     *         when too many call tasks of the definition are already waiting
+     */
+    public <T> CompletableFuture<T> submit(WorkflowDefinitionId definitionId, Supplier<CompletionStage<T>> task) {
+        return permits.computeIfAbsent(definitionId, this::newPermits).submit(task);
+    }
+
+    private ConcurrencyPermits newPermits(WorkflowDefinitionId definitionId) {
+        ConcurrencyPermits p = new ConcurrencyPermits(maxConcurrency, maxQueued, null, RejectedExecutionException::new,
+                "call tasks waiting for workflow " + definitionId);
+        if (registry != null) {
+            p.registerMetrics(registry, definitionId, FlowMetrics.EXECUTOR_ACTIVE, FlowMetrics.EXECUTOR_QUEUED,
+                    FlowMetrics.EXECUTOR_REJECTED_TOTAL, metricsPrefix, "Call tasks of the workflow");
+        }
+        return p;
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkiverse.flow.providers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.context.ThreadContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executor starting a virtual thread per task.
+ * <p>
+ * Every task is wrapped with the SmallRye {@link ThreadContext} when submitted, so it sees the same Quarkus context
+ * as with the {@code ManagedExecutor}. Virtual threads are looked up reflectively, since Java 17 is the baseline.
+ * <p>
+ * Used both as the workflow executor and by the Java functions configured to run on virtual threads.
+ */
+public final class VirtualThreadExecutorService extends AbstractExecutorService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadExecutorService.class);
+
+    private static final String THREAD_NAME_PREFIX = "flow-virtual-";
+
+    private final ThreadFactory threadFactory;
+    private final ThreadContext threadContext;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Object termination = new Object();
+
+    private volatile boolean shutdown;
+
+    private VirtualThreadExecutorService(ThreadFactory threadFactory, ThreadContext threadContext) {
+        this.threadFactory = threadFactory;
+        this.threadContext = threadContext;
+    }
+
+    /**
+     * @param threadContext context propagated to the tasks, {@code null} to run them without any
+     * @return a new executor, or empty when the JVM does not support virtual threads
+     */
+    public static Optional<VirtualThreadExecutorService> create(ThreadContext threadContext) {
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Object ofVirtual = Thread.class.getMethod("ofVirtual").invoke(null);
+            Object named = builder.getMethod("name", String.class, long.class).invoke(ofVirtual, THREAD_NAME_PREFIX, 0L);
+            ThreadFactory factory = (ThreadFactory) builder.getMethod("factory").invoke(named);
+            return Optional.of(new VirtualThreadExecutorService(factory, threadContext));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("Flow: Virtual threads are not supported by this JVM, tasks configured to run on virtual threads "
+                    + "run on the workflow executor instead");
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Flow virtual thread executor has been shut down");
+        }
+        Runnable contextual = threadContext != null ? threadContext.contextualRunnable(command) : command;
+        running.incrementAndGet();
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    contextual.run();
+                } finally {
+                    taskDone();
+                }
+            }).start();
+        } catch (RuntimeException | Error e) {
+            taskDone();
+            throw e;
+        }
+    }
+
+    private void taskDone() {
+        if (running.decrementAndGet() == 0 && shutdown) {
+            synchronized (termination) {
+                termination.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        // tasks are started as soon as they are submitted, there is nothing waiting to be returned
+        shutdown = true;
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && running.get() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (termination) {
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(termination, remaining);
+            }
+        }
+        return true;
+    }
+}
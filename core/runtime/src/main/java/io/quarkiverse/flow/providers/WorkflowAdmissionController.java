@@ -0,0 +1,148 @@
+package io.quarkiverse.flow.providers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkiverse.flow.config.ClientConfigCascade;
+import io.quarkiverse.flow.config.FlowAdmissionConfig;
+import io.quarkiverse.flow.config.FlowAdmissionConfig.Limits;
+import io.quarkiverse.flow.config.FlowAdmissionConfig.Policy;
+import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.quarkiverse.flow.metrics.FlowMetrics;
+import io.quarkus.arc.Unremovable;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Bounds how many instances of the same workflow definition run at once.
+ * <p>
+ * The engine asks {@link #admit(WorkflowDefinitionId, String)} before running any instance, through the
+ * {@link WorkflowAdmissionListener} bound to the workflow application, so every start is covered: {@code Flow}, the
+ * runner REST API, {@code definition.instance(input).start()} and instances started by events alike. Limits are
+ * resolved once per {@link WorkflowDefinitionId} from {@link FlowAdmissionConfig}; definitions without a limit run
+ * their instances right away. An instance that is not admitted fails with a {@link WorkflowAdmissionException}.
+ */
+@ApplicationScoped
+@Unremovable
+public class WorkflowAdmissionController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowAdmissionController.class);
+
+    private static final int DEFAULT_MAX_QUEUED = 1000;
+
+    private final Map<WorkflowDefinitionId, Optional<ConcurrencyPermits>> permits = new ConcurrentHashMap<>();
+    // completed when the instance ends, which releases its permit
+    private final Map<String, CompletableFuture<Void>> held = new ConcurrentHashMap<>();
+
+    private final FlowAdmissionConfig config;
+    private final boolean enabled;
+    private final String metricsPrefix;
+    private final MeterRegistry registry;
+
+    @Inject
+    public WorkflowAdmissionController(FlowAdmissionConfig config, FlowMetricsConfig metricsConfig) {
+        this.config = config;
+        this.enabled = config.maxRunning().isPresent()
+                || config.workflow().values().stream().anyMatch(limits -> limits.maxRunning().isPresent());
+        this.metricsPrefix = metricsConfig.prefix().orElse(FlowMetricsConfig.DEFAULT_PREFIX);
+        this.registry = metricsConfig.enabled().orElse(true) ? Metrics.globalRegistry : null;
+    }
+
+    /**
+     * @return whether any workflow has a limit, otherwise instances never need to be admitted
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Admits the given instance once a permit of its definition is available. The permit is held until
+     * {@link #release(String)} is called for the instance.
+     *
+     * @return a future completed once the instance may run, or failed with a {@link WorkflowAdmissionException} when
+     *         it is rejected
+     */
+    public CompletableFuture<Void> admit(WorkflowDefinitionId definitionId, String instanceId) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Optional<ConcurrencyPermits> limit = permits.get(definitionId);
+        if (limit == null) {
+            limit = permits.computeIfAbsent(definitionId, this::newPermits);
+        }
+        if (limit.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> admitted = new CompletableFuture<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        held.put(instanceId, done);
+        limit.get().submit(() -> {
+            admitted.complete(null);
+            return done;
+        }).whenComplete((value, error) -> {
+            if (error != null) {
+                held.remove(instanceId, done);
+                admitted.completeExceptionally(error);
+            }
+        });
+        return admitted;
+    }
+
+    /**
+     * Gives the permit of the given instance back, if it holds one.
+     */
+    public void release(String instanceId) {
+        CompletableFuture<Void> done = held.remove(instanceId);
+        if (done != null) {
+            done.complete(null);
+        }
+    }
+
+    private Optional<ConcurrencyPermits> newPermits(WorkflowDefinitionId id) {
+        OptionalInt maxRunning = resolve(id, Limits::maxRunning, OptionalInt::isPresent, config.maxRunning());
+        if (maxRunning.isEmpty()) {
+            return Optional.empty();
+        }
+        Policy policy = resolve(id, Limits::policy, Optional::isPresent, config.policy()).orElse(Policy.WAIT);
+        int maxQueued = policy == Policy.REJECT ? 0
+                : resolve(id, Limits::maxQueued, OptionalInt::isPresent, config.maxQueued()).orElse(DEFAULT_MAX_QUEUED);
+        Duration queueTimeout = resolve(id, Limits::queueTimeout, Optional::isPresent, config.queueTimeout())
+                .orElse(null);
+
+        LOG.debug("Flow: Admitting up to {} running and {} queued instances of workflow {}", maxRunning.getAsInt(),
+                maxQueued, id);
+        ConcurrencyPermits p = new ConcurrencyPermits(maxRunning.getAsInt(), maxQueued, queueTimeout,
+                WorkflowAdmissionException::new, "instances of workflow " + id);
+        if (registry != null) {
+            p.registerMetrics(registry, id, FlowMetrics.ADMISSION_RUNNING, FlowMetrics.ADMISSION_QUEUED,
+                    FlowMetrics.ADMISSION_REJECTED_TOTAL, metricsPrefix, "Instances of the workflow");
+        }
+        return Optional.of(p);
+    }
+
+    private <T> T resolve(WorkflowDefinitionId id, Function<Limits, T> value, Predicate<T> present,
+            T fallback) {
+        T resolved = ClientConfigCascade.resolve(key -> {
+            Limits limits = config.workflow().get(key);
+            if (limits == null) {
+                return null;
+            }
+            T candidate = value.apply(limits);
+            return present.test(candidate) ? candidate : null;
+        }, id, null);
+        return resolved != null ? resolved : fallback;
+    }
+}
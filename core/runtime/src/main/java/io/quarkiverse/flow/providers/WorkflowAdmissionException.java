@@ -0,0 +1,20 @@
+package io.quarkiverse.flow.providers;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a workflow instance start is rejected because too many instances of the workflow are running or waiting
+ * to start.
+ * <p>
+ * Mapped to {@code 429 Too Many Requests} by {@link WorkflowAdmissionExceptionMapper}.
+ *
+ * @see WorkflowAdmissionController
+ */
+public class WorkflowAdmissionException extends RejectedExecutionException {
+
+    private static final long serialVersionUID = 1L;
+
+    public WorkflowAdmissionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkiverse.flow.providers;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+@Priority(Priorities.USER)
+public class WorkflowAdmissionExceptionMapper implements ExceptionMapper<WorkflowAdmissionException> {
+
+    @Override
+    public Response toResponse(WorkflowAdmissionException exception) {
+        return Response.status(Response.Status.TOO_MANY_REQUESTS)
+                .type(MediaType.TEXT_PLAIN_TYPE)
+                .entity(exception.getMessage())
+                .build();
+    }
+}
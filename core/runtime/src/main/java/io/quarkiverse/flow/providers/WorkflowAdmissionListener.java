@@ -0,0 +1,52 @@
+package io.quarkiverse.flow.providers;
+
+import java.util.concurrent.CompletableFuture;
+
+import io.serverlessworkflow.impl.WorkflowContextData;
+import io.serverlessworkflow.impl.lifecycle.WorkflowCancelledEvent;
+import io.serverlessworkflow.impl.lifecycle.WorkflowCompletedEvent;
+import io.serverlessworkflow.impl.lifecycle.WorkflowExecutionCompletableListener;
+import io.serverlessworkflow.impl.lifecycle.WorkflowFailedEvent;
+import io.serverlessworkflow.impl.lifecycle.WorkflowStartedEvent;
+
+/**
+ * Gates every instance start of the workflow application with the {@link WorkflowAdmissionController}.
+ * <p>
+ * The engine waits for the future returned when an instance starts before running its first task, so an instance
+ * waits there for its permit, and fails when it is rejected. The permit is released once the instance completes,
+ * fails or is cancelled.
+ */
+public class WorkflowAdmissionListener implements WorkflowExecutionCompletableListener {
+
+    private final WorkflowAdmissionController controller;
+
+    public WorkflowAdmissionListener(WorkflowAdmissionController controller) {
+        this.controller = controller;
+    }
+
+    @Override
+    public CompletableFuture<Void> onWorkflowStarted(WorkflowStartedEvent ev) {
+        WorkflowContextData workflowContext = ev.workflowContext();
+        return controller.admit(workflowContext.definition().id(), workflowContext.instanceData().id());
+    }
+
+    @Override
+    public CompletableFuture<Void> onWorkflowCompleted(WorkflowCompletedEvent ev) {
+        return release(ev.workflowContext());
+    }
+
+    @Override
+    public CompletableFuture<Void> onWorkflowFailed(WorkflowFailedEvent ev) {
+        return release(ev.workflowContext());
+    }
+
+    @Override
+    public CompletableFuture<Void> onWorkflowCancelled(WorkflowCancelledEvent ev) {
+        return release(ev.workflowContext());
+    }
+
+    private CompletableFuture<Void> release(WorkflowContextData workflowContext) {
+        controller.release(workflowContext.instanceData().id());
+        return CompletableFuture.completedFuture(null);
+    }
+}
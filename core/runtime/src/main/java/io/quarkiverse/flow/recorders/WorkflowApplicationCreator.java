@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
@@ -26,14 +27,19 @@ import io.quarkiverse.flow.providers.FaultToleranceProvider;
 import io.quarkiverse.flow.providers.HttpClientProvider;
 import io.quarkiverse.flow.providers.JQScopeSupplier;
 import io.quarkiverse.flow.providers.QuarkusManagedExecutorServiceFactory;
+import io.quarkiverse.flow.providers.TaskConcurrencyLimiter;
+import io.quarkiverse.flow.providers.WorkflowAdmissionController;
+import io.quarkiverse.flow.providers.WorkflowAdmissionListener;
 import io.quarkiverse.flow.providers.WorkflowTaskContext;
 import io.quarkiverse.flow.tracing.TraceLoggerExecutionListener;
 import io.quarkus.runtime.LaunchMode;
 import io.serverlessworkflow.api.types.CallHTTP;
 import io.serverlessworkflow.api.types.CallOpenAPI;
 import io.serverlessworkflow.api.types.TaskBase;
+import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowApplication;
 import io.serverlessworkflow.impl.WorkflowApplication.Builder;
+import io.serverlessworkflow.impl.WorkflowContext;
 import io.serverlessworkflow.impl.WorkflowModel;
 import io.serverlessworkflow.impl.config.ConfigManager;
 import io.serverlessworkflow.impl.config.SecretManager;
@@ -65,6 +71,12 @@ public class WorkflowApplicationCreator {
     @Inject
     FaultToleranceProvider faultToleranceProvider;
 
+    @Inject
+    TaskConcurrencyLimiter concurrencyLimiter;
+
+    @Inject
+    WorkflowAdmissionController admissionController;
+
     @Inject
     @Any
     Instance<WorkflowExecutionListener> executionListeners;
@@ -129,6 +141,7 @@ public class WorkflowApplicationCreator {
         injectHttpClientProvider(builder);
         injectMicrometerListener(builder);
         injectFaultTolerance(builder);
+        injectAdmissionControl(builder);
         injectCustomListeners(builder);
 
         customizers.stream().forEachOrdered(customizer -> customizer.customize(builder));
@@ -243,28 +256,55 @@ public class WorkflowApplicationCreator {
         }
     }
 
+    private void injectAdmissionControl(Builder builder) {
+        if (admissionController.isEnabled()) {
+            builder.withListener(new WorkflowAdmissionListener(admissionController));
+            LOG.debug("Flow: Limiting running instances per workflow definition");
+        }
+    }
+
     private void injectJQExpressionFactory(Builder builder) {
         builder.withExpressionFactory(new JQExpressionFactory(jqScopeSupplier));
     }
 
     private void injectFaultTolerance(Builder builder) {
         LOG.debug("Flow: Bound FaultToleranceProvider bean: {}", faultToleranceProvider.getClass().getName());
+        final boolean limited = concurrencyLimiter.isEnabled();
+        if (limited) {
+            LOG.debug("Flow: Limiting concurrent call tasks per workflow definition");
+        }
         builder.withCallableProxy(new CallableTaskProxyBuilder() {
             @Override
             public CallableTask build(CallableTask delegate) {
                 return (workflowContext, taskContext, input) -> {
-                    TypedGuard<CompletionStage<WorkflowModel>> guard = faultToleranceProvider
-                            .guardFor(new WorkflowTaskContext(workflowContext.definition().id(),
-                                    taskContext.taskName()));
-
-                    return guard.get(() -> delegate.apply(workflowContext, taskContext, input)).toCompletableFuture();
+                    if (!limited) {
+                        return guarded(delegate, workflowContext, taskContext, input);
+                    }
+                    return concurrencyLimiter.submit(workflowContext.definition().id(),
+                            () -> guarded(delegate, workflowContext, taskContext, input));
                 };
             }
 
             @Override
             public boolean accept(TaskBase taskBase) {
-                return taskBase instanceof CallHTTP || taskBase instanceof CallOpenAPI;
+                return limited || isFaultTolerant(taskBase);
             }
         });
     }
+
+    private CompletableFuture<WorkflowModel> guarded(CallableTask delegate, WorkflowContext workflowContext,
+            TaskContext taskContext, WorkflowModel input) {
+        if (!isFaultTolerant(taskContext.task())) {
+            return delegate.apply(workflowContext, taskContext, input);
+        }
+        TypedGuard<CompletionStage<WorkflowModel>> guard = faultToleranceProvider
+                .guardFor(new WorkflowTaskContext(workflowContext.definition().id(),
+                        taskContext.taskName()));
+
+        return guard.get(() -> delegate.apply(workflowContext, taskContext, input)).toCompletableFuture();
+    }
+
+    private static boolean isFaultTolerant(TaskBase taskBase) {
+        return taskBase instanceof CallHTTP || taskBase instanceof CallOpenAPI;
+    }
 }
@@ -59,8 +59,11 @@ public class WorkflowDefinitionRecorder {
      * <p>
      * This method records only the resource path (not the full content) in bytecode, significantly reducing
      * the bytecode size and avoiding MethodTooLargeException when registering many workflows.
+     * <p>
+     * Workflows bundled in the application are parsed and validated at build time and written as compact JSON
+     * resources, so this reads JSON only, whatever the format of the original file.
      *
-     * @param resourcePath the classpath resource path (e.g., "flow/order-workflow.yaml")
+     * @param resourcePath the classpath resource path (e.g., "META-INF/quarkus-flow/workflows/flow/order-workflow.yaml.json")
      * @return a function that creates WorkflowDefinition instances by loading from classpath
      */
     public Function<SyntheticCreationalContext<WorkflowDefinition>, WorkflowDefinition> workflowDefinitionFromResourceCreator(
@@ -0,0 +1,190 @@
+package io.quarkiverse.flow.structuredlogging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkiverse.flow.config.FlowStructuredLoggingConfig.Async.OverflowPolicy;
+import io.quarkiverse.flow.metrics.FlowMetrics;
+
+/**
+ * Bounded, lock-free queue of formatted events drained in batches by a dedicated daemon thread.
+ * <p>
+ * Producers reserve a slot with a CAS on the queue size before enqueuing, so the queue never grows beyond its capacity
+ * and the workflow execution thread never takes a lock to log an event. Each batch is handed to the writer at once, so
+ * it is written and flushed as a whole.
+ */
+final class AsyncStructuredLogSink implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(AsyncStructuredLogSink.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final ConcurrentLinkedQueue<String> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final int capacity;
+    private final int highWatermark;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<List<String>> writer;
+    private final Thread drainer;
+
+    private volatile boolean running = true;
+
+    AsyncStructuredLogSink(int capacity, int batchSize, OverflowPolicy overflowPolicy, Consumer<List<String>> writer) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "quarkus.flow.structured-logging.async.queue-size must be greater than zero, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.highWatermark = Math.max(1, capacity - capacity / 4);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+        this.drainer = new Thread(this::drain, "flow-structured-logging");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * @return whether events should be formatted without payloads to relieve the queue.
+     */
+    boolean shouldDropPayloads() {
+        return overflowPolicy == OverflowPolicy.DROP_PAYLOADS && size.get() >= highWatermark;
+    }
+
+    void offer(String json) {
+        if (!running) {
+            // Late events after shutdown go straight to the handlers
+            write(List.of(json));
+            return;
+        }
+
+        int previous;
+        while ((previous = tryReserve()) < 0) {
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                if (!running) {
+                    // Nobody drains the queue any more, make room ourselves
+                    flush();
+                    continue;
+                }
+                LockSupport.unpark(drainer);
+                LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+            } else {
+                evictOldest();
+            }
+        }
+        queue.offer(json);
+        if (previous == 0) {
+            LockSupport.unpark(drainer);
+        }
+        if (!running) {
+            // The sink was closed while the event was enqueued, the drainer may already be gone
+            flush();
+        }
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+
+    void registerMetrics(String prefix, MeterRegistry registry) {
+        Gauge.builder(FlowMetrics.STRUCTURED_LOGGING_QUEUE_SIZE.prefixedWith(prefix), size, AtomicInteger::get)
+                .description("Structured logging events waiting to be written by the asynchronous sink")
+                .register(registry);
+
+        FunctionCounter.builder(FlowMetrics.STRUCTURED_LOGGING_DROPPED_TOTAL.prefixedWith(prefix), dropped, AtomicLong::get)
+                .description("Structured logging events dropped because the asynchronous sink queue was full")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Events enqueued by producers that saw the sink running after the drainer exited
+        flush();
+    }
+
+    /**
+     * @return the queue size before the reservation, or {@code -1} when the queue is full.
+     */
+    private int tryReserve() {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                return -1;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        return current;
+    }
+
+    private void evictOldest() {
+        if (queue.poll() != null) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+        } else {
+            // Slots are reserved but not enqueued yet, let the other producers catch up
+            Thread.onSpinWait();
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            if (writeBatch() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void flush() {
+        while (writeBatch() > 0) {
+            // written until the queue is empty
+        }
+    }
+
+    private int writeBatch() {
+        List<String> batch = new ArrayList<>(Math.min(batchSize, Math.max(1, size.get())));
+        String json;
+        while (batch.size() < batchSize && (json = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(json);
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+        return batch.size();
+    }
+
+    private void write(List<String> batch) {
+        try {
+            writer.accept(batch);
+        } catch (RuntimeException e) {
+            LOG.debugf(e, "Flow: Failed to write structured logging events");
+        }
+    }
+}
@@ -15,19 +15,20 @@ import static io.quarkiverse.flow.structuredlogging.StructuredLoggingEventTypes.
 import static io.quarkiverse.flow.structuredlogging.StructuredLoggingEventTypes.WORKFLOW_TASK_STARTED;
 import static io.quarkiverse.flow.structuredlogging.StructuredLoggingEventTypes.WORKFLOW_TASK_SUSPENDED;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkiverse.flow.config.FlowStructuredLoggingConfig;
 import io.quarkiverse.flow.config.TimestampFormat;
-import io.serverlessworkflow.impl.WorkflowDefinitionData;
+import io.serverlessworkflow.api.types.Document;
 import io.serverlessworkflow.impl.WorkflowError;
 import io.serverlessworkflow.impl.WorkflowStatus;
 import io.serverlessworkflow.impl.lifecycle.TaskCancelledEvent;
@@ -81,14 +82,26 @@ public class EventFormatter {
     private static final String FIELD_ORIGINAL_SIZE = "__originalSize__";
     private static final String FIELD_PREVIEW = "__preview__";
 
+    private static final ThreadLocal<JsonEventBuffer> BUFFER = ThreadLocal.withInitial(JsonEventBuffer::new);
+
     private final FlowStructuredLoggingConfig config;
     private final ObjectMapper objectMapper;
 
     private final DateTimeFormatter customDateFormat;
+    private final boolean includePayloads;
 
     public EventFormatter(FlowStructuredLoggingConfig config, ObjectMapper objectMapper) {
+        this(config, objectMapper, true);
+    }
+
+    /**
+     * @param includePayloads when {@code false}, input/output payloads are left out regardless of the configuration. Used
+     *        by the asynchronous sink to shed load.
+     */
+    EventFormatter(FlowStructuredLoggingConfig config, ObjectMapper objectMapper, boolean includePayloads) {
         this.config = config;
         this.objectMapper = objectMapper;
+        this.includePayloads = includePayloads;
 
         // Validate custom pattern if CUSTOM format is selected
         customDateFormat = config.timestampFormat() == TimestampFormat.CUSTOM
@@ -109,162 +122,187 @@ public class EventFormatter {
     // Workflow Instance Events
 
     public String formatWorkflowStarted(WorkflowStartedEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_STARTED, event);
-        WorkflowDefinitionData definition = event.workflowContext().definition();
-
-        json.put(FIELD_WORKFLOW_NAMESPACE, definition.workflow().getDocument().getNamespace());
-        json.put(FIELD_WORKFLOW_NAME, definition.workflow().getDocument().getName());
-        json.put(FIELD_WORKFLOW_VERSION, definition.workflow().getDocument().getVersion());
-        json.put(FIELD_STATUS, WorkflowStatus.RUNNING.name());
-        json.put(FIELD_START_TIME, formatTimestamp(event.eventDate()));
-
-        if (config.includeWorkflowPayloads()) {
-            Object input = event.workflowContext().instanceData().input();
-            json.put(FIELD_INPUT, handlePayload(input));
-        }
-
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_STARTED, event);
+            Document document = event.workflowContext().definition().workflow().getDocument();
+
+            gen.writeStringField(FIELD_WORKFLOW_NAMESPACE, document.getNamespace());
+            gen.writeStringField(FIELD_WORKFLOW_NAME, document.getName());
+            gen.writeStringField(FIELD_WORKFLOW_VERSION, document.getVersion());
+            gen.writeStringField(FIELD_STATUS, WorkflowStatus.RUNNING.name());
+            writeTimestampField(gen, FIELD_START_TIME, event.eventDate());
+
+            if (config.includeWorkflowPayloads()) {
+                writePayloadField(gen, FIELD_INPUT, event.workflowContext().instanceData().input());
+            }
+        });
     }
 
     public String formatWorkflowCompleted(WorkflowCompletedEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_COMPLETED, event);
-        json.put(FIELD_STATUS, WorkflowStatus.COMPLETED.name());
-        json.put(FIELD_END_TIME, formatTimestamp(event.eventDate()));
-
-        if (config.includeWorkflowPayloads())
-            json.put(FIELD_OUTPUT, handlePayload(event.output()));
-
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_COMPLETED, event);
+            gen.writeStringField(FIELD_STATUS, WorkflowStatus.COMPLETED.name());
+            writeTimestampField(gen, FIELD_END_TIME, event.eventDate());
+
+            if (config.includeWorkflowPayloads())
+                writePayloadField(gen, FIELD_OUTPUT, event.output());
+        });
     }
 
     public String formatWorkflowFailed(WorkflowFailedEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_FAULTED, event);
-        json.put(FIELD_STATUS, WorkflowStatus.FAULTED.name());
-        json.put(FIELD_END_TIME, formatTimestamp(event.eventDate()));
-
-        if (config.includeErrorContext()) {
-            json.put(FIELD_ERROR, truncateError(WorkflowError.error(event)));
-            // Include workflow input for debugging context
-            Object input = event.workflowContext().instanceData().input();
-            json.put(FIELD_INPUT, handlePayload(input));
-        }
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_FAULTED, event);
+            gen.writeStringField(FIELD_STATUS, WorkflowStatus.FAULTED.name());
+            writeTimestampField(gen, FIELD_END_TIME, event.eventDate());
+
+            if (config.includeErrorContext()) {
+                gen.writeObjectField(FIELD_ERROR, truncateError(WorkflowError.error(event)));
+                // Include workflow input for debugging context
+                writePayloadField(gen, FIELD_INPUT, event.workflowContext().instanceData().input());
+            }
+        });
     }
 
     public String formatWorkflowCancelled(WorkflowCancelledEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_CANCELLED, event);
-        json.put(FIELD_STATUS, WorkflowStatus.CANCELLED.name());
-        json.put(FIELD_END_TIME, formatTimestamp(event.eventDate()));
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_CANCELLED, event);
+            gen.writeStringField(FIELD_STATUS, WorkflowStatus.CANCELLED.name());
+            writeTimestampField(gen, FIELD_END_TIME, event.eventDate());
+        });
     }
 
     public String formatWorkflowSuspended(WorkflowSuspendedEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_SUSPENDED, event);
-        json.put(FIELD_STATUS, WorkflowStatus.SUSPENDED.name());
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_SUSPENDED, event);
+            gen.writeStringField(FIELD_STATUS, WorkflowStatus.SUSPENDED.name());
+        });
     }
 
     public String formatWorkflowResumed(WorkflowResumedEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_RESUMED, event);
-        json.put(FIELD_STATUS, WorkflowStatus.RUNNING.name());
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_RESUMED, event);
+            gen.writeStringField(FIELD_STATUS, WorkflowStatus.RUNNING.name());
+        });
     }
 
     public String formatWorkflowStatusChanged(WorkflowStatusEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(WORKFLOW_INSTANCE_STATUS_CHANGED, event);
-        json.put(FIELD_STATUS, event.workflowContext().instanceData().status().name());
-        json.put(FIELD_LAST_UPDATE_TIME, formatTimestamp(event.eventDate()));
-        return toJson(json);
+        return write(gen -> {
+            writeWorkflowEventFields(gen, WORKFLOW_INSTANCE_STATUS_CHANGED, event);
+            gen.writeStringField(FIELD_STATUS, event.workflowContext().instanceData().status().name());
+            writeTimestampField(gen, FIELD_LAST_UPDATE_TIME, event.eventDate());
+        });
     }
 
     // Task Events
 
     public String formatTaskStarted(TaskStartedEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_STARTED, event);
-        json.put(FIELD_STATUS, TASK_STATUS_RUNNING);
-        json.put(FIELD_START_TIME, formatTimestamp(event.eventDate()));
-
-        if (config.includeTaskPayloads()) {
-            Object input = event.taskContext().input();
-            json.put(FIELD_INPUT, handlePayload(input));
-        }
+        return write(gen -> {
+            writeTaskEventFields(gen, WORKFLOW_TASK_STARTED, event);
+            gen.writeStringField(FIELD_STATUS, TASK_STATUS_RUNNING);
+            writeTimestampField(gen, FIELD_START_TIME, event.eventDate());
 
-        return toJson(json);
+            if (config.includeTaskPayloads()) {
+                writePayloadField(gen, FIELD_INPUT, event.taskContext().input());
+            }
+        });
     }
 
     public String formatTaskCompleted(TaskCompletedEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_COMPLETED, event);
-        json.put(FIELD_STATUS, TASK_STATUS_COMPLETED);
-        json.put(FIELD_END_TIME, formatTimestamp(event.eventDate()));
-
-        if (config.includeTaskPayloads()) {
-            Object output = event.taskContext().output();
-            json.put(FIELD_OUTPUT, handlePayload(output));
-        }
+        return write(gen -> {
+            writeTaskEventFields(gen, WORKFLOW_TASK_COMPLETED, event);
+            gen.writeStringField(FIELD_STATUS, TASK_STATUS_COMPLETED);
+            writeTimestampField(gen, FIELD_END_TIME, event.eventDate());
 
-        return toJson(json);
+            if (config.includeTaskPayloads()) {
+                writePayloadField(gen, FIELD_OUTPUT, event.taskContext().output());
+            }
+        });
     }
 
     public String formatTaskFailed(TaskFailedEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_FAULTED, event);
-        json.put(FIELD_STATUS, TASK_STATUS_FAILED);
-        json.put(FIELD_END_TIME, formatTimestamp(event.eventDate()));
-
-        if (config.includeErrorContext()) {
-            json.put(FIELD_ERROR, truncateError(WorkflowError.error(event)));
+        return write(gen -> {
+            writeTaskEventFields(gen, WORKFLOW_TASK_FAULTED, event);
+            gen.writeStringField(FIELD_STATUS, TASK_STATUS_FAILED);
+            writeTimestampField(gen, FIELD_END_TIME, event.eventDate());
 
-            // Always include input on failures
-            Object input = event.taskContext().input();
-            json.put(FIELD_INPUT, handlePayload(input));
-        }
+            if (config.includeErrorContext()) {
+                gen.writeObjectField(FIELD_ERROR, truncateError(WorkflowError.error(event)));
 
-        return toJson(json);
+                // Always include input on failures
+                writePayloadField(gen, FIELD_INPUT, event.taskContext().input());
+            }
+        });
     }
 
     public String formatTaskCancelled(TaskCancelledEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_CANCELLED, event);
-        json.put(FIELD_STATUS, TASK_STATUS_CANCELLED);
-        json.put(FIELD_END_TIME, formatTimestamp(event.eventDate()));
-        return toJson(json);
+        return write(gen -> {
+            writeTaskEventFields(gen, WORKFLOW_TASK_CANCELLED, event);
+            gen.writeStringField(FIELD_STATUS, TASK_STATUS_CANCELLED);
+            writeTimestampField(gen, FIELD_END_TIME, event.eventDate());
+        });
     }
 
     public String formatTaskSuspended(TaskSuspendedEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_SUSPENDED, event);
-        json.put(FIELD_STATUS, TASK_STATUS_SUSPENDED);
-        return toJson(json);
+        return write(gen -> {
+            writeTaskEventFields(gen, WORKFLOW_TASK_SUSPENDED, event);
+            gen.writeStringField(FIELD_STATUS, TASK_STATUS_SUSPENDED);
+        });
     }
 
     public String formatTaskResumed(TaskResumedEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_RESUMED, event);
-        json.put(FIELD_STATUS, TASK_STATUS_RUNNING);
-        return toJson(json);
+        return write(gen -> {
+            writeTaskEventFields(gen, WORKFLOW_TASK_RESUMED, event);
+            gen.writeStringField(FIELD_STATUS, TASK_STATUS_RUNNING);
+        });
     }
 
     public String formatTaskRetried(TaskRetriedEvent event) {
-        Map<String, Object> json = baseTaskEvent(WORKFLOW_TASK_RETRIED, event);
         // Note: retry count not available in event, would need to track separately
-        return toJson(json);
+        return write(gen -> writeTaskEventFields(gen, WORKFLOW_TASK_RETRIED, event));
     }
 
     // Helper Methods
 
-    private Map<String, Object> baseWorkflowEvent(String filterKey, WorkflowEvent event) {
-        Map<String, Object> json = new HashMap<>();
+    @FunctionalInterface
+    private interface FieldsWriter {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    /**
+     * Writes a single event object into the thread's {@link JsonEventBuffer}, so the event is serialized exactly once.
+     */
+    private String write(FieldsWriter fields) {
+        JsonEventBuffer buffer = BUFFER.get();
+        buffer.reset();
+        try (JsonGenerator gen = objectMapper.createGenerator(buffer, JsonEncoding.UTF8)) {
+            gen.writeStartObject();
+            fields.write(gen);
+            gen.writeEndObject();
+        } catch (IOException e) {
+            // Fallback to simple string representation
+            return "{\"error\":\"Failed to serialize event: " + e.getMessage() + "\"}";
+        }
+        return buffer.toString();
+    }
+
+    private void writeWorkflowEventFields(JsonGenerator gen, String filterKey, WorkflowEvent event) throws IOException {
         // Use official CloudEvent type from Open Workflow specification
-        json.put(FIELD_EVENT_TYPE, StructuredLoggingEventTypes.toCloudEventType(filterKey));
-        json.put(FIELD_TIMESTAMP, formatTimestamp(event.eventDate()));
-        json.put(FIELD_INSTANCE_ID, event.workflowContext().instanceData().id());
-        return json;
+        gen.writeStringField(FIELD_EVENT_TYPE, StructuredLoggingEventTypes.toCloudEventType(filterKey));
+        writeTimestampField(gen, FIELD_TIMESTAMP, event.eventDate());
+        gen.writeStringField(FIELD_INSTANCE_ID, event.workflowContext().instanceData().id());
     }
 
-    private Map<String, Object> baseTaskEvent(String filterKey, TaskEvent event) {
-        Map<String, Object> json = baseWorkflowEvent(filterKey, event);
-        json.put(FIELD_TASK_EXECUTION_ID, generateTaskExecutionId(event));
-        json.put(FIELD_TASK_NAME, event.taskContext().taskName());
-        json.put(FIELD_TASK_POSITION, event.taskContext().position().jsonPointer());
+    private void writeTaskEventFields(JsonGenerator gen, String filterKey, TaskEvent event) throws IOException {
+        writeWorkflowEventFields(gen, filterKey, event);
+        gen.writeStringField(FIELD_TASK_EXECUTION_ID, generateTaskExecutionId(event));
+        gen.writeStringField(FIELD_TASK_NAME, event.taskContext().taskName());
+        gen.writeStringField(FIELD_TASK_POSITION, event.taskContext().position().jsonPointer());
         // Note: taskType inference would require parsing the workflow definition
         // For now, omit it or add in future enhancement
-        return json;
+    }
+
+    private void writeTimestampField(JsonGenerator gen, String fieldName, OffsetDateTime timestamp) throws IOException {
+        gen.writeObjectField(fieldName, formatTimestamp(timestamp));
     }
 
     private String generateTaskExecutionId(TaskEvent event) {
@@ -292,30 +330,69 @@ public class EventFormatter {
         };
     }
 
-    private Object handlePayload(Object payload) {
+    /**
+     * Streams the payload into the event, bounded by {@link FlowStructuredLoggingConfig#payloadMaxSize()}.
+     * <p>
+     * The payload is serialized by the event generator itself, in the same pass as the rest of the event. The event
+     * buffer stops storing its bytes past the bound and only counts them, so a payload that turns out to be too large is
+     * never materialized: its bytes are then replaced by a truncation marker, whose {@code __originalSize__} is the size
+     * in bytes of the UTF-8 JSON payload and whose {@code __preview__} never ends with a partial character.
+     */
+    private void writePayloadField(JsonGenerator gen, String fieldName, Object payload) throws IOException {
+        if (!includePayloads) {
+            return;
+        }
         if (payload == null) {
-            return null;
+            gen.writeNullField(fieldName);
+            return;
+        }
+        if (!objectMapper.canSerialize(payload.getClass())) {
+            writeFallbackPayload(gen, fieldName, payload.toString());
+            return;
         }
 
-        try {
-            String json = objectMapper.writeValueAsString(payload);
-            int size = json.getBytes().length;
-
-            if (size <= config.payloadMaxSize()) {
-                // Return as-is (will be serialized again, but keeps type info)
-                return payload;
-            } else {
-                // Truncate
-                return truncatePayload(json, size);
+        gen.writeFieldName(fieldName);
+        // The bound starts right after the field name, once the generator has handed it over to the buffer
+        gen.flush();
+        JsonEventBuffer buffer = (JsonEventBuffer) gen.getOutputTarget();
+        buffer.mark(config.payloadMaxSize());
+        objectMapper.writeValue(gen, payload);
+        gen.flush();
+
+        if (buffer.overflowed()) {
+            String preview = buffer.preview(config.truncatePreviewSize());
+            long originalSize = buffer.writtenSinceMark();
+            // The generator already accounted for the field value, the marker only takes over its bytes
+            buffer.rewindToMark();
+            try (JsonGenerator markerGen = objectMapper.createGenerator(buffer, JsonEncoding.UTF8)) {
+                writeTruncatedPayload(markerGen, originalSize, preview);
             }
-        } catch (JsonProcessingException e) {
-            // Fallback to toString if serialization fails
-            String str = payload.toString();
-            if (str.length() > config.payloadMaxSize()) {
-                return truncatePayload(str, str.length());
+        } else {
+            buffer.clearMark();
+        }
+    }
+
+    private void writeFallbackPayload(JsonGenerator gen, String fieldName, String str) throws IOException {
+        gen.writeFieldName(fieldName);
+        // measured in UTF-8 bytes, as serialized payloads are
+        int size = str.getBytes(StandardCharsets.UTF_8).length;
+        if (size > config.payloadMaxSize()) {
+            int previewSize = Math.min(config.truncatePreviewSize(), str.length());
+            if (previewSize > 0 && Character.isHighSurrogate(str.charAt(previewSize - 1))) {
+                previewSize--;
             }
-            return str;
+            writeTruncatedPayload(gen, size, str.substring(0, previewSize));
+            return;
         }
+        gen.writeString(str);
+    }
+
+    private void writeTruncatedPayload(JsonGenerator gen, long originalSize, String preview) throws IOException {
+        gen.writeStartObject();
+        gen.writeBooleanField(FIELD_TRUNCATED, true);
+        gen.writeNumberField(FIELD_ORIGINAL_SIZE, originalSize);
+        gen.writeStringField(FIELD_PREVIEW, preview);
+        gen.writeEndObject();
     }
 
     private WorkflowError truncateError(WorkflowError error) {
@@ -333,24 +410,4 @@ public class EventFormatter {
         }
         return error;
     }
-
-    private Map<String, Object> truncatePayload(String json, int originalSize) {
-        Map<String, Object> truncated = new HashMap<>();
-        truncated.put(FIELD_TRUNCATED, true);
-        truncated.put(FIELD_ORIGINAL_SIZE, originalSize);
-
-        int previewSize = Math.min(config.truncatePreviewSize(), json.length());
-        truncated.put(FIELD_PREVIEW, json.substring(0, previewSize));
-
-        return truncated;
-    }
-
-    private String toJson(Map<String, Object> map) {
-        try {
-            return objectMapper.writeValueAsString(map);
-        } catch (JsonProcessingException e) {
-            // Fallback to simple string representation
-            return "{\"error\":\"Failed to serialize event: " + e.getMessage() + "\"}";
-        }
-    }
 }
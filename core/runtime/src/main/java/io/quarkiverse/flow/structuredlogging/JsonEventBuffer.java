@@ -0,0 +1,137 @@
+package io.quarkiverse.flow.structuredlogging;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable UTF-8 sink for structured logging events and their payloads.
+ * <p>
+ * Instances are kept per thread by {@link EventFormatter}, and reused for every event formatted by that thread. A region
+ * of the buffer can be bounded with {@link #mark(int)}: bytes written past the bound are counted but not stored, which
+ * lets large payloads be measured and truncated without ever being fully materialized.
+ */
+final class JsonEventBuffer extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    // Buffers grown by a very large event are dropped instead of being retained by the thread forever
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private byte[] buf = new byte[INITIAL_CAPACITY];
+    private int count;
+
+    private int mark = -1;
+    private int limit = Integer.MAX_VALUE;
+    private long writtenSinceMark;
+
+    void reset() {
+        if (buf.length > MAX_RETAINED_CAPACITY) {
+            buf = new byte[INITIAL_CAPACITY];
+        }
+        count = 0;
+        clearMark();
+    }
+
+    /**
+     * Starts a bounded region at the current position. At most {@code maxBytes} bytes are stored until
+     * {@link #clearMark()} or {@link #rewindToMark()} is called.
+     */
+    void mark(int maxBytes) {
+        mark = count;
+        limit = maxBytes < 0 || count + maxBytes < 0 ? Integer.MAX_VALUE : count + maxBytes;
+        writtenSinceMark = 0;
+    }
+
+    /**
+     * @return the number of bytes written since {@link #mark(int)}, including the ones that were not stored.
+     */
+    long writtenSinceMark() {
+        return writtenSinceMark;
+    }
+
+    /**
+     * @return whether more bytes than the bound given to {@link #mark(int)} were written.
+     */
+    boolean overflowed() {
+        return writtenSinceMark > (long) limit - mark;
+    }
+
+    /**
+     * @return the first {@code maxChars} characters stored since the mark. A character split by the bound is left out,
+     *         and so is a surrogate pair split by {@code maxChars}.
+     */
+    String preview(int maxChars) {
+        String stored = new String(buf, mark, completeCharactersEnd() - mark, StandardCharsets.UTF_8);
+        if (stored.length() <= maxChars) {
+            return stored;
+        }
+        int end = Math.max(0, maxChars);
+        if (end > 0 && Character.isHighSurrogate(stored.charAt(end - 1))) {
+            end--;
+        }
+        return stored.substring(0, end);
+    }
+
+    // End of the stored bytes, without the trailing bytes of a UTF-8 sequence cut by the bound
+    private int completeCharactersEnd() {
+        int start = count - 1;
+        while (start > mark && (buf[start] & 0xC0) == 0x80) {
+            start--;
+        }
+        if (start < mark) {
+            return count;
+        }
+        int lead = buf[start] & 0xFF;
+        int length = lead < 0x80 ? 1 : lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        return start + length > count ? start : count;
+    }
+
+    /**
+     * Discards everything written since the mark and removes the bound.
+     */
+    void rewindToMark() {
+        count = mark;
+        clearMark();
+    }
+
+    void clearMark() {
+        mark = -1;
+        limit = Integer.MAX_VALUE;
+        writtenSinceMark = 0;
+    }
+
+    @Override
+    public void write(int b) {
+        if (mark >= 0) {
+            writtenSinceMark++;
+        }
+        if (count < limit) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (mark >= 0) {
+            writtenSinceMark += len;
+        }
+        int stored = Math.min(len, limit - count);
+        if (stored > 0) {
+            ensureCapacity(count + stored);
+            System.arraycopy(b, off, buf, count, stored);
+            count += stored;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new String(buf, 0, count, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkiverse.flow.structuredlogging;
 
 import java.util.Map;
+import java.util.Set;
 
 import io.serverlessworkflow.impl.LifecycleEvents;
 
@@ -81,6 +82,13 @@ final class StructuredLoggingEventTypes {
             Map.entry(WORKFLOW_TASK_RESUMED, LifecycleEvents.TASK_RESUMED),
             Map.entry(WORKFLOW_TASK_RETRIED, LifecycleEvents.TASK_RETRIED));
 
+    /**
+     * @return every filter key known to structured logging.
+     */
+    static Set<String> filterKeys() {
+        return FILTER_TO_CLOUDEVENT_TYPE.keySet();
+    }
+
     /**
      * Maps a filter key (simplified event type) to the official Open Workflow CloudEvent type.
      *
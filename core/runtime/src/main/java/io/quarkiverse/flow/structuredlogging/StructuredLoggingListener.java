@@ -15,8 +15,12 @@ import static io.quarkiverse.flow.structuredlogging.StructuredLoggingEventTypes.
 import static io.quarkiverse.flow.structuredlogging.StructuredLoggingEventTypes.WORKFLOW_TASK_STARTED;
 import static io.quarkiverse.flow.structuredlogging.StructuredLoggingEventTypes.WORKFLOW_TASK_SUSPENDED;
 
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Handler;
+import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
@@ -26,7 +30,10 @@ import org.jboss.logmanager.formatters.PatternFormatter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Metrics;
+import io.quarkiverse.flow.config.FlowMetricsConfig;
 import io.quarkiverse.flow.config.FlowStructuredLoggingConfig;
+import io.quarkiverse.flow.config.FlowStructuredLoggingConfig.Async.OverflowPolicy;
 import io.quarkus.arc.lookup.LookupIfProperty;
 import io.serverlessworkflow.impl.lifecycle.TaskCancelledEvent;
 import io.serverlessworkflow.impl.lifecycle.TaskCompletedEvent;
@@ -56,14 +63,54 @@ public class StructuredLoggingListener implements WorkflowExecutionListener {
 
     private final FlowStructuredLoggingConfig config;
     private final EventFormatter formatter;
+    private final EventFormatter formatterWithoutPayloads;
+    private final Logger.Level level;
+    private final AsyncStructuredLogSink sink;
+    private final boolean enabled;
+    private final List<String> patterns;
+    // Known event types matched by the configured patterns, resolved once instead of on every event
+    private final Set<String> loggedEventTypes;
 
     // Volatile flag to ensure we only override the formatters once
     private volatile boolean formatterOverridden = false;
 
     @Inject
+    public StructuredLoggingListener(FlowStructuredLoggingConfig config, ObjectMapper objectMapper,
+            FlowMetricsConfig metricsConfig) {
+        this(config, objectMapper);
+        if (sink != null && metricsConfig.enabled().orElse(true)) {
+            sink.registerMetrics(metricsConfig.prefix().orElse(FlowMetricsConfig.DEFAULT_PREFIX), Metrics.globalRegistry);
+        }
+    }
+
     public StructuredLoggingListener(FlowStructuredLoggingConfig config, ObjectMapper objectMapper) {
         this.config = config;
         this.formatter = new EventFormatter(config, objectMapper);
+        this.level = toLevel(config.logLevel());
+        this.enabled = config.enabled();
+        this.patterns = List.copyOf(config.events());
+        this.loggedEventTypes = StructuredLoggingEventTypes.filterKeys().stream()
+                .filter(this::matchesAnyPattern)
+                .collect(Collectors.toUnmodifiableSet());
+
+        FlowStructuredLoggingConfig.Async async = config.async();
+        if (enabled && async.enabled()) {
+            this.sink = new AsyncStructuredLogSink(async.queueSize(), async.batchSize(), async.overflowPolicy(),
+                    this::writeBatch);
+            this.formatterWithoutPayloads = async.overflowPolicy() == OverflowPolicy.DROP_PAYLOADS
+                    ? new EventFormatter(config, objectMapper, false)
+                    : formatter;
+        } else {
+            this.sink = null;
+            this.formatterWithoutPayloads = formatter;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (sink != null) {
+            sink.close();
+        }
     }
 
     // Workflow Instance Events
@@ -71,49 +118,49 @@ public class StructuredLoggingListener implements WorkflowExecutionListener {
     @Override
     public void onWorkflowStarted(WorkflowStartedEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_STARTED)) {
-            log(formatter.formatWorkflowStarted(event));
+            log(formatter().formatWorkflowStarted(event));
         }
     }
 
     @Override
     public void onWorkflowCompleted(WorkflowCompletedEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_COMPLETED)) {
-            log(formatter.formatWorkflowCompleted(event));
+            log(formatter().formatWorkflowCompleted(event));
         }
     }
 
     @Override
     public void onWorkflowFailed(WorkflowFailedEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_FAULTED)) {
-            log(formatter.formatWorkflowFailed(event));
+            log(formatter().formatWorkflowFailed(event));
         }
     }
 
     @Override
     public void onWorkflowCancelled(WorkflowCancelledEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_CANCELLED)) {
-            log(formatter.formatWorkflowCancelled(event));
+            log(formatter().formatWorkflowCancelled(event));
         }
     }
 
     @Override
     public void onWorkflowSuspended(WorkflowSuspendedEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_SUSPENDED)) {
-            log(formatter.formatWorkflowSuspended(event));
+            log(formatter().formatWorkflowSuspended(event));
         }
     }
 
     @Override
     public void onWorkflowResumed(WorkflowResumedEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_RESUMED)) {
-            log(formatter.formatWorkflowResumed(event));
+            log(formatter().formatWorkflowResumed(event));
         }
     }
 
     @Override
     public void onWorkflowStatusChanged(WorkflowStatusEvent event) {
         if (shouldLog(WORKFLOW_INSTANCE_STATUS_CHANGED)) {
-            log(formatter.formatWorkflowStatusChanged(event));
+            log(formatter().formatWorkflowStatusChanged(event));
         }
     }
 
@@ -122,49 +169,49 @@ public class StructuredLoggingListener implements WorkflowExecutionListener {
     @Override
     public void onTaskStarted(TaskStartedEvent event) {
         if (shouldLog(WORKFLOW_TASK_STARTED)) {
-            log(formatter.formatTaskStarted(event));
+            log(formatter().formatTaskStarted(event));
         }
     }
 
     @Override
     public void onTaskCompleted(TaskCompletedEvent event) {
         if (shouldLog(WORKFLOW_TASK_COMPLETED)) {
-            log(formatter.formatTaskCompleted(event));
+            log(formatter().formatTaskCompleted(event));
         }
     }
 
     @Override
     public void onTaskFailed(TaskFailedEvent event) {
         if (shouldLog(WORKFLOW_TASK_FAULTED)) {
-            log(formatter.formatTaskFailed(event));
+            log(formatter().formatTaskFailed(event));
         }
     }
 
     @Override
     public void onTaskCancelled(TaskCancelledEvent event) {
         if (shouldLog(WORKFLOW_TASK_CANCELLED)) {
-            log(formatter.formatTaskCancelled(event));
+            log(formatter().formatTaskCancelled(event));
         }
     }
 
     @Override
     public void onTaskSuspended(TaskSuspendedEvent event) {
         if (shouldLog(WORKFLOW_TASK_SUSPENDED)) {
-            log(formatter.formatTaskSuspended(event));
+            log(formatter().formatTaskSuspended(event));
         }
     }
 
     @Override
     public void onTaskResumed(TaskResumedEvent event) {
         if (shouldLog(WORKFLOW_TASK_RESUMED)) {
-            log(formatter.formatTaskResumed(event));
+            log(formatter().formatTaskResumed(event));
         }
     }
 
     @Override
     public void onTaskRetried(TaskRetriedEvent event) {
         if (shouldLog(WORKFLOW_TASK_RETRIED)) {
-            log(formatter.formatTaskRetried(event));
+            log(formatter().formatTaskRetried(event));
         }
     }
 
@@ -207,11 +254,22 @@ public class StructuredLoggingListener implements WorkflowExecutionListener {
     }
 
     private boolean shouldLog(String eventType) {
-        if (!config.enabled())
+        if (!enabled)
             return false;
 
-        return config.events().stream()
-                .anyMatch(pattern -> matchesPattern(eventType, pattern));
+        if (loggedEventTypes.contains(eventType))
+            return true;
+
+        // Known event types are fully resolved at construction, only unknown ones go through the patterns
+        return !StructuredLoggingEventTypes.filterKeys().contains(eventType) && matchesAnyPattern(eventType);
+    }
+
+    private boolean matchesAnyPattern(String eventType) {
+        for (String pattern : patterns) {
+            if (matchesPattern(eventType, pattern))
+                return true;
+        }
+        return false;
     }
 
     private boolean matchesPattern(String eventType, String pattern) {
@@ -224,27 +282,44 @@ public class StructuredLoggingListener implements WorkflowExecutionListener {
         return eventType.equals(pattern);
     }
 
+    private EventFormatter formatter() {
+        return sink != null && sink.shouldDropPayloads() ? formatterWithoutPayloads : formatter;
+    }
+
     private void log(String json) {
+        if (sink != null) {
+            sink.offer(json);
+        } else {
+            write(json);
+        }
+    }
+
+    private void write(String json) {
         // Intercept right before logging to ensure handlers are firmly attached
         overrideFormatterIfNeeded();
 
+        LOG.log(level, json);
+    }
+
+    private void writeBatch(List<String> batch) {
+        // One record per batch, holding one event per line, so the handlers write and flush the batch at once
+        write(batch.size() == 1 ? batch.get(0) : String.join(System.lineSeparator(), batch));
+    }
+
+    private static Logger.Level toLevel(String logLevel) {
         // Log according to configured level
-        switch (config.logLevel().toUpperCase()) {
+        switch (logLevel.toUpperCase()) {
             case "TRACE":
-                LOG.trace(json);
-                break;
+                return Logger.Level.TRACE;
             case "DEBUG":
-                LOG.debug(json);
-                break;
+                return Logger.Level.DEBUG;
             case "WARN":
-                LOG.warn(json);
-                break;
+                return Logger.Level.WARN;
             case "ERROR":
-                LOG.error(json);
-                break;
+                return Logger.Level.ERROR;
             case "INFO":
             default:
-                LOG.info(json);
+                return Logger.Level.INFO;
         }
     }
 }
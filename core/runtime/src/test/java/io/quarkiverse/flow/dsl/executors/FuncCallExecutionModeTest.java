@@ -0,0 +1,63 @@
+package io.quarkiverse.flow.dsl.executors;
+
+import static io.quarkiverse.flow.dsl.FlowDSL.function;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.dsl.FlowWorkflowBuilder;
+import io.quarkiverse.flow.dsl.types.ExecutionMode;
+import io.serverlessworkflow.api.types.Workflow;
+import io.serverlessworkflow.impl.WorkflowApplication;
+
+public class FuncCallExecutionModeTest {
+
+    @Test
+    void inline_typed_function_runs_on_the_calling_thread() {
+        AtomicReference<Thread> untypedThread = new AtomicReference<>();
+        AtomicReference<Thread> inlineThread = new AtomicReference<>();
+        Workflow workflow = FlowWorkflowBuilder.workflow("inline")
+                .tasks(
+                        function("untyped", (Integer value) -> {
+                            untypedThread.set(Thread.currentThread());
+                            return value + 1;
+                        }, Integer.class),
+                        function("inlined", (Integer value) -> {
+                            inlineThread.set(Thread.currentThread());
+                            return value * 2;
+                        }, Integer.class, Integer.class).executionMode(ExecutionMode.INLINE))
+                .build();
+
+        try (WorkflowApplication app = WorkflowApplication.builder().build()) {
+            Integer result = app.workflowDefinition(workflow).instance(1).start().join().as(Integer.class)
+                    .orElseThrow();
+            Assertions.assertEquals(4, result);
+            Assertions.assertSame(untypedThread.get(), inlineThread.get());
+        }
+    }
+
+    @Test
+    void offloaded_functions_complete() {
+        Workflow workflow = FlowWorkflowBuilder.workflow("offloaded")
+                .tasks(
+                        function("managed", (Integer value) -> value + 1, Integer.class)
+                                .executionMode(ExecutionMode.MANAGED),
+                        function("virtual", (Integer value) -> value * 2, Integer.class, Integer.class)
+                                .executionMode(ExecutionMode.VIRTUAL_THREAD))
+                .build();
+
+        try (WorkflowApplication app = WorkflowApplication.builder().build()) {
+            Integer result = app.workflowDefinition(workflow).instance(1).start().join().as(Integer.class)
+                    .orElseThrow();
+            Assertions.assertEquals(4, result);
+        }
+    }
+
+    @Test
+    void execution_mode_parses_configuration_values() {
+        Assertions.assertEquals(ExecutionMode.VIRTUAL_THREAD, ExecutionMode.from("virtual-thread"));
+        Assertions.assertEquals(ExecutionMode.INLINE, ExecutionMode.from(" inline "));
+    }
+}
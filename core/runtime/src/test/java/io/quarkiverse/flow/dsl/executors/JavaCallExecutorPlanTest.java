@@ -0,0 +1,66 @@
+package io.quarkiverse.flow.dsl.executors;
+
+import static io.quarkiverse.flow.dsl.FlowDSL.function;
+import static io.quarkiverse.flow.dsl.FlowDSL.tasks;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.dsl.FlowWorkflowBuilder;
+import io.quarkiverse.flow.dsl.configurers.FuncTaskConfigurer;
+import io.serverlessworkflow.api.types.Workflow;
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.smallrye.mutiny.Uni;
+
+public class JavaCallExecutorPlanTest {
+
+    private static final int STEPS = 20;
+
+    @Test
+    void pure_java_workflow_reuses_its_executors_across_instances() {
+        FuncTaskConfigurer[] steps = new FuncTaskConfigurer[STEPS];
+        for (int i = 0; i < STEPS; i++) {
+            steps[i] = i % 2 == 0
+                    ? function("typed" + i, (Integer value) -> value + 1, Integer.class, Integer.class)
+                    : function("untyped" + i, (Integer value) -> value + 1, Integer.class);
+        }
+        Workflow workflow = FlowWorkflowBuilder.workflow("twentySteps").tasks(tasks(steps)).build();
+
+        try (WorkflowApplication app = WorkflowApplication.builder().build()) {
+            WorkflowDefinition definition = app.workflowDefinition(workflow);
+            for (int i = 0; i < 100; i++) {
+                Integer result = definition.instance(i).start().join().as(Integer.class).orElseThrow();
+                Assertions.assertEquals(i + STEPS, result);
+            }
+        }
+    }
+
+    @Test
+    void untyped_results_are_converted_by_their_own_class() {
+        // the function returns a different class on every call, each with its own converter or none
+        Function<Integer, Object> alternating = value -> switch (value % 3) {
+            case 0 -> Uni.createFrom().item("uni-" + value);
+            case 1 -> new StringBuilder("builder-").append(value);
+            default -> value;
+        };
+        Workflow workflow = FlowWorkflowBuilder.workflow("alternating")
+                .tasks(function("alternate", alternating, Integer.class))
+                .build();
+
+        try (WorkflowApplication app = WorkflowApplication.builder().build()) {
+            WorkflowDefinition definition = app.workflowDefinition(workflow);
+            for (int i = 0; i < 12; i++) {
+                Object result = definition.instance(i).start().join().asJavaObject();
+                Object expected = switch (i % 3) {
+                    case 0 -> "uni-" + i;
+                    case 1 -> "builder-" + i;
+                    default -> i;
+                };
+                Assertions.assertEquals(expected, result);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkiverse.flow.dsl.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.serverlessworkflow.impl.WorkflowModel;
+
+class JavaModelTest {
+
+    @Test
+    void testPlainMapIsNotCopied() {
+        Map<String, Object> map = nested(4, 10);
+        JavaModel model = new JavaModel(map);
+
+        map.put("added", "later");
+
+        assertThat(model.asJavaObject()).isEqualTo(map);
+        assertThat(model.asMap()).hasValueSatisfying(view -> assertThat(view).containsEntry("added", "later"));
+    }
+
+    @Test
+    void testPlainCollectionIsNotCopied() {
+        List<Object> list = new ArrayList<>(List.of(nested(2, 5), "text", 3));
+        JavaModel model = new JavaModel(list);
+
+        list.add("later");
+
+        assertThat(model.asJavaObject()).isEqualTo(list);
+    }
+
+    @Test
+    void testSharedMapIsCopiedOnWrite() {
+        Map<String, Object> map = new HashMap<>(Map.of("name", "Javierito"));
+        JavaModel model = new JavaModel(map);
+
+        Map<String, Object> view = model.asMap().orElseThrow();
+        view.put("age", 3);
+        view.remove("name");
+
+        assertThat(map).containsExactly(Map.entry("name", "Javierito"));
+        assertThat(model.asMap()).hasValue(Map.of("age", 3));
+        assertThat(model.asJavaObject()).isEqualTo(Map.of("age", 3));
+    }
+
+    @Test
+    void testImmutableMapCanBeChangedThroughTheModel() {
+        JavaModel model = new JavaModel(Map.of("name", "Javierito"));
+
+        model.asMap().orElseThrow().merge("name", "!", (previous, suffix) -> previous + (String) suffix);
+
+        assertThat(model.asMap()).hasValue(Map.of("name", "Javierito!"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testJavaObjectIsCopiedOnWrite() {
+        Map<String, Object> map = new HashMap<>(Map.of("name", "Javierito"));
+        List<Object> list = List.of("first");
+        JavaModel listModel = new JavaModel(list);
+
+        ((Map<String, Object>) new JavaModel(map).asJavaObject()).put("age", 3);
+        ((List<Object>) listModel.asJavaObject()).add("second");
+
+        assertThat(map).containsOnlyKeys("name");
+        assertThat(list).containsExactly("first");
+        assertThat(listModel.asJavaObject()).isEqualTo(List.of("first", "second"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOtherCollectionsAreReadOnly() {
+        Set<Object> set = new HashSet<>(Set.of("first"));
+        Collection<Object> view = (Collection<Object>) new JavaModel(set).asJavaObject();
+
+        assertThatThrownBy(() -> view.add("second")).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(set).containsExactly("first");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOnlyBranchesHoldingModelsAreCopied() {
+        Map<String, Object> plain = nested(2, 5);
+        Map<String, Object> withModel = new HashMap<>(Map.of("model", new JavaModel(Map.of("name", "Javierito"))));
+        Map<String, Object> map = Map.of("plain", plain, "withModel", withModel,
+                "list", Arrays.asList("first", new JavaModel(2)));
+
+        Map<String, Object> unwrapped = (Map<String, Object>) new JavaModel(map).asJavaObject();
+
+        assertThat(unwrapped).isNotSameAs(map);
+        assertThat(unwrapped.get("plain")).isSameAs(plain);
+        assertThat(unwrapped.get("withModel")).isEqualTo(Map.of("model", Map.of("name", "Javierito")));
+        assertThat(unwrapped.get("list")).isEqualTo(List.of("first", 2));
+        assertThat(withModel.get("model")).isInstanceOf(WorkflowModel.class);
+    }
+
+    @Test
+    void testSharedCollectionIsCopiedOnWrite() {
+        List<Object> list = List.of("first");
+        JavaModelCollection collection = new JavaModelCollection(list);
+
+        collection.add(new JavaModel("second"));
+
+        assertThat(list).containsExactly("first");
+        assertThat(collection.asJavaObject()).isEqualTo(new ArrayList<>(List.of("first", "second")));
+    }
+
+    private static Map<String, Object> nested(int depth, int width) {
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < width; i++) {
+            map.put("key" + i, depth == 0 ? "value" + i : nested(depth - 1, width));
+        }
+        return map;
+    }
+}
@@ -0,0 +1,112 @@
+package io.quarkiverse.flow.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+class WorkflowDefinitionIndexTest {
+
+    private final Map<WorkflowDefinitionId, WorkflowDefinition> definitions = new HashMap<>();
+    private WorkflowDefinitionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        WorkflowApplication application = mock(WorkflowApplication.class);
+        when(application.workflowDefinitions()).thenReturn(definitions);
+        index = new WorkflowDefinitionIndex(application);
+    }
+
+    @Test
+    void latest_uses_semantic_version_order() {
+        WorkflowDefinition v9 = register("ns", "wf", "9.0.0");
+        WorkflowDefinition v10 = register("ns", "wf", "10.0.0");
+        register("ns", "other", "11.0.0");
+        register("other", "wf", "12.0.0");
+
+        assertThat(index.latest("ns", "wf")).contains(v10);
+        assertThat(index.latest("ns", "missing")).isEmpty();
+        assertThat(index.latest("missing", "wf")).isEmpty();
+        assertThat(index.namespace("ns")).containsExactlyInAnyOrder(v9, v10, definitions.get(id("ns", "other", "11.0.0")));
+    }
+
+    @Test
+    void definitions_registered_through_the_registrar_are_indexed_incrementally() {
+        register("ns", "wf", "1.0.0");
+        assertThat(index.latest("ns", "wf")).isPresent();
+
+        WorkflowDefinition v2 = definition("ns", "wf", "2.0.0");
+        definitions.put(v2.id(), v2);
+        index.add(v2);
+
+        assertThat(index.latest("ns", "wf")).contains(v2);
+    }
+
+    @Test
+    void definitions_registered_outside_the_registrar_are_picked_up() {
+        register("ns", "wf", "1.0.0");
+        assertThat(index.latest("ns", "wf")).isPresent();
+
+        WorkflowDefinition v2 = register("ns", "wf", "2.0.0");
+
+        assertThat(index.latest("ns", "wf")).contains(v2);
+    }
+
+    @Test
+    void definitions_registered_outside_the_registrar_are_kept_when_others_are_added_through_it() {
+        register("ns", "wf", "1.0.0");
+        assertThat(index.latest("ns", "wf")).isPresent();
+
+        WorkflowDefinition direct = register("ns", "wf", "3.0.0");
+        WorkflowDefinition registered = register("ns", "other", "1.0.0");
+        index.add(registered);
+
+        assertThat(index.latest("ns", "wf")).contains(direct);
+        assertThat(index.latest("ns", "other")).contains(registered);
+        assertThat(index.namespace("ns")).hasSize(3);
+    }
+
+    @Test
+    void latest_fails_on_invalid_version() {
+        register("ns", "wf", "1.0.0");
+        register("ns", "wf", "latest");
+
+        assertThatThrownBy(() -> index.latest("ns", "wf"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid semantic version 'latest'");
+    }
+
+    @Test
+    void latest_returns_a_single_version_that_is_not_semantic() {
+        WorkflowDefinition only = register("ns", "wf", "latest");
+
+        assertThat(index.latest("ns", "wf")).contains(only);
+        assertThat(index.namespace("ns")).containsExactly(only);
+    }
+
+    private WorkflowDefinition register(String namespace, String name, String version) {
+        WorkflowDefinition definition = definition(namespace, name, version);
+        definitions.put(definition.id(), definition);
+        return definition;
+    }
+
+    private static WorkflowDefinition definition(String namespace, String name, String version) {
+        WorkflowDefinition definition = mock(WorkflowDefinition.class);
+        when(definition.id()).thenReturn(id(namespace, name, version));
+        return definition;
+    }
+
+    private static WorkflowDefinitionId id(String namespace, String name, String version) {
+        return new WorkflowDefinitionId(namespace, name, version);
+    }
+}
@@ -0,0 +1,106 @@
+package io.quarkiverse.flow.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.serverlessworkflow.api.types.Document;
+import io.serverlessworkflow.api.types.Workflow;
+import io.serverlessworkflow.impl.TaskContext;
+import io.serverlessworkflow.impl.WorkflowContext;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+import io.serverlessworkflow.impl.lifecycle.TaskStartedEvent;
+import io.serverlessworkflow.impl.lifecycle.WorkflowStartedEvent;
+
+/**
+ * Unit tests for the meter handle cache of {@link MicrometerExecutionListener}.
+ */
+public class MicrometerExecutionListenerTest {
+
+    private MeterRegistry meterRegistry;
+    private MicrometerExecutionListener listener;
+    private WorkflowContext workflowContext;
+
+    @BeforeEach
+    void setUp() {
+        FlowMetricsConfig config = mock(FlowMetricsConfig.class);
+        FlowMetricsConfig.Durations durations = mock(FlowMetricsConfig.Durations.class);
+        when(config.prefix()).thenReturn(Optional.of(FlowMetricsConfig.DEFAULT_PREFIX));
+        when(config.enabled()).thenReturn(Optional.empty());
+        when(config.durations()).thenReturn(durations);
+        when(durations.enabled()).thenReturn(false);
+        when(durations.percentiles()).thenReturn(Optional.of(List.of()));
+
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new MicrometerExecutionListener(meterRegistry, config);
+
+        Workflow workflow = new Workflow()
+                .withDocument(new Document().withNamespace("org.acme").withName("orders").withVersion("1.0.0"));
+        WorkflowDefinition definition = mock(WorkflowDefinition.class);
+        when(definition.id()).thenReturn(new WorkflowDefinitionId("org.acme", "orders", "1.0.0"));
+        when(definition.workflow()).thenReturn(workflow);
+        workflowContext = mock(WorkflowContext.class);
+        when(workflowContext.definition()).thenReturn(definition);
+    }
+
+    @Test
+    @DisplayName("workflow meters are registered once and reused across events")
+    void workflowMetersAreRegisteredOnce() {
+        listener.onWorkflowStarted(new WorkflowStartedEvent(workflowContext));
+        int registered = meterRegistry.getMeters().size();
+
+        listener.onWorkflowStarted(new WorkflowStartedEvent(workflowContext));
+        listener.onWorkflowStarted(new WorkflowStartedEvent(workflowContext));
+
+        assertThat(meterRegistry.getMeters()).hasSize(registered);
+        assertThat(startedCounter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("task meters are resolved per task name")
+    void taskMetersAreResolvedPerTaskName() {
+        listener.onTaskStarted(new TaskStartedEvent(workflowContext, taskContext("validate")));
+        int registered = meterRegistry.getMeters().size();
+
+        listener.onTaskStarted(new TaskStartedEvent(workflowContext, taskContext("validate")));
+        assertThat(meterRegistry.getMeters()).hasSize(registered);
+
+        listener.onTaskStarted(new TaskStartedEvent(workflowContext, taskContext("charge")));
+        assertThat(meterRegistry.getMeters()).hasSizeGreaterThan(registered);
+
+        assertThat(taskStartedCounter("validate").count()).isEqualTo(2.0);
+        assertThat(taskStartedCounter("charge").count()).isEqualTo(1.0);
+    }
+
+    private Counter startedCounter() {
+        return meterRegistry.get(FlowMetrics.WORKFLOW_STARTED_TOTAL.prefixedWith(FlowMetricsConfig.DEFAULT_PREFIX))
+                .tag("workflow", "orders")
+                .tag("workflowVersion", "1.0.0")
+                .counter();
+    }
+
+    private Counter taskStartedCounter(String taskName) {
+        return meterRegistry.get(FlowMetrics.TASK_STARTED_TOTAL.prefixedWith(FlowMetricsConfig.DEFAULT_PREFIX))
+                .tag("workflow", "orders")
+                .tag("task", taskName)
+                .counter();
+    }
+
+    private TaskContext taskContext(String taskName) {
+        TaskContext taskContext = mock(TaskContext.class);
+        when(taskContext.taskName()).thenReturn(taskName);
+        return taskContext;
+    }
+}
@@ -0,0 +1,178 @@
+package io.quarkiverse.flow.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.config.FlowHttpConfig;
+import io.serverlessworkflow.api.types.ForTask;
+import io.serverlessworkflow.api.types.Task;
+import io.serverlessworkflow.api.types.TaskItem;
+import io.serverlessworkflow.api.types.TryTask;
+import io.serverlessworkflow.api.types.TryTaskCatch;
+import io.serverlessworkflow.api.types.Workflow;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Unit tests for {@link ClientRoutingTable}.
+ */
+class ClientRoutingTableTest {
+
+    private static final WorkflowDefinitionId ORDERS = new WorkflowDefinitionId("acme", "orders", "1.0.0");
+    private static final WorkflowDefinitionId INVOICES = new WorkflowDefinitionId("acme", "invoices", "1.0.0");
+
+    @Test
+    @DisplayName("routes follow the 6-level cascade")
+    void test_routes_follow_cascade() {
+        Map<String, FlowHttpConfig.ClientOverrideConfig> overrides = new HashMap<>();
+        overrides.put("orders.task.payment", override("payments"));
+        overrides.put("acme:orders", override("orders"));
+        ClientRoutingTable table = table(overrides);
+
+        assertThat(table.route(ORDERS, "payment").httpClientName()).isEqualTo("payments");
+        assertThat(table.route(ORDERS, "shipping").httpClientName()).isEqualTo("orders");
+        assertThat(table.route(INVOICES, "payment").httpClientName()).isNull();
+    }
+
+    @Test
+    @DisplayName("routes of nested tasks are computed when the definition is registered")
+    void test_routes_are_computed_on_registration() {
+        ClientRoutingTable table = table(Map.of());
+        AtomicInteger resolved = new AtomicInteger();
+        ClientRoutingTable.Slot<String> slot = table.register((workflowId, taskName) -> {
+            resolved.incrementAndGet();
+            return workflowId.name() + "/" + taskName;
+        });
+
+        table.add(definition(ORDERS, item("fetch", null), item("loop", forTask(item("payment", null)))));
+        assertThat(resolved).hasValue(3);
+
+        assertThat(table.route(ORDERS, "payment").get(slot)).isEqualTo("orders/payment");
+        assertThat(table.route(ORDERS, "fetch").get(slot)).isEqualTo("orders/fetch");
+        assertThat(table.route(ORDERS, "fetch")).isSameAs(table.route(ORDERS, "fetch"));
+        assertThat(resolved).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("unknown tasks are resolved once on their first lookup")
+    void test_unknown_tasks_are_resolved_lazily() {
+        ClientRoutingTable table = table(Map.of());
+        AtomicInteger resolved = new AtomicInteger();
+        ClientRoutingTable.Slot<String> slot = table.register((workflowId, taskName) -> {
+            resolved.incrementAndGet();
+            return taskName;
+        });
+
+        assertThat(table.route(INVOICES, "payment").get(slot)).isEqualTo("payment");
+        assertThat(table.route(INVOICES, "payment").get(slot)).isEqualTo("payment");
+        assertThat(resolved).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("registering a resolver recomputes the routes")
+    void test_register_invalidates_routes() {
+        ClientRoutingTable table = table(Map.of());
+        table.add(definition(ORDERS, item("payment", null)));
+        ClientRoutingTable.Route before = table.route(ORDERS, "payment");
+        AtomicInteger resolved = new AtomicInteger();
+
+        ClientRoutingTable.Slot<String> slot = table.register((workflowId, taskName) -> {
+            resolved.incrementAndGet();
+            return "grpc";
+        });
+
+        assertThat(before.get(slot)).isNull();
+        assertThat(resolved).hasValue(1);
+        assertThat(table.route(ORDERS, "payment").get(slot)).isEqualTo("grpc");
+        assertThat(resolved).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("adding a definition keeps the routes of the other definitions")
+    void test_add_keeps_other_definitions() {
+        ClientRoutingTable table = table(Map.of());
+        table.add(definition(ORDERS, item("payment", null)));
+        ClientRoutingTable.Route orders = table.route(ORDERS, "payment");
+
+        table.add(definition(INVOICES, item("payment", null)));
+        table.add(definition(ORDERS, item("shipping", null)));
+
+        assertThat(table.route(INVOICES, "payment")).isSameAs(table.route(INVOICES, "payment"));
+        assertThat(table.route(ORDERS, "payment")).isNotSameAs(orders);
+    }
+
+    @Test
+    @DisplayName("routes of the tasks of a catch block are computed when the definition is registered")
+    void test_catch_tasks_are_computed_on_registration() {
+        ClientRoutingTable table = table(Map.of());
+        AtomicInteger resolved = new AtomicInteger();
+        ClientRoutingTable.Slot<String> slot = table.register((workflowId, taskName) -> {
+            resolved.incrementAndGet();
+            return taskName;
+        });
+
+        table.add(definition(ORDERS, item("guarded", tryTask(List.of(item("charge", null)),
+                List.of(item("refund", null))))));
+        assertThat(resolved).hasValue(3);
+
+        assertThat(table.route(ORDERS, "refund").get(slot)).isEqualTo("refund");
+        assertThat(resolved).hasValue(3);
+    }
+
+    private static ClientRoutingTable table(Map<String, FlowHttpConfig.ClientOverrideConfig> overrides) {
+        FlowHttpConfig config = mock(FlowHttpConfig.class);
+        when(config.workflow()).thenReturn(overrides);
+        return new ClientRoutingTable(config);
+    }
+
+    private static FlowHttpConfig.ClientOverrideConfig override(String name) {
+        FlowHttpConfig.ClientOverrideConfig cfg = mock(FlowHttpConfig.ClientOverrideConfig.class);
+        when(cfg.name()).thenReturn(Optional.ofNullable(name));
+        return cfg;
+    }
+
+    private static WorkflowDefinition definition(WorkflowDefinitionId id, TaskItem... items) {
+        Workflow workflow = mock(Workflow.class);
+        when(workflow.getDo()).thenReturn(List.of(items));
+        WorkflowDefinition definition = mock(WorkflowDefinition.class);
+        when(definition.id()).thenReturn(id);
+        when(definition.workflow()).thenReturn(workflow);
+        return definition;
+    }
+
+    private static TaskItem item(String name, Task task) {
+        TaskItem item = mock(TaskItem.class);
+        when(item.getName()).thenReturn(name);
+        when(item.getTask()).thenReturn(task);
+        return item;
+    }
+
+    private static Task tryTask(List<TaskItem> tryItems, List<TaskItem> catchItems) {
+        TryTaskCatch tryCatch = mock(TryTaskCatch.class);
+        when(tryCatch.getDo()).thenReturn(catchItems);
+        TryTask tryTask = mock(TryTask.class);
+        when(tryTask.getTry()).thenReturn(tryItems);
+        when(tryTask.getCatch()).thenReturn(tryCatch);
+        Task task = mock(Task.class);
+        when(task.getTryTask()).thenReturn(tryTask);
+        return task;
+    }
+
+    private static Task forTask(TaskItem... items) {
+        ForTask forTask = mock(ForTask.class);
+        when(forTask.getDo()).thenReturn(List.of(items));
+        Task task = mock(Task.class);
+        when(task.getForTask()).thenReturn(forTask);
+        return task;
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkiverse.flow.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.quarkiverse.flow.metrics.FlowMetrics;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Unit tests for {@link ConcurrencyPermits}.
+ */
+class ConcurrencyPermitsTest {
+
+    @Test
+    @DisplayName("tasks above the limit wait for a running one to complete")
+    void test_tasks_above_limit_are_queued() {
+        ConcurrencyPermits permits = permits(2, 10, null);
+        List<CompletableFuture<String>> running = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(permits.submit(() -> {
+                CompletableFuture<String> task = new CompletableFuture<>();
+                running.add(task);
+                return task;
+            }));
+        }
+
+        assertThat(running).hasSize(2);
+
+        running.get(0).complete("first");
+        assertThat(results.get(0)).isCompletedWithValue("first");
+        assertThat(running).hasSize(3);
+
+        for (int i = 1; i < 5; i++) {
+            running.get(i).complete("task-" + i);
+        }
+        assertThat(results).allSatisfy(result -> assertThat(result).isDone());
+        assertThat(results.get(4)).isCompletedWithValue("task-4");
+        assertThat(running).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("tasks are rejected once the queue is full")
+    void test_tasks_are_rejected_when_queue_is_full() {
+        ConcurrencyPermits permits = permits(1, 1, null);
+        CompletableFuture<String> blocked = new CompletableFuture<>();
+
+        CompletableFuture<String> first = permits.submit(() -> blocked);
+        CompletableFuture<String> queued = permits.submit(() -> CompletableFuture.completedFuture("queued"));
+        CompletableFuture<String> rejected = permits.submit(() -> CompletableFuture.completedFuture("rejected"));
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.handle((value, error) -> error).join()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(queued).isNotDone();
+
+        blocked.complete("first");
+        assertThat(first).isCompletedWithValue("first");
+        assertThat(queued).isCompletedWithValue("queued");
+    }
+
+    @Test
+    @DisplayName("a failing task releases its permit")
+    void test_failing_task_releases_permit() {
+        ConcurrencyPermits permits = permits(1, 0, null);
+
+        CompletableFuture<String> failed = permits.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        CompletableFuture<String> next = permits.submit(() -> CompletableFuture.completedFuture("next"));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next).isCompletedWithValue("next");
+    }
+
+    @Test
+    @DisplayName("queued tasks are rejected once they waited longer than the queue timeout")
+    void test_queued_tasks_time_out() {
+        ConcurrencyPermits permits = permits(1, 10, Duration.ofMillis(50));
+        CompletableFuture<String> blocked = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+
+        permits.submit(() -> blocked);
+        CompletableFuture<String> queued = permits.submit(() -> {
+            started.set(true);
+            return CompletableFuture.completedFuture("late");
+        });
+
+        await().atMost(Duration.ofSeconds(5)).until(queued::isDone);
+        assertThat(queued.handle((value, error) -> error).join()).isInstanceOf(RejectedExecutionException.class);
+        assertThat(permits.queued()).isZero();
+        assertThat(permits.rejected()).isEqualTo(1);
+
+        blocked.complete("done");
+        assertThat(started).isFalse();
+        assertThat(permits.running()).isZero();
+        assertThat(permits.submit(() -> CompletableFuture.completedFuture("next"))).isCompletedWithValue("next");
+    }
+
+    @Test
+    @DisplayName("queued tasks completing synchronously are started one after the other, without recursion")
+    void test_synchronous_tasks_drain_iteratively() {
+        int tasks = 100_000;
+        ConcurrencyPermits permits = permits(1, tasks, null);
+        CompletableFuture<String> blocked = new CompletableFuture<>();
+        permits.submit(() -> blocked);
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            results.add(permits.submit(() -> CompletableFuture.completedFuture("done")));
+        }
+
+        blocked.complete("first");
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isCompletedWithValue("done"));
+        assertThat(permits.queued()).isZero();
+        assertThat(permits.running()).isZero();
+    }
+
+    @Test
+    @DisplayName("meters are tagged with the namespace, name and version of the workflow")
+    void test_meters_are_tagged_with_workflow_id() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        permits(1, 1, null).registerMetrics(registry, new WorkflowDefinitionId("acme", "orders", "1.0.0"),
+                FlowMetrics.EXECUTOR_ACTIVE, FlowMetrics.EXECUTOR_QUEUED, FlowMetrics.EXECUTOR_REJECTED_TOTAL,
+                "quarkus.flow", "Tasks");
+        permits(1, 1, null).registerMetrics(registry, new WorkflowDefinitionId("other", "orders", "1.0.0"),
+                FlowMetrics.EXECUTOR_ACTIVE, FlowMetrics.EXECUTOR_QUEUED, FlowMetrics.EXECUTOR_REJECTED_TOTAL,
+                "quarkus.flow", "Tasks");
+
+        Gauge active = registry.find(FlowMetrics.EXECUTOR_ACTIVE.prefixedWith("quarkus.flow"))
+                .tags("namespace", "acme", "workflow", "orders", "workflowVersion", "1.0.0").gauge();
+        assertThat(active).isNotNull();
+        assertThat(registry.find(FlowMetrics.EXECUTOR_ACTIVE.prefixedWith("quarkus.flow")).gauges()).hasSize(2);
+    }
+
+    private static ConcurrencyPermits permits(int maxRunning, int maxQueued, Duration queueTimeout) {
+        return new ConcurrencyPermits(maxRunning, maxQueued, queueTimeout, RejectedExecutionException::new, "tasks");
+    }
+}
@@ -0,0 +1,116 @@
+package io.quarkiverse.flow.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.config.FlowAdmissionConfig;
+import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.serverlessworkflow.impl.WorkflowContextData;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+import io.serverlessworkflow.impl.WorkflowInstanceData;
+import io.serverlessworkflow.impl.lifecycle.WorkflowFailedEvent;
+import io.serverlessworkflow.impl.lifecycle.WorkflowStartedEvent;
+
+/**
+ * Unit tests for {@link WorkflowAdmissionController}.
+ */
+class WorkflowAdmissionControllerTest {
+
+    private static final WorkflowDefinitionId ORDERS = new WorkflowDefinitionId("acme", "orders", "1.0.0");
+    private static final WorkflowDefinitionId INVOICES = new WorkflowDefinitionId("acme", "invoices", "1.0.0");
+
+    @Test
+    @DisplayName("instances are admitted right away without limits")
+    void test_unlimited_instances_start_right_away() {
+        WorkflowAdmissionController controller = controller(mock(FlowAdmissionConfig.class));
+
+        assertThat(controller.isEnabled()).isFalse();
+        assertThat(controller.admit(ORDERS, "i1")).isCompleted();
+        assertThat(controller.admit(ORDERS, "i2")).isCompleted();
+    }
+
+    @Test
+    @DisplayName("a per-workflow override limits only that workflow")
+    void test_per_workflow_override() {
+        FlowAdmissionConfig.Limits limits = mock(FlowAdmissionConfig.Limits.class);
+        when(limits.maxRunning()).thenReturn(OptionalInt.of(1));
+        when(limits.policy()).thenReturn(Optional.of(FlowAdmissionConfig.Policy.REJECT));
+        FlowAdmissionConfig config = mock(FlowAdmissionConfig.class);
+        when(config.workflow()).thenReturn(Map.of("acme:orders", limits));
+        WorkflowAdmissionController controller = controller(config);
+
+        assertThat(controller.admit(ORDERS, "running")).isCompleted();
+        CompletableFuture<Void> rejected = controller.admit(ORDERS, "rejected");
+
+        assertThat(rejected.handle((value, error) -> error).join()).isInstanceOf(WorkflowAdmissionException.class);
+        assertThat(controller.admit(INVOICES, "other")).isCompleted();
+
+        // the rejected instance fails, and its release must not give back the permit of the running one
+        controller.release("rejected");
+        assertThat(controller.admit(ORDERS, "next")).isCompletedExceptionally();
+
+        controller.release("running");
+        assertThat(controller.admit(ORDERS, "next")).isCompleted();
+    }
+
+    @Test
+    @DisplayName("instances wait for a running instance with the wait policy")
+    void test_wait_policy_queues_starts() {
+        FlowAdmissionConfig config = mock(FlowAdmissionConfig.class);
+        when(config.maxRunning()).thenReturn(OptionalInt.of(1));
+        WorkflowAdmissionController controller = controller(config);
+
+        assertThat(controller.admit(ORDERS, "running")).isCompleted();
+        CompletableFuture<Void> queued = controller.admit(ORDERS, "queued");
+
+        assertThat(queued).isNotDone();
+        controller.release("running");
+        assertThat(queued).isCompleted();
+    }
+
+    @Test
+    @DisplayName("the listener admits instances when they start and releases them when they end")
+    void test_listener_gates_every_instance() {
+        FlowAdmissionConfig config = mock(FlowAdmissionConfig.class);
+        when(config.maxRunning()).thenReturn(OptionalInt.of(1));
+        WorkflowAdmissionListener listener = new WorkflowAdmissionListener(controller(config));
+        WorkflowContextData first = workflowContext(ORDERS, "first");
+        WorkflowContextData second = workflowContext(ORDERS, "second");
+
+        assertThat(listener.onWorkflowStarted(new WorkflowStartedEvent(first))).isCompleted();
+        CompletableFuture<Void> waiting = listener.onWorkflowStarted(new WorkflowStartedEvent(second));
+
+        assertThat(waiting).isNotDone();
+        WorkflowFailedEvent failed = mock(WorkflowFailedEvent.class);
+        when(failed.workflowContext()).thenReturn(first);
+        listener.onWorkflowFailed(failed);
+        assertThat(waiting).isCompleted();
+    }
+
+    private static WorkflowAdmissionController controller(FlowAdmissionConfig config) {
+        FlowMetricsConfig metricsConfig = mock(FlowMetricsConfig.class);
+        when(metricsConfig.enabled()).thenReturn(Optional.of(false));
+        return new WorkflowAdmissionController(config, metricsConfig);
+    }
+
+    private static WorkflowContextData workflowContext(WorkflowDefinitionId id, String instanceId) {
+        WorkflowDefinition definition = mock(WorkflowDefinition.class);
+        when(definition.id()).thenReturn(id);
+        WorkflowInstanceData instance = mock(WorkflowInstanceData.class);
+        when(instance.id()).thenReturn(instanceId);
+        WorkflowContextData workflowContext = mock(WorkflowContextData.class);
+        when(workflowContext.definition()).thenReturn(definition);
+        when(workflowContext.instanceData()).thenReturn(instance);
+        return workflowContext;
+    }
+}
@@ -0,0 +1,153 @@
+package io.quarkiverse.flow.structuredlogging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.config.FlowStructuredLoggingConfig.Async.OverflowPolicy;
+
+/**
+ * Unit tests for {@link AsyncStructuredLogSink} overflow policies.
+ */
+class AsyncStructuredLogSinkTest {
+
+    @Test
+    @DisplayName("events are written in order by the sink thread")
+    void test_events_are_written_in_order() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        try (AsyncStructuredLogSink sink = new AsyncStructuredLogSink(16, 4, OverflowPolicy.DROP_OLDEST, written::addAll)) {
+            for (int i = 0; i < 10; i++) {
+                sink.offer("event-" + i);
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() -> written.size() == 10);
+        }
+
+        assertThat(written).startsWith("event-0", "event-1").endsWith("event-9");
+    }
+
+    @Test
+    @DisplayName("drop-oldest discards queued events when the queue is full")
+    void test_drop_oldest_discards_queued_events() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        try (AsyncStructuredLogSink sink = new AsyncStructuredLogSink(2, 1, OverflowPolicy.DROP_OLDEST,
+                batch -> awaitAndAdd(release, written, batch))) {
+            sink.offer("blocked");
+            await().atMost(Duration.ofSeconds(5)).until(() -> sink.size() == 0);
+
+            sink.offer("a");
+            sink.offer("b");
+            sink.offer("c");
+
+            assertThat(sink.size()).isEqualTo(2);
+            assertThat(sink.dropped()).isEqualTo(1);
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> written.size() == 3);
+        }
+
+        assertThat(written).containsExactly("blocked", "b", "c");
+    }
+
+    @Test
+    @DisplayName("drop-payloads sheds payloads above the high watermark")
+    void test_drop_payloads_above_high_watermark() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        try (AsyncStructuredLogSink sink = new AsyncStructuredLogSink(4, 1, OverflowPolicy.DROP_PAYLOADS,
+                batch -> awaitAndAdd(release, written, batch))) {
+            sink.offer("blocked");
+            await().atMost(Duration.ofSeconds(5)).until(() -> sink.size() == 0);
+
+            assertThat(sink.shouldDropPayloads()).isFalse();
+            sink.offer("a");
+            sink.offer("b");
+            sink.offer("c");
+            assertThat(sink.shouldDropPayloads()).isTrue();
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("block waits for room instead of dropping")
+    void test_block_never_drops() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        try (AsyncStructuredLogSink sink = new AsyncStructuredLogSink(2, 1, OverflowPolicy.BLOCK, written::addAll)) {
+            for (int i = 0; i < 100; i++) {
+                sink.offer("event-" + i);
+            }
+            await().atMost(Duration.ofSeconds(5)).until(() -> written.size() == 100);
+            assertThat(sink.dropped()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("queued events are flushed on close")
+    void test_close_flushes_queue() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncStructuredLogSink sink = new AsyncStructuredLogSink(1024, 8, OverflowPolicy.DROP_OLDEST, written::addAll);
+        for (int i = 0; i < 500; i++) {
+            sink.offer("event-" + i);
+        }
+        sink.close();
+
+        assertThat(written).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("queued events are handed to the writer in batches")
+    void test_events_are_written_in_batches() {
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        try (AsyncStructuredLogSink sink = new AsyncStructuredLogSink(16, 4, OverflowPolicy.DROP_OLDEST, batch -> {
+            awaitAndAdd(release, new ArrayList<>(), batch);
+            batches.add(batch);
+        })) {
+            sink.offer("blocked");
+            await().atMost(Duration.ofSeconds(5)).until(() -> sink.size() == 0);
+            for (int i = 0; i < 6; i++) {
+                sink.offer("event-" + i);
+            }
+            release.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> batches.size() == 3);
+        }
+
+        assertThat(batches).containsExactly(List.of("blocked"), List.of("event-0", "event-1", "event-2", "event-3"),
+                List.of("event-4", "event-5"));
+    }
+
+    @Test
+    @DisplayName("events offered while the sink closes are still written")
+    void test_events_offered_during_close_are_written() throws InterruptedException {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncStructuredLogSink sink = new AsyncStructuredLogSink(16_384, 8, OverflowPolicy.DROP_OLDEST, written::addAll);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                sink.offer("event-" + i);
+            }
+        });
+        producer.start();
+        sink.close();
+        producer.join();
+
+        assertThat(written).hasSize(10_000);
+        assertThat(sink.size()).isZero();
+    }
+
+    private static void awaitAndAdd(CountDownLatch release, List<String> written, List<String> batch) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        written.addAll(batch);
+    }
+}
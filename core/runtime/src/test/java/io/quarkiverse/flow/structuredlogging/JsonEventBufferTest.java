@@ -0,0 +1,102 @@
+package io.quarkiverse.flow.structuredlogging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JsonEventBuffer} bounded regions used to truncate payloads on the fly.
+ */
+class JsonEventBufferTest {
+
+    @Test
+    @DisplayName("bytes within the bound are kept")
+    void test_bytes_within_bound_are_kept() {
+        JsonEventBuffer buffer = new JsonEventBuffer();
+        write(buffer, "{\"output\":");
+
+        buffer.mark(16);
+        write(buffer, "{\"a\":1}");
+
+        assertThat(buffer.overflowed()).isFalse();
+        buffer.clearMark();
+        write(buffer, "}");
+
+        assertThat(buffer.toString()).isEqualTo("{\"output\":{\"a\":1}}");
+    }
+
+    @Test
+    @DisplayName("bytes past the bound are counted but not stored")
+    void test_bytes_past_bound_are_counted_only() {
+        JsonEventBuffer buffer = new JsonEventBuffer();
+        write(buffer, "{\"output\":");
+
+        buffer.mark(4);
+        write(buffer, "\"0123456789\"");
+
+        assertThat(buffer.overflowed()).isTrue();
+        assertThat(buffer.writtenSinceMark()).isEqualTo(12);
+        assertThat(buffer.preview(3)).isEqualTo("\"01");
+        assertThat(buffer.toString()).isEqualTo("{\"output\":\"012");
+    }
+
+    @Test
+    @DisplayName("rewinding drops the marked region")
+    void test_rewind_drops_marked_region() {
+        JsonEventBuffer buffer = new JsonEventBuffer();
+        write(buffer, "{\"output\":");
+
+        buffer.mark(4);
+        write(buffer, "\"0123456789\"");
+        buffer.rewindToMark();
+        write(buffer, "null}");
+
+        assertThat(buffer.toString()).isEqualTo("{\"output\":null}");
+    }
+
+    @Test
+    @DisplayName("reset makes the buffer reusable across events")
+    void test_reset_reuses_buffer() {
+        JsonEventBuffer buffer = new JsonEventBuffer();
+        write(buffer, "x".repeat(100_000));
+
+        buffer.reset();
+        write(buffer, "{}");
+
+        assertThat(buffer.toString()).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("the preview leaves out a character split by the bound")
+    void test_preview_stops_on_character_boundary() {
+        JsonEventBuffer buffer = new JsonEventBuffer();
+
+        // "\u00e9" and "\u20ac" take 2 and 3 bytes, the bound keeps only the first two bytes of "\u20ac"
+        buffer.mark(6);
+        write(buffer, "\"a\u00e9\u20acb\"");
+
+        assertThat(buffer.overflowed()).isTrue();
+        assertThat(buffer.writtenSinceMark()).isEqualTo(9);
+        assertThat(buffer.preview(100)).isEqualTo("\"a\u00e9");
+    }
+
+    @Test
+    @DisplayName("the preview does not split a surrogate pair")
+    void test_preview_does_not_split_surrogate_pair() {
+        JsonEventBuffer buffer = new JsonEventBuffer();
+
+        buffer.mark(64);
+        write(buffer, "\"a\uD83D\uDE00b\"");
+
+        assertThat(buffer.preview(3)).isEqualTo("\"a");
+        assertThat(buffer.preview(4)).isEqualTo("\"a\uD83D\uDE00");
+    }
+
+    private static void write(JsonEventBuffer buffer, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        buffer.write(bytes, 0, bytes.length);
+    }
+}
@@ -47,6 +47,10 @@ public class StructuredLoggingListenerTest {
         when(config.payloadMaxSize()).thenReturn(10240);
         when(config.truncatePreviewSize()).thenReturn(1024);
         when(config.logLevel()).thenReturn("INFO");
+
+        FlowStructuredLoggingConfig.Async async = mock(FlowStructuredLoggingConfig.Async.class);
+        when(async.enabled()).thenReturn(false);
+        when(config.async()).thenReturn(async);
     }
 
     /**
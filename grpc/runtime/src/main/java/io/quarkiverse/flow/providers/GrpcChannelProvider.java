@@ -1,9 +1,11 @@
 package io.quarkiverse.flow.providers;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.slf4j.Logger;
@@ -24,6 +26,12 @@ import io.serverlessworkflow.impl.WorkflowContextData;
 import io.serverlessworkflow.impl.WorkflowDefinitionId;
 import io.smallrye.config.SmallRyeConfig;
 
+/**
+ * Routes gRPC tasks to Quarkus named gRPC clients.
+ * <p>
+ * The channel of every task is resolved once through {@link ClientRoutingTable} and the CDI lookup of each named
+ * channel happens on its first use only, so routing a task costs a single map lookup.
+ */
 @ApplicationScoped
 @Unremovable
 public class GrpcChannelProvider implements WorkflowApplicationBuilderCustomizer {
@@ -38,16 +46,34 @@ public class GrpcChannelProvider implements WorkflowApplicationBuilderCustomizer
             .unwrap(SmallRyeConfig.class)
             .getConfigMapping(FlowGrpcConfig.class);
 
+    /**
+     * Named channels by client name, shared by all the routes using them.
+     */
+    private final Map<String, NamedChannel> channels = new ConcurrentHashMap<>();
+
+    @Inject
+    ClientRoutingTable routingTable;
+
+    private volatile ClientRoutingTable.Slot<NamedChannel> channelSlot;
+
     @Override
     public void customize(WorkflowApplication.Builder builder) {
         LOG.info("Flow: Registering gRPC channel provider (Quarkus named client routing)");
+        if (channelSlot == null) {
+            channelSlot = routingTable.register(this::resolveChannel);
+        }
         builder.withAdditionalObject(GRPC_CHANNEL_PROVIDER_KEY, this::channelFor);
     }
 
     private Channel channelFor(WorkflowContextData workflowContextData, TaskContextData taskContextData) {
         WorkflowDefinitionId id = workflowContextData.definition().id();
-        String taskName = taskContextData.taskName();
-        return getNamedChannel(resolveClientName(id, taskName));
+        NamedChannel channel = routingTable.route(id, taskContextData.taskName()).get(channelSlot);
+        return channel == null ? null : channel.get();
+    }
+
+    private NamedChannel resolveChannel(WorkflowDefinitionId workflowId, String taskName) {
+        String name = resolveClientName(workflowId, taskName);
+        return name == null ? null : channels.computeIfAbsent(name, NamedChannel::new);
     }
 
     private String resolveClientName(WorkflowDefinitionId workflowId, String taskName) {
@@ -101,4 +127,27 @@ public class GrpcChannelProvider implements WorkflowApplicationBuilderCustomizer
             return null;
         }
     }
+
+    /**
+     * Named channel looked up from CDI on first use.
+     */
+    private final class NamedChannel {
+
+        private final String name;
+        private volatile Channel channel;
+
+        NamedChannel(String name) {
+            this.name = name;
+        }
+
+        Channel get() {
+            Channel resolved = channel;
+            if (resolved == null) {
+                // not cached when unresolvable, so the warning keeps showing up until the channel is configured
+                resolved = getNamedChannel(name);
+                channel = resolved;
+            }
+            return resolved;
+        }
+    }
 }
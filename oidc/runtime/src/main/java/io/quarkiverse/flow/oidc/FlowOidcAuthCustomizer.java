@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.quarkiverse.flow.oidc.impl.OidcAuthProviderFactory;
+import io.quarkiverse.flow.oidc.impl.OidcTokenCache;
 import io.quarkiverse.flow.oidc.registry.OidcClientRegistry;
 import io.quarkiverse.flow.oidc.registry.OidcClientWorkflowRegistrar;
 import io.quarkiverse.flow.oidc.registry.OidcConfigResolver;
@@ -34,6 +35,9 @@ public class FlowOidcAuthCustomizer implements WorkflowApplicationBuilderCustomi
     @Inject
     OidcConfigResolver configResolver;
 
+    @Inject
+    OidcTokenCache tokenCache;
+
     @Override
     public void customize(WorkflowApplication.Builder builder) {
         if (!flowOidcConfig.enabled()) {
@@ -41,7 +45,7 @@ public class FlowOidcAuthCustomizer implements WorkflowApplicationBuilderCustomi
             return;
         }
         OidcAuthProviderFactory factory = new OidcAuthProviderFactory(clientRegistry, workflowRegistrar,
-                configResolver);
+                configResolver, tokenCache);
         LOG.info("Flow OIDC: Registering OidcAuthProviderFactory: {}", factory);
         builder.withAuthProviderFactory(factory);
         LOG.info("Flow OIDC: OAuth2/OIDC token negotiation delegated to quarkus-oidc-client.");
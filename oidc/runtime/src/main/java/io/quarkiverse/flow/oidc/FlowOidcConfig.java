@@ -48,6 +48,39 @@ public interface FlowOidcConfig {
      */
     Map<String, ClientOverrideConfig> client();
 
+    /**
+     * Caching of the access tokens negotiated by Quarkus Flow.
+     */
+    TokenCacheConfig tokenCache();
+
+    /**
+     * Caches access tokens per OIDC client and grant parameters until they expire.
+     */
+    interface TokenCacheConfig {
+
+        /**
+         * Whether access tokens are cached until they expire. When disabled, a new token is requested from the
+         * authorization server on every authenticated call.
+         * <p>
+         * Tokens returned without {@code expires_in} are never cached.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * How long before expiry a cached token is refreshed in the background. Calls keep using the cached token until
+         * the refreshed one is available.
+         */
+        @WithDefault("30s")
+        Duration refreshAhead();
+
+        /**
+         * Maximum number of cached tokens. The least recently used token is evicted first.
+         */
+        @WithDefault("1000")
+        int maxSize();
+    }
+
     /**
      * Routes a workflow, task or named authentication policy to a pre-configured Quarkus OIDC client.
      */
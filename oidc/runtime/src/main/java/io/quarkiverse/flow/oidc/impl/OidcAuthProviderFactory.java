@@ -52,15 +52,18 @@ public class OidcAuthProviderFactory extends DefaultAuthProviderFactory {
     private final OidcClientRegistry clientRegistry;
     private final OidcConfigResolver configResolver;
     private final OidcClientWorkflowRegistrar workflowRegistrar;
+    private final OidcTokenCache tokenCache;
 
     private String authName;
 
     public OidcAuthProviderFactory(OidcClientRegistry clientRegistry,
             OidcClientWorkflowRegistrar workflowRegistrar,
-            OidcConfigResolver configResolver) {
+            OidcConfigResolver configResolver,
+            OidcTokenCache tokenCache) {
         this.clientRegistry = clientRegistry;
         this.workflowRegistrar = workflowRegistrar;
         this.configResolver = configResolver;
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -158,6 +161,7 @@ public class OidcAuthProviderFactory extends DefaultAuthProviderFactory {
                 clientRegistry,
                 configResolver,
                 workflowRegistrar,
+                tokenCache,
                 resolveEndpointKey(app, authData),
                 resolveDynamicGrantParams(app, authData));
     }
@@ -10,13 +10,11 @@ import io.quarkiverse.flow.oidc.registry.OidcClientRegistry;
 import io.quarkiverse.flow.oidc.registry.OidcClientWorkflowRegistrar;
 import io.quarkiverse.flow.oidc.registry.OidcConfigResolver;
 import io.quarkus.oidc.client.OidcClient;
-import io.quarkus.oidc.client.Tokens;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.WorkflowContext;
 import io.serverlessworkflow.impl.WorkflowModel;
 import io.serverlessworkflow.impl.WorkflowValueResolver;
 import io.serverlessworkflow.impl.auth.AuthProvider;
-import io.smallrye.mutiny.Uni;
 
 /**
  * An {@link AuthProvider} that negotiates an OAuth2/OIDC access token using a Quarkus {@link OidcClient}.
@@ -24,7 +22,8 @@ import io.smallrye.mutiny.Uni;
  * <p>
  * OIDC clients are created eagerly when workflows are registered and stored in {@link OidcClientRegistry}.
  * At runtime, this provider resolves the client name using the same routing logic as registration,
- * retrieves the client from the registry, and negotiates an access token.
+ * retrieves the client from the registry, and negotiates an access token, reusing it from {@link OidcTokenCache} until it
+ * expires.
  *
  * <p>
  * For the token-exchange grant, per-execution subject/actor tokens are resolved from the workflow context
@@ -36,6 +35,7 @@ public final class OidcClientAuthProvider implements AuthProvider {
     private final OidcClientRegistry clientRegistry;
     private final OidcConfigResolver configResolver;
     private final OidcClientWorkflowRegistrar clientWorkflowRegistrar;
+    private final OidcTokenCache tokenCache;
     private final String authPolicyName;
 
     private final WorkflowValueResolver<EndpointKey> endPointKeyResolver;
@@ -46,11 +46,13 @@ public final class OidcClientAuthProvider implements AuthProvider {
             OidcClientRegistry clientRegistry,
             OidcConfigResolver configResolver,
             OidcClientWorkflowRegistrar clientWorkflowRegistrar,
+            OidcTokenCache tokenCache,
             WorkflowValueResolver<EndpointKey> endPointKeyResolver,
             WorkflowValueResolver<Map<String, String>> paramsResolver) {
         this.clientRegistry = clientRegistry;
         this.configResolver = configResolver;
         this.clientWorkflowRegistrar = clientWorkflowRegistrar;
+        this.tokenCache = tokenCache;
         this.authPolicyName = authPolicyName;
         this.endPointKeyResolver = endPointKeyResolver;
         this.paramsResolver = paramsResolver;
@@ -86,10 +88,6 @@ public final class OidcClientAuthProvider implements AuthProvider {
         }
         // Resolve dynamic grant parameters (for token exchange)
         final Map<String, String> dynamicParams = paramsResolver.apply(workflow, task, model);
-        final Uni<Tokens> tokens = dynamicParams.isEmpty()
-                ? client.getTokens()
-                : client.getTokens(dynamicParams);
-        return tokens.ifNoItem().after(connectionTimeout).fail().subscribeAsCompletionStage()
-                .thenApply(t -> t.getAccessToken());
+        return tokenCache.accessToken(client, dynamicParams, connectionTimeout);
     }
 }
@@ -0,0 +1,199 @@
+package io.quarkiverse.flow.oidc.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.quarkiverse.flow.metrics.FlowMetrics;
+import io.quarkiverse.flow.oidc.FlowOidcConfig;
+import io.quarkus.arc.Unremovable;
+import io.quarkus.oidc.client.OidcClient;
+import io.quarkus.oidc.client.Tokens;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Caches the access tokens negotiated by {@link OidcClientAuthProvider}.
+ * <p>
+ * Tokens are keyed by the resolved {@link OidcClient} and a SHA-256 digest of the dynamic grant parameters, so
+ * passwords and subject tokens are never kept in the keys. A cached token is used until its {@code expires_in}
+ * elapses. Within {@code refresh-ahead} of its expiry, a new token is requested in the background while calls keep
+ * using the cached one. Token requests for the same key are de-duplicated: concurrent calls share one in-flight
+ * request. The cache holds at most {@code max-size} tokens, evicting the least recently used one, which bounds the
+ * tokens of dynamic endpoint clients.
+ */
+@ApplicationScoped
+@Unremovable
+public class OidcTokenCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OidcTokenCache.class);
+
+    private final boolean enabled;
+    private final long refreshAheadSeconds;
+    private final Map<TokenKey, CachedTokens> tokens;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+
+    @Inject
+    public OidcTokenCache(FlowOidcConfig config, FlowMetricsConfig metricsConfig) {
+        this.enabled = config.tokenCache().enabled();
+        this.refreshAheadSeconds = config.tokenCache().refreshAhead().toSeconds();
+        int maxSize = config.tokenCache().maxSize();
+        this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TokenKey, CachedTokens> eldest) {
+                return size() > maxSize;
+            }
+        };
+        if (enabled && metricsConfig.enabled().orElse(true)) {
+            MeterRegistry registry = Metrics.globalRegistry;
+            String prefix = metricsConfig.prefix().orElse(FlowMetricsConfig.DEFAULT_PREFIX);
+            this.hits = Counter.builder(FlowMetrics.OIDC_TOKEN_CACHE_HITS_TOTAL.prefixedWith(prefix))
+                    .description("Authenticated calls served with a cached access token")
+                    .register(registry);
+            this.misses = Counter.builder(FlowMetrics.OIDC_TOKEN_CACHE_MISSES_TOTAL.prefixedWith(prefix))
+                    .description("Authenticated calls waiting for a new access token")
+                    .register(registry);
+            this.refreshes = Counter.builder(FlowMetrics.OIDC_TOKEN_CACHE_REFRESHES_TOTAL.prefixedWith(prefix))
+                    .description("Access tokens refreshed in the background ahead of their expiry")
+                    .register(registry);
+            Gauge.builder(FlowMetrics.OIDC_TOKEN_CACHE_SIZE.prefixedWith(prefix), this, OidcTokenCache::size)
+                    .description("Access tokens currently cached")
+                    .register(registry);
+        } else {
+            this.hits = null;
+            this.misses = null;
+            this.refreshes = null;
+        }
+    }
+
+    /**
+     * Returns an access token of the given client for the given grant parameters, from the cache when possible.
+     *
+     * @param client the resolved OIDC client
+     * @param grantParams the dynamic grant parameters, empty when the grant has none
+     * @param timeout how long to wait for the token endpoint
+     * @return a future completed with the access token
+     */
+    public CompletableFuture<String> accessToken(OidcClient client, Map<String, String> grantParams, Duration timeout) {
+        Supplier<Uni<Tokens>> request = () -> grantParams.isEmpty() ? client.getTokens() : client.getTokens(grantParams);
+        if (!enabled) {
+            return request(request, timeout).thenApply(Tokens::getAccessToken);
+        }
+        CachedTokens cached;
+        synchronized (tokens) {
+            cached = tokens.computeIfAbsent(new TokenKey(client, digest(grantParams)), key -> new CachedTokens());
+        }
+        long now = epochSecond();
+        Snapshot current = cached.snapshot;
+        if (current != null && now < current.expiresAt()) {
+            increment(hits);
+            if (now >= current.refreshAt() && cached.inFlight == null) {
+                increment(refreshes);
+                cached.refresh(request, timeout, refreshAheadSeconds).exceptionally(e -> {
+                    LOG.debug("Flow OIDC: Failed to refresh an access token ahead of its expiry", e);
+                    return null;
+                });
+            }
+            return CompletableFuture.completedFuture(current.tokens().getAccessToken());
+        }
+        increment(misses);
+        return cached.refresh(request, timeout, refreshAheadSeconds).thenApply(Tokens::getAccessToken);
+    }
+
+    int size() {
+        synchronized (tokens) {
+            return tokens.size();
+        }
+    }
+
+    private static CompletableFuture<Tokens> request(Supplier<Uni<Tokens>> request, Duration timeout) {
+        return request.get().ifNoItem().after(timeout).fail().subscribeAsCompletionStage();
+    }
+
+    private static long epochSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static String digest(Map<String, String> grantParams) {
+        if (grantParams.isEmpty()) {
+            return "";
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // sorted, so that the same parameters always produce the same digest
+            for (Map.Entry<String, String> param : new TreeMap<>(grantParams).entrySet()) {
+                digest.update(param.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(param.getValue()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record TokenKey(OidcClient client, String grantParamsDigest) {
+    }
+
+    /**
+     * Cached tokens with the epoch seconds at which they expire and at which they should be refreshed.
+     */
+    private record Snapshot(Tokens tokens, long expiresAt, long refreshAt) {
+    }
+
+    /**
+     * The latest tokens of one key and the token request in flight, if any.
+     */
+    private static final class CachedTokens {
+
+        private volatile Snapshot snapshot;
+        private volatile CompletableFuture<Tokens> inFlight;
+
+        synchronized CompletableFuture<Tokens> refresh(Supplier<Uni<Tokens>> request, Duration timeout,
+                long refreshAheadSeconds) {
+            if (inFlight != null) {
+                return inFlight;
+            }
+            CompletableFuture<Tokens> future = request(request, timeout);
+            inFlight = future;
+            future.whenComplete((result, error) -> {
+                synchronized (this) {
+                    if (error == null && result.getAccessTokenExpiresAt() != null) {
+                        long expiresAt = result.getAccessTokenExpiresAt();
+                        // short-lived tokens are refreshed halfway through their lifetime at the earliest
+                        long lifetime = Math.max(0, expiresAt - epochSecond());
+                        snapshot = new Snapshot(result, expiresAt, expiresAt - Math.min(refreshAheadSeconds, lifetime / 2));
+                    }
+                    inFlight = null;
+                }
+            });
+            return future;
+        }
+    }
+}
@@ -64,7 +64,8 @@ class OidcAuthProviderFactoryIntegrationTest {
         mockListener = mock(OidcClientWorkflowRegistrar.class);
         OidcConfigResolver mockConfigResolver = mock(OidcConfigResolver.class);
 
-        factory = new OidcAuthProviderFactory(registry, mockListener, mockConfigResolver);
+        factory = new OidcAuthProviderFactory(registry, mockListener, mockConfigResolver,
+                mock(OidcTokenCache.class));
     }
 
     @Test
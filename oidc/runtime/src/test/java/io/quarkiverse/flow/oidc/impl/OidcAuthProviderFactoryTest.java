@@ -51,7 +51,8 @@ class OidcAuthProviderFactoryTest {
 
         OidcConfigResolver mockConfigResolver = mock(OidcConfigResolver.class);
 
-        factory = new OidcAuthProviderFactory(mockRegistry, mockListener, mockConfigResolver);
+        factory = new OidcAuthProviderFactory(mockRegistry, mockListener, mockConfigResolver,
+                mock(OidcTokenCache.class));
 
         // Setup workflow definition mocks
         mockDefinition = mock(WorkflowDefinition.class);
@@ -0,0 +1,144 @@
+package io.quarkiverse.flow.oidc.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.config.FlowMetricsConfig;
+import io.quarkiverse.flow.oidc.FlowOidcConfig;
+import io.quarkus.oidc.client.OidcClient;
+import io.quarkus.oidc.client.Tokens;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Unit tests for {@link OidcTokenCache}.
+ */
+class OidcTokenCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("a token is reused until it expires")
+    void test_token_is_reused() {
+        OidcTokenCache cache = cache(true, 10);
+        OidcClient client = client(tokens("token", 3600));
+
+        assertThat(cache.accessToken(client, Map.of(), TIMEOUT)).isCompletedWithValue("token");
+        assertThat(cache.accessToken(client, Map.of(), TIMEOUT)).isCompletedWithValue("token");
+
+        verify(client, times(1)).getTokens();
+    }
+
+    @Test
+    @DisplayName("tokens without expiry are never cached")
+    void test_token_without_expiry_is_not_cached() {
+        OidcTokenCache cache = cache(true, 10);
+        Tokens tokens = mock(Tokens.class);
+        when(tokens.getAccessToken()).thenReturn("token");
+        OidcClient client = client(tokens);
+
+        cache.accessToken(client, Map.of(), TIMEOUT).join();
+        cache.accessToken(client, Map.of(), TIMEOUT).join();
+
+        verify(client, times(2)).getTokens();
+    }
+
+    @Test
+    @DisplayName("different grant parameters get different tokens")
+    void test_grant_parameters_are_part_of_the_key() {
+        OidcTokenCache cache = cache(true, 10);
+        OidcClient client = mock(OidcClient.class);
+        Map<String, String> alice = Map.of("username", "alice", "password", "secret");
+        Map<String, String> bob = Map.of("username", "bob", "password", "secret");
+        Tokens aliceTokens = tokens("alice-token", 3600);
+        Tokens bobTokens = tokens("bob-token", 3600);
+        when(client.getTokens(alice)).thenReturn(Uni.createFrom().item(aliceTokens));
+        when(client.getTokens(bob)).thenReturn(Uni.createFrom().item(bobTokens));
+
+        assertThat(cache.accessToken(client, alice, TIMEOUT)).isCompletedWithValue("alice-token");
+        assertThat(cache.accessToken(client, bob, TIMEOUT)).isCompletedWithValue("bob-token");
+        assertThat(cache.accessToken(client, alice, TIMEOUT)).isCompletedWithValue("alice-token");
+
+        verify(client, times(1)).getTokens(alice);
+        verify(client, times(1)).getTokens(bob);
+    }
+
+    @Test
+    @DisplayName("concurrent calls share one token request")
+    void test_concurrent_calls_share_one_request() {
+        OidcTokenCache cache = cache(true, 10);
+        CompletableFuture<Tokens> response = new CompletableFuture<>();
+        OidcClient client = mock(OidcClient.class);
+        when(client.getTokens()).thenReturn(Uni.createFrom().completionStage(response));
+
+        CompletableFuture<String> first = cache.accessToken(client, Map.of(), TIMEOUT);
+        CompletableFuture<String> second = cache.accessToken(client, Map.of(), TIMEOUT);
+        response.complete(tokens("token", 3600));
+
+        assertThat(first.join()).isEqualTo("token");
+        assertThat(second.join()).isEqualTo("token");
+        verify(client, times(1)).getTokens();
+    }
+
+    @Test
+    @DisplayName("the least recently used token is evicted")
+    void test_least_recently_used_token_is_evicted() {
+        OidcTokenCache cache = cache(true, 1);
+        OidcClient first = client(tokens("first", 3600));
+        OidcClient second = client(tokens("second", 3600));
+
+        cache.accessToken(first, Map.of(), TIMEOUT).join();
+        cache.accessToken(second, Map.of(), TIMEOUT).join();
+        cache.accessToken(first, Map.of(), TIMEOUT).join();
+
+        assertThat(cache.size()).isEqualTo(1);
+        verify(first, times(2)).getTokens();
+    }
+
+    @Test
+    @DisplayName("a disabled cache requests a token on every call")
+    void test_disabled_cache() {
+        OidcTokenCache cache = cache(false, 10);
+        OidcClient client = client(tokens("token", 3600));
+
+        cache.accessToken(client, Map.of(), TIMEOUT).join();
+        cache.accessToken(client, Map.of(), TIMEOUT).join();
+
+        verify(client, times(2)).getTokens();
+    }
+
+    private static OidcTokenCache cache(boolean enabled, int maxSize) {
+        FlowOidcConfig.TokenCacheConfig tokenCache = mock(FlowOidcConfig.TokenCacheConfig.class);
+        when(tokenCache.enabled()).thenReturn(enabled);
+        when(tokenCache.refreshAhead()).thenReturn(Duration.ofSeconds(30));
+        when(tokenCache.maxSize()).thenReturn(maxSize);
+        FlowOidcConfig config = mock(FlowOidcConfig.class);
+        when(config.tokenCache()).thenReturn(tokenCache);
+        FlowMetricsConfig metricsConfig = mock(FlowMetricsConfig.class);
+        when(metricsConfig.enabled()).thenReturn(Optional.of(false));
+        return new OidcTokenCache(config, metricsConfig);
+    }
+
+    private static OidcClient client(Tokens tokens) {
+        OidcClient client = mock(OidcClient.class);
+        when(client.getTokens()).thenReturn(Uni.createFrom().item(tokens));
+        return client;
+    }
+
+    private static Tokens tokens(String accessToken, long expiresInSeconds) {
+        Tokens tokens = mock(Tokens.class);
+        when(tokens.getAccessToken()).thenReturn(accessToken);
+        when(tokens.getAccessTokenExpiresAt()).thenReturn(System.currentTimeMillis() / 1000 + expiresInSeconds);
+        return tokens;
+    }
+}
@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 
 import io.quarkiverse.flow.opentelemetry.runtime.OTelWorkflowExecutionListener;
 import io.quarkiverse.flow.opentelemetry.runtime.SpanBuilderFactory;
+import io.quarkiverse.flow.opentelemetry.runtime.WorkflowSampler;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -38,6 +39,7 @@ class FlowOTelProcessor {
             additionalBeans.produce(AdditionalBeanBuildItem.builder()
                     .addBeanClass(SpanBuilderFactory.class)
                     .addBeanClass(OTelWorkflowExecutionListener.class)
+                    .addBeanClass(WorkflowSampler.class)
                     .setDefaultScope(SINGLETON)
                     .setUnremovable()
                     .build());
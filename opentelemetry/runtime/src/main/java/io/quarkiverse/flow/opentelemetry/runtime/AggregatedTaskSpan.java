@@ -0,0 +1,77 @@
+package io.quarkiverse.flow.opentelemetry.runtime;
+
+import static io.quarkiverse.flow.opentelemetry.runtime.SpanBuilderFactory.FLOW_TASK_ITERATIONS_COUNT_ATTR;
+import static io.quarkiverse.flow.opentelemetry.runtime.SpanBuilderFactory.FLOW_TASK_ITERATIONS_DURATION_MAX_ATTR;
+import static io.quarkiverse.flow.opentelemetry.runtime.SpanBuilderFactory.FLOW_TASK_ITERATIONS_DURATION_MIN_ATTR;
+import static io.quarkiverse.flow.opentelemetry.runtime.SpanBuilderFactory.FLOW_TASK_ITERATIONS_DURATION_TOTAL_ATTR;
+import static io.quarkiverse.flow.opentelemetry.runtime.SpanBuilderFactory.FLOW_TASK_ITERATIONS_FAILED_ATTR;
+
+import java.time.Duration;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+
+/**
+ * One span standing for all the iterations of a task inside a {@code for} loop.
+ * <p>
+ * The span starts with the first iteration and ends with the loop. Iterations only update counters, which are set as
+ * attributes when the span ends.
+ */
+final class AggregatedTaskSpan {
+
+    private final Span span;
+    private final Context context;
+
+    private long count;
+    private long failed;
+    private long minNanos = Long.MAX_VALUE;
+    private long maxNanos;
+    private long totalNanos;
+    private boolean ended;
+
+    AggregatedTaskSpan(Span span, Context parentContext) {
+        this.span = span;
+        this.context = span.storeInContext(parentContext);
+    }
+
+    /**
+     * @return the context holding the aggregated span, parent of the spans of failed iterations and nested tasks
+     */
+    Context context() {
+        return context;
+    }
+
+    synchronized void record(Duration duration, boolean failure) {
+        long nanos = duration.toNanos();
+        count++;
+        if (failure) {
+            failed++;
+        }
+        minNanos = Math.min(minNanos, nanos);
+        maxNanos = Math.max(maxNanos, nanos);
+        totalNanos += nanos;
+    }
+
+    synchronized void end() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        span.setAttribute(FLOW_TASK_ITERATIONS_COUNT_ATTR, count)
+                .setAttribute(FLOW_TASK_ITERATIONS_FAILED_ATTR, failed)
+                .setAttribute(FLOW_TASK_ITERATIONS_DURATION_MIN_ATTR, count == 0 ? 0.0 : toMillis(minNanos))
+                .setAttribute(FLOW_TASK_ITERATIONS_DURATION_MAX_ATTR, toMillis(maxNanos))
+                .setAttribute(FLOW_TASK_ITERATIONS_DURATION_TOTAL_ATTR, toMillis(totalNanos));
+        if (failed > 0) {
+            span.setStatus(StatusCode.ERROR, failed + " of " + count + " iterations failed");
+        } else {
+            span.setStatus(StatusCode.OK);
+        }
+        span.end();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
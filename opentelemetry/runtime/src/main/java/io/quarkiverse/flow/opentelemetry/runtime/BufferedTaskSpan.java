@@ -0,0 +1,104 @@
+package io.quarkiverse.flow.opentelemetry.runtime;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.StatusCode;
+import io.serverlessworkflow.api.types.TaskBase;
+
+/**
+ * A task span kept in memory by tail sampling until the outcome of its workflow instance is known.
+ * <p>
+ * Everything needed to build the span is recorded with its timestamp, so an exported span looks the same as a span
+ * created while the task was running.
+ */
+final class BufferedTaskSpan {
+
+    private final String name;
+    private final TaskEventInfo eventInfo;
+    private final TaskBase task;
+    private final BufferedTaskSpan parent;
+    private final Instant startTime;
+    private final List<Event> events = new ArrayList<>(2);
+
+    private StatusCode status;
+    private Throwable cause;
+    private Instant endTime;
+    private Span span;
+
+    BufferedTaskSpan(String name, TaskEventInfo eventInfo, TaskBase task, BufferedTaskSpan parent, Instant startTime) {
+        this.name = name;
+        this.eventInfo = eventInfo;
+        this.task = task;
+        this.parent = parent;
+        this.startTime = startTime;
+    }
+
+    String name() {
+        return name;
+    }
+
+    TaskEventInfo eventInfo() {
+        return eventInfo;
+    }
+
+    TaskBase task() {
+        return task;
+    }
+
+    /**
+     * @return the buffered span of the enclosing task, {@code null} when the task is a child of the workflow
+     */
+    BufferedTaskSpan parent() {
+        return parent;
+    }
+
+    Instant startTime() {
+        return startTime;
+    }
+
+    synchronized void addEvent(TaskEventType eventType) {
+        events.add(new Event(eventType, Instant.now()));
+    }
+
+    synchronized void end() {
+        status = StatusCode.OK;
+        endTime = Instant.now();
+    }
+
+    synchronized void fail(Throwable cause) {
+        this.status = StatusCode.ERROR;
+        this.cause = cause;
+        this.endTime = Instant.now();
+    }
+
+    /**
+     * @return the exported span, {@code null} until {@link #export(SpanBuilder)} is called
+     */
+    synchronized Span span() {
+        return span;
+    }
+
+    /**
+     * Starts and ends the span with the recorded timestamps. A task still running is ended now.
+     */
+    synchronized void export(SpanBuilder builder) {
+        span = builder.setStartTimestamp(startTime).startSpan();
+        for (Event event : events) {
+            span.addEvent(event.eventType().id(), event.time());
+        }
+        if (cause != null) {
+            span.recordException(cause);
+            span.setStatus(StatusCode.ERROR, cause.getMessage());
+        } else if (status != null) {
+            span.setStatus(status);
+        }
+        span.end(endTime != null ? endTime : Instant.now());
+    }
+
+    private record Event(TaskEventType eventType, Instant time) {
+    }
+}
@@ -1,6 +1,9 @@
 package io.quarkiverse.flow.opentelemetry.runtime;
 
 import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
@@ -15,6 +18,10 @@ public class InstrumentationContext {
     private final Context parentContext;
     private final Instant startTime;
     private final Span startSpan;
+    private final BufferedTaskSpan bufferedSpan;
+    private final AggregatedTaskSpan aggregatedSpan;
+    private final InstrumentationContext loopContext;
+    private final Map<String, AggregatedTaskSpan> aggregatedSpans;
 
     private InstrumentationContext(String jsonPosition,
             int iteration,
@@ -22,7 +29,8 @@ public class InstrumentationContext {
             int retryAttempt,
             TaskType taskType,
             String containerPosition,
-            Context parentContext, Span startSpan, Instant startTime) {
+            Context parentContext, Span startSpan, BufferedTaskSpan bufferedSpan, AggregatedTaskSpan aggregatedSpan,
+            InstrumentationContext loopContext, Instant startTime) {
         this.jsonPosition = jsonPosition;
         this.iteration = iteration;
         this.retrying = retrying;
@@ -31,6 +39,10 @@ public class InstrumentationContext {
         this.containerPosition = containerPosition;
         this.parentContext = parentContext;
         this.startSpan = startSpan;
+        this.bufferedSpan = bufferedSpan;
+        this.aggregatedSpan = aggregatedSpan;
+        this.loopContext = loopContext;
+        this.aggregatedSpans = taskType == TaskType.FOR && startSpan != null ? new ConcurrentHashMap<>() : null;
         this.startTime = startTime;
     }
 
@@ -70,6 +82,65 @@ public class InstrumentationContext {
         return startSpan;
     }
 
+    /**
+     * @return the span kept in memory by tail sampling, {@code null} when the span was started right away
+     */
+    BufferedTaskSpan getBufferedSpan() {
+        return bufferedSpan;
+    }
+
+    /**
+     * @return the span standing for all the iterations of this task, {@code null} when the task has its own span
+     */
+    AggregatedTaskSpan getAggregatedSpan() {
+        return aggregatedSpan;
+    }
+
+    /**
+     * @return the innermost {@code for} task with its own span enclosing this task, {@code null} outside of loops
+     */
+    InstrumentationContext getLoopContext() {
+        return loopContext;
+    }
+
+    /**
+     * @return whether this is a {@code for} task with its own span, which owns the aggregated spans of its tasks
+     */
+    boolean isLoopContext() {
+        return aggregatedSpans != null;
+    }
+
+    /**
+     * @return the aggregated span of the given task running inside this loop, created on its first iteration
+     */
+    AggregatedTaskSpan aggregatedSpan(String taskId, Function<String, AggregatedTaskSpan> factory) {
+        return aggregatedSpans.computeIfAbsent(taskId, factory);
+    }
+
+    /**
+     * Ends the aggregated spans of the tasks running inside this loop.
+     */
+    void endAggregatedSpans() {
+        if (aggregatedSpans != null) {
+            aggregatedSpans.values().forEach(AggregatedTaskSpan::end);
+            aggregatedSpans.clear();
+        }
+    }
+
+    /**
+     * @return the context holding the span of this task, to be used as parent of the spans of nested tasks, or
+     *         {@code null} when the span of the task is not started yet
+     */
+    Context spanContext() {
+        if (startSpan != null) {
+            return startSpan.storeInContext(parentContext);
+        }
+        if (aggregatedSpan != null) {
+            return aggregatedSpan.context();
+        }
+        return null;
+    }
+
     public Instant getStartTime() {
         return startTime;
     }
@@ -94,6 +165,12 @@ public class InstrumentationContext {
 
         private Span startSpan;
 
+        private BufferedTaskSpan bufferedSpan;
+
+        private AggregatedTaskSpan aggregatedSpan;
+
+        private InstrumentationContext loopContext;
+
         private Instant startTime;
 
         private Context parentContext;
@@ -137,6 +214,21 @@ public class InstrumentationContext {
             return this;
         }
 
+        Builder withBufferedSpan(BufferedTaskSpan bufferedSpan) {
+            this.bufferedSpan = bufferedSpan;
+            return this;
+        }
+
+        Builder withAggregatedSpan(AggregatedTaskSpan aggregatedSpan) {
+            this.aggregatedSpan = aggregatedSpan;
+            return this;
+        }
+
+        Builder withLoopContext(InstrumentationContext loopContext) {
+            this.loopContext = loopContext;
+            return this;
+        }
+
         public Builder withStartTime(Instant startTime) {
             this.startTime = startTime;
             return this;
@@ -149,7 +241,7 @@ public class InstrumentationContext {
 
         public InstrumentationContext build() {
             return new InstrumentationContext(jsonPosition, iteration, retrying, retryAttempt,
-                    taskType, containerPosition, parentContext, startSpan, startTime);
+                    taskType, containerPosition, parentContext, startSpan, bufferedSpan, aggregatedSpan, loopContext, startTime);
         }
     }
 }
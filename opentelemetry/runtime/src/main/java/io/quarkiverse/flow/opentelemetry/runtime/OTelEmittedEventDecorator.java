@@ -44,6 +44,9 @@ public class OTelEmittedEventDecorator implements EmittedEventDecorator {
                     workflowContext.definition().id().name(), workflowInstanceId, workflowContext.definition().id().version());
             return;
         }
+        if (!workflowInstrumentationContext.isSampled()) {
+            return;
+        }
 
         InstrumentationContext taskInstanceContext = workflowInstrumentationContext.getTaskInstanceContext(taskId,
                 iteration, retryAttempt);
@@ -64,7 +67,11 @@ public class OTelEmittedEventDecorator implements EmittedEventDecorator {
             }
         };
 
-        Context propagatedContext = taskInstanceContext.getStartSpan().storeInContext(taskInstanceContext.getParentContext());
+        // task spans kept in memory by tail sampling may never be exported, propagate the workflow span instead
+        Context propagatedContext = taskInstanceContext.spanContext();
+        if (propagatedContext == null) {
+            propagatedContext = workflowInstrumentationContext.getWorkflowInstanceContext().spanContext();
+        }
         GlobalOpenTelemetry.getPropagators().getTextMapPropagator().inject(
                 propagatedContext,
                 decorated,
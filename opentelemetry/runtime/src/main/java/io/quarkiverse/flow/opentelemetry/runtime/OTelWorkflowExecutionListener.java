@@ -7,6 +7,7 @@ import static io.quarkiverse.flow.opentelemetry.runtime.SpanUtils.generateWorkfl
 import static io.quarkiverse.flow.opentelemetry.runtime.TaskEventType.TASK_CANCELLED;
 import static io.quarkiverse.flow.opentelemetry.runtime.TaskEventType.TASK_COMPLETED;
 import static io.quarkiverse.flow.opentelemetry.runtime.TaskEventType.TASK_RESUMED;
+import static io.quarkiverse.flow.opentelemetry.runtime.TaskEventType.TASK_STARTED;
 import static io.quarkiverse.flow.opentelemetry.runtime.TaskEventType.TASK_SUSPENDED;
 import static io.quarkiverse.flow.opentelemetry.runtime.WorkflowEventType.WORKFLOW_CANCELLED;
 import static io.quarkiverse.flow.opentelemetry.runtime.WorkflowEventType.WORKFLOW_COMPLETED;
@@ -15,7 +16,9 @@ import static io.quarkiverse.flow.opentelemetry.runtime.WorkflowEventType.WORKFL
 import static io.quarkiverse.flow.opentelemetry.runtime.WorkflowInstrumentationContext.getWorkflowInstrumentationContext;
 import static io.quarkiverse.flow.opentelemetry.runtime.WorkflowInstrumentationContext.setWorkflowInstrumentationContext;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 
 import jakarta.inject.Inject;
 
@@ -63,11 +66,19 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
     @Inject
     FlowOTelConfig oTelConfig;
 
+    @Inject
+    WorkflowSampler sampler;
+
     @Override
     public void onWorkflowStarted(WorkflowStartedEvent ev) {
         if (!oTelConfig.isEnabled()) {
             return;
         }
+        if (!sampler.isSampled(ev.workflowContext().definition().id())) {
+            setWorkflowInstrumentationContext(ev.workflowContext().instanceData(),
+                    WorkflowInstrumentationContext.notSampled());
+            return;
+        }
         WorkflowEventInfo eventInfo = WorkflowEventInfo.from(ev);
         logWorkflowEvent(eventInfo);
 
@@ -85,7 +96,9 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
                 .build();
 
         setWorkflowInstrumentationContext(ev.workflowContext().instanceData(),
-                new WorkflowInstrumentationContext(workflowInstanceContext));
+                sampler.isTailSampling()
+                        ? WorkflowInstrumentationContext.buffering(workflowInstanceContext, sampler.maxBufferedSpans())
+                        : new WorkflowInstrumentationContext(workflowInstanceContext));
     }
 
     @Override
@@ -117,10 +130,13 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
         if (!oTelConfig.isEnabled()) {
             return;
         }
+        WorkflowInstrumentationContext workflowContext = getWorkflowInstrumentationContext(ev.workflowContext().instanceData());
+        if (workflowContext != null && !workflowContext.isSampled()) {
+            return;
+        }
         WorkflowEventInfo eventInfo = WorkflowEventInfo.from(ev);
         logWorkflowEvent(eventInfo);
 
-        WorkflowInstrumentationContext workflowContext = getWorkflowInstrumentationContext(ev.workflowContext().instanceData());
         if (workflowContext == null) {
             warnNoWorkflowContext(eventInfo);
             return;
@@ -131,6 +147,7 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
             appendWorkflowEvent(startSpan, eventInfo.eventType());
         } else if (eventInfo.eventType() == WORKFLOW_COMPLETED || eventInfo.eventType() == WORKFLOW_CANCELLED) {
             startSpan.setStatus(StatusCode.OK);
+            exportBufferedSpans(workflowContext, false);
             workflowContext.ensureAllTaskSpansAreClosed();
             appendWorkflowEvent(startSpan, eventInfo.eventType());
             startSpan.end();
@@ -138,6 +155,7 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
             WorkflowFailedEvent failedEvent = (WorkflowFailedEvent) ev;
             startSpan.recordException(failedEvent.cause());
             startSpan.setStatus(StatusCode.ERROR, failedEvent.cause().getMessage());
+            exportBufferedSpans(workflowContext, true);
             workflowContext.ensureAllTaskSpansAreClosed();
             appendWorkflowEvent(startSpan, eventInfo.eventType());
             startSpan.end();
@@ -158,36 +176,59 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
         if (!oTelConfig.isEnabled()) {
             return;
         }
+        WorkflowInstrumentationContext workflowContext = getWorkflowInstrumentationContext(ev.workflowContext().instanceData());
+        if (workflowContext != null && !workflowContext.isSampled()) {
+            return;
+        }
         TaskEventInfo eventInfo = TaskEventInfo.from(ev);
         logTaskEvent(eventInfo);
 
-        WorkflowInstrumentationContext workflowContext = getWorkflowInstrumentationContext(ev.workflowContext().instanceData());
         if (workflowContext == null) {
             warnNoWorkflowContext(eventInfo);
             return;
         }
         InstrumentationContext parentTaskContext = workflowContext.findEnclosingParentContext(eventInfo.taskId());
-        Context parentContext = parentTaskContext.getStartSpan().storeInContext(parentTaskContext.getParentContext());
         String spanName = generateTaskSpanName(taskNameStrategy, eventInfo.taskId(), eventInfo.taskName(),
                 eventInfo.taskInstanceIteration(), eventInfo.taskInstanceRetryAttempt());
 
-        SpanBuilder builder = spanBuilderFactory.newTaskSpan(spanName, eventInfo, parentContext);
-        enrichSpan(builder, ev.taskContext().task());
-        Span startSpan = builder.startSpan();
-
-        appendTaskEvent(startSpan, eventInfo.eventType());
-
-        InstrumentationContext taskInstanceContext = InstrumentationContext.newBuilder()
+        InstrumentationContext.Builder taskInstanceContextBuilder = InstrumentationContext.newBuilder()
                 .withJsonPosition(eventInfo.taskId())
                 .withTaskType(eventInfo.taskType())
                 .withContainerPosition(containerContextPosition(eventInfo.taskType(), ev.taskContext().position()))
-                .withStartSpan(startSpan)
                 .withStartTime(Instant.now())
-                .parentContext(parentContext)
                 .withIteration(eventInfo.taskInstanceIteration())
                 .withRetrying(eventInfo.taskInstanceRetrying())
-                .withRetryAttempt(eventInfo.taskInstanceRetryAttempt())
-                .build();
+                .withRetryAttempt(eventInfo.taskInstanceRetryAttempt());
+
+        if (workflowContext.isBuffering()) {
+            BufferedTaskSpan bufferedSpan = new BufferedTaskSpan(spanName, eventInfo, ev.taskContext().task(),
+                    parentTaskContext.getBufferedSpan(), Instant.now());
+            bufferedSpan.addEvent(eventInfo.eventType());
+            workflowContext.buffer(bufferedSpan);
+            taskInstanceContextBuilder.withBufferedSpan(bufferedSpan);
+        } else {
+            InstrumentationContext loopContext = parentTaskContext.isLoopContext() ? parentTaskContext
+                    : parentTaskContext.getLoopContext();
+            Context parentContext = parentTaskContext.spanContext();
+            taskInstanceContextBuilder.withLoopContext(loopContext).parentContext(parentContext);
+            if (loopContext != null && oTelConfig.loopSpans()
+                    .granularityOf(eventInfo.taskType().toString()) == FlowOTelConfig.SpanGranularity.AGGREGATED) {
+                AggregatedTaskSpan aggregatedSpan = loopContext.aggregatedSpan(eventInfo.taskId(), taskId -> {
+                    SpanBuilder builder = spanBuilderFactory.newTaskSpan(spanName, eventInfo, parentContext);
+                    enrichSpan(builder, ev.taskContext().task());
+                    return new AggregatedTaskSpan(builder.startSpan(), parentContext);
+                });
+                taskInstanceContextBuilder.withAggregatedSpan(aggregatedSpan);
+            } else {
+                SpanBuilder builder = spanBuilderFactory.newTaskSpan(spanName, eventInfo, parentContext);
+                enrichSpan(builder, ev.taskContext().task());
+                Span startSpan = builder.startSpan();
+
+                appendTaskEvent(startSpan, eventInfo.eventType());
+                taskInstanceContextBuilder.withStartSpan(startSpan);
+            }
+        }
+        InstrumentationContext taskInstanceContext = taskInstanceContextBuilder.build();
 
         workflowContext.putTaskInstanceInstanceContext(eventInfo.taskId(),
                 eventInfo.taskInstanceIteration(),
@@ -223,10 +264,13 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
         if (!oTelConfig.isEnabled()) {
             return;
         }
+        WorkflowInstrumentationContext workflowContext = getWorkflowInstrumentationContext(ev.workflowContext().instanceData());
+        if (workflowContext != null && !workflowContext.isSampled()) {
+            return;
+        }
         TaskEventInfo eventInfo = TaskEventInfo.from(ev);
         logTaskEvent(eventInfo);
 
-        WorkflowInstrumentationContext workflowContext = getWorkflowInstrumentationContext(ev.workflowContext().instanceData());
         if (workflowContext == null) {
             warnNoWorkflowContext(eventInfo);
             return;
@@ -241,8 +285,40 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
             return;
         }
 
-        if (TASK_CANCELLED == eventInfo.eventType() || TASK_COMPLETED == eventInfo.eventType()) {
+        AggregatedTaskSpan aggregatedSpan = taskInstanceContext.getAggregatedSpan();
+        if (aggregatedSpan != null) {
+            Duration duration = Duration.between(taskInstanceContext.getStartTime(), Instant.now());
+            if (TASK_CANCELLED == eventInfo.eventType() || TASK_COMPLETED == eventInfo.eventType()) {
+                aggregatedSpan.record(duration, false);
+            } else if (TASK_SUSPENDED == eventInfo.eventType() || TASK_RESUMED == eventInfo.eventType()) {
+                return;
+            } else {
+                aggregatedSpan.record(duration, true);
+                exportFailedIteration(ev, eventInfo, taskInstanceContext, aggregatedSpan);
+            }
+            workflowContext.removeTaskInstanceInstanceContext(eventInfo.taskId(),
+                    eventInfo.taskInstanceIteration(),
+                    eventInfo.taskInstanceRetryAttempt());
+            return;
+        }
+
+        BufferedTaskSpan bufferedSpan = taskInstanceContext.getBufferedSpan();
+        if (bufferedSpan != null) {
+            bufferedSpan.addEvent(eventInfo.eventType());
+            if (TASK_CANCELLED == eventInfo.eventType() || TASK_COMPLETED == eventInfo.eventType()) {
+                bufferedSpan.end();
+            } else if (TASK_SUSPENDED == eventInfo.eventType() || TASK_RESUMED == eventInfo.eventType()) {
+                return;
+            } else {
+                bufferedSpan.fail(((TaskFailedEvent) ev).cause());
+                workflowContext.markTaskFailed();
+            }
+            workflowContext.removeTaskInstanceInstanceContext(eventInfo.taskId(),
+                    eventInfo.taskInstanceIteration(),
+                    eventInfo.taskInstanceRetryAttempt());
+        } else if (TASK_CANCELLED == eventInfo.eventType() || TASK_COMPLETED == eventInfo.eventType()) {
             Span startSpan = taskInstanceContext.getStartSpan();
+            taskInstanceContext.endAggregatedSpans();
             appendTaskEvent(startSpan, eventInfo.eventType());
             startSpan.setStatus(StatusCode.OK);
             startSpan.end();
@@ -255,6 +331,7 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
         } else {
             Span startSpan = taskInstanceContext.getStartSpan();
             TaskFailedEvent failedEvent = (TaskFailedEvent) ev;
+            taskInstanceContext.endAggregatedSpans();
             appendTaskEvent(startSpan, eventInfo.eventType());
             startSpan.recordException(failedEvent.cause());
             startSpan.setStatus(StatusCode.ERROR, failedEvent.cause().getMessage());
@@ -270,6 +347,57 @@ public class OTelWorkflowExecutionListener implements WorkflowExecutionListener
         WorkflowExecutionListener.super.close();
     }
 
+    /**
+     * Produces the full span of a failed iteration of a task aggregated in a loop, as a child of the aggregated span.
+     */
+    private void exportFailedIteration(TaskEvent ev, TaskEventInfo eventInfo, InstrumentationContext taskInstanceContext,
+            AggregatedTaskSpan aggregatedSpan) {
+        String spanName = generateTaskSpanName(taskNameStrategy, eventInfo.taskId(), eventInfo.taskName(),
+                eventInfo.taskInstanceIteration(), eventInfo.taskInstanceRetryAttempt());
+        SpanBuilder builder = spanBuilderFactory.newTaskSpan(spanName, eventInfo, aggregatedSpan.context())
+                .setStartTimestamp(taskInstanceContext.getStartTime());
+        enrichSpan(builder, ev.taskContext().task());
+        Span span = builder.startSpan();
+        span.addEvent(TASK_STARTED.id(), taskInstanceContext.getStartTime());
+        appendTaskEvent(span, eventInfo.eventType());
+        Throwable cause = ((TaskFailedEvent) ev).cause();
+        span.recordException(cause);
+        span.setStatus(StatusCode.ERROR, cause.getMessage());
+        span.end();
+    }
+
+    /**
+     * Exports the task spans kept in memory by tail sampling when the instance failed, one of its tasks failed or it
+     * exceeded the latency threshold, and discards them otherwise.
+     */
+    private void exportBufferedSpans(WorkflowInstrumentationContext workflowContext, boolean failed) {
+        if (!workflowContext.isBuffering()) {
+            return;
+        }
+        InstrumentationContext workflowInstanceContext = workflowContext.getWorkflowInstanceContext();
+        List<BufferedTaskSpan> bufferedSpans = workflowContext.drainBufferedSpans();
+        if (!failed && !workflowContext.hasFailedTask()
+                && !sampler.exceedsLatencyThreshold(workflowInstanceContext.getStartTime())) {
+            return;
+        }
+        if (workflowContext.droppedSpans() > 0) {
+            LOGGER.debug("Dropped {} task spans over the tail sampling buffer of the workflow instance",
+                    workflowContext.droppedSpans());
+        }
+        Context workflowSpanContext = workflowInstanceContext.getStartSpan()
+                .storeInContext(workflowInstanceContext.getParentContext());
+        for (BufferedTaskSpan bufferedSpan : bufferedSpans) {
+            BufferedTaskSpan parent = bufferedSpan.parent();
+            // a parent dropped from the buffer was never exported, attach to the workflow span instead
+            Span parentSpan = parent != null ? parent.span() : null;
+            Context parentContext = parentSpan != null ? parentSpan.storeInContext(workflowSpanContext) : workflowSpanContext;
+            SpanBuilder builder = spanBuilderFactory.newTaskSpan(bufferedSpan.name(), bufferedSpan.eventInfo(),
+                    parentContext);
+            enrichSpan(builder, bufferedSpan.task());
+            bufferedSpan.export(builder);
+        }
+    }
+
     private static String containerContextPosition(TaskType taskType, WorkflowPosition position) {
         switch (taskType) {
             case DO:
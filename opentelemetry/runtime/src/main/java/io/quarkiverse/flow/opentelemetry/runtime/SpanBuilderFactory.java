@@ -21,6 +21,11 @@ public class SpanBuilderFactory {
     static final String FLOW_TASK_ITERATION_ATTR = "flow.task.iteration";
     static final String FLOW_TASK_RETRYING_ATTR = "flow.task.retrying";
     static final String FLOW_TASK_RETRY_ATTEMPT = "flow.task.retry_attempt";
+    static final String FLOW_TASK_ITERATIONS_COUNT_ATTR = "flow.task.iterations.count";
+    static final String FLOW_TASK_ITERATIONS_FAILED_ATTR = "flow.task.iterations.failed";
+    static final String FLOW_TASK_ITERATIONS_DURATION_MIN_ATTR = "flow.task.iterations.duration.min_ms";
+    static final String FLOW_TASK_ITERATIONS_DURATION_MAX_ATTR = "flow.task.iterations.duration.max_ms";
+    static final String FLOW_TASK_ITERATIONS_DURATION_TOTAL_ATTR = "flow.task.iterations.duration.total_ms";
 
     @Inject
     Tracer tracer;
@@ -1,25 +1,110 @@
 package io.quarkiverse.flow.opentelemetry.runtime;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.serverlessworkflow.impl.WorkflowInstanceData;
 import io.serverlessworkflow.impl.WorkflowMutableInstance;
 
 public class WorkflowInstrumentationContext implements AutoCloseable {
     private static final String OTEL_CONTEXT = "OTEL_CONTEXT";
+    private static final WorkflowInstrumentationContext NOT_SAMPLED = new WorkflowInstrumentationContext(null, false, -1);
     private final InstrumentationContext workflowInstanceContext;
     private final Map<String, InstrumentationContext> workflowInstanceTaskContext = new ConcurrentHashMap<>();
+    /**
+     * Running container tasks ({@code do}, {@code for}, {@code fork}...) keyed by the position their children are nested
+     * in, each with its running iterations.
+     */
+    private final Map<String, ContainerNode> containers = new ConcurrentHashMap<>();
+    private final boolean sampled;
+    private final int maxBufferedSpans;
+    private final Queue<BufferedTaskSpan> bufferedSpans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    private volatile boolean taskFailed;
 
     public WorkflowInstrumentationContext(InstrumentationContext workflowInstanceContext) {
+        this(workflowInstanceContext, true, -1);
+    }
+
+    private WorkflowInstrumentationContext(InstrumentationContext workflowInstanceContext, boolean sampled,
+            int maxBufferedSpans) {
         this.workflowInstanceContext = workflowInstanceContext;
+        this.sampled = sampled;
+        this.maxBufferedSpans = maxBufferedSpans;
+    }
+
+    /**
+     * Context of a sampled instance whose task spans are kept in memory, up to the given number, until
+     * {@link #drainBufferedSpans()}.
+     */
+    public static WorkflowInstrumentationContext buffering(InstrumentationContext workflowInstanceContext,
+            int maxBufferedSpans) {
+        return new WorkflowInstrumentationContext(workflowInstanceContext, true, maxBufferedSpans);
+    }
+
+    /**
+     * Context of an instance that is not sampled, for which no span is produced at all.
+     */
+    public static WorkflowInstrumentationContext notSampled() {
+        return NOT_SAMPLED;
     }
 
     public InstrumentationContext getWorkflowInstanceContext() {
         return workflowInstanceContext;
     }
 
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public boolean isBuffering() {
+        return maxBufferedSpans >= 0;
+    }
+
+    /**
+     * Keeps the given task span in memory, unless {@code max-buffered-spans} is reached.
+     */
+    void buffer(BufferedTaskSpan span) {
+        if (bufferedCount.incrementAndGet() <= maxBufferedSpans) {
+            bufferedSpans.offer(span);
+        }
+    }
+
+    /**
+     * @return the buffered task spans in the order they started, removing them from this context
+     */
+    List<BufferedTaskSpan> drainBufferedSpans() {
+        List<BufferedTaskSpan> spans = new ArrayList<>(bufferedSpans.size());
+        BufferedTaskSpan span;
+        while ((span = bufferedSpans.poll()) != null) {
+            spans.add(span);
+        }
+        return spans;
+    }
+
+    /**
+     * @return the number of task spans dropped because {@code max-buffered-spans} was reached
+     */
+    int droppedSpans() {
+        return Math.max(0, bufferedCount.get() - maxBufferedSpans);
+    }
+
+    void markTaskFailed() {
+        taskFailed = true;
+    }
+
+    public boolean hasFailedTask() {
+        return taskFailed;
+    }
+
     public static String taskContextId(String taskInstanceId, int iteration, int retryAttempt) {
         return taskInstanceId + "-" + iteration + "-" + retryAttempt;
     }
@@ -27,10 +112,28 @@ public class WorkflowInstrumentationContext implements AutoCloseable {
     public void putTaskInstanceInstanceContext(String taskInstanceId, int iteration,
             int retryAttempt, InstrumentationContext context) {
         workflowInstanceTaskContext.put(taskContextId(taskInstanceId, iteration, retryAttempt), context);
+        if (context.isContainerContext()) {
+            containers.compute(context.getContainerPosition(), (position, container) -> {
+                if (container == null || !container.jsonPosition.equals(context.getJsonPosition())) {
+                    container = new ContainerNode(context.getJsonPosition());
+                }
+                container.iterations.put(iteration, context);
+                return container;
+            });
+        }
     }
 
     public void removeTaskInstanceInstanceContext(String taskInstanceId, int iteration, int retryAttempt) {
-        workflowInstanceTaskContext.remove(taskContextId(taskInstanceId, iteration, retryAttempt));
+        InstrumentationContext context = workflowInstanceTaskContext
+                .remove(taskContextId(taskInstanceId, iteration, retryAttempt));
+        if (context != null && context.isContainerContext()) {
+            containers.computeIfPresent(context.getContainerPosition(), (position, container) -> {
+                if (container.jsonPosition.equals(context.getJsonPosition())) {
+                    container.iterations.remove(iteration, context);
+                }
+                return container.iterations.isEmpty() ? null : container;
+            });
+        }
     }
 
     public InstrumentationContext getTaskInstanceContext(String taskInstanceId, int iteration,
@@ -38,37 +141,24 @@ public class WorkflowInstrumentationContext implements AutoCloseable {
         return workflowInstanceTaskContext.get(taskContextId(taskInstanceId, iteration, retryAttempt));
     }
 
-    private String findParentContextId(String jsonPosition) {
-        InstrumentationContext parentInstrumentationContext = null;
-        for (InstrumentationContext instrumentationContext : workflowInstanceTaskContext.values()) {
-            if (instrumentationContext.isContainerContext()
-                    && jsonPosition.startsWith(instrumentationContext.getContainerPosition())
-                    && !jsonPosition.equals(instrumentationContext.getJsonPosition()) && (parentInstrumentationContext == null
-                            || instrumentationContext.getContainerPosition().length() > parentInstrumentationContext
-                                    .getContainerPosition().length())) {
-                parentInstrumentationContext = instrumentationContext;
-            }
-        }
-        if (parentInstrumentationContext != null) {
-            return parentInstrumentationContext.getJsonPosition();
-        }
-        return null;
-    }
-
+    /**
+     * Finds the context the span of the task at the given position is a child of.
+     * <p>
+     * Walks up the JSON pointer one segment at a time and returns the latest iteration of the innermost running container
+     * task enclosing the position, or the workflow instance context when there is none. The cost is proportional to the
+     * depth of the position, not to the number of tasks or iterations seen so far.
+     */
     public InstrumentationContext findEnclosingParentContext(String jsonPosition) {
-        String parentContextId = findParentContextId(jsonPosition);
-        if (parentContextId == null) {
-            return workflowInstanceContext;
-        }
-        InstrumentationContext parentInstrumentationContext = null;
-        for (InstrumentationContext instrumentationContext : workflowInstanceTaskContext.values()) {
-            if (parentContextId.equals(instrumentationContext.getJsonPosition())
-                    && (parentInstrumentationContext == null
-                            || instrumentationContext.getIteration() > parentInstrumentationContext.getIteration())) {
-                parentInstrumentationContext = instrumentationContext;
+        for (int end = jsonPosition.lastIndexOf('/'); end >= 0; end = jsonPosition.lastIndexOf('/', end - 1)) {
+            ContainerNode container = containers.get(jsonPosition.substring(0, end));
+            if (container != null && !container.jsonPosition.equals(jsonPosition)) {
+                Map.Entry<Integer, InstrumentationContext> latest = container.iterations.lastEntry();
+                if (latest != null) {
+                    return latest.getValue();
+                }
             }
         }
-        return parentInstrumentationContext;
+        return workflowInstanceContext;
     }
 
     public void ensureAllTaskSpansAreClosed() {
@@ -77,11 +167,14 @@ public class WorkflowInstrumentationContext implements AutoCloseable {
                         .comparing((Map.Entry<String, InstrumentationContext> entry) -> entry.getValue().getStartTime())
                         .reversed())
                 .forEach(entry -> {
+                    entry.getValue().endAggregatedSpans();
                     if (entry.getValue().getStartSpan() != null) {
                         entry.getValue().getStartSpan().end();
                     }
                 });
         workflowInstanceTaskContext.clear();
+        containers.clear();
+        bufferedSpans.clear();
     }
 
     @Override
@@ -97,4 +190,14 @@ public class WorkflowInstrumentationContext implements AutoCloseable {
     public static WorkflowInstrumentationContext getWorkflowInstrumentationContext(WorkflowInstanceData instanceData) {
         return instanceData.findMetadata(OTEL_CONTEXT, WorkflowInstrumentationContext.class).orElse(null);
     }
+
+    private static final class ContainerNode {
+
+        private final String jsonPosition;
+        private final ConcurrentNavigableMap<Integer, InstrumentationContext> iterations = new ConcurrentSkipListMap<>();
+
+        private ContainerNode(String jsonPosition) {
+            this.jsonPosition = jsonPosition;
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package io.quarkiverse.flow.opentelemetry.runtime;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkiverse.flow.opentelemetry.runtime.config.FlowOTelConfig;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Decides which workflow instances produce spans, and which of their task spans are exported with tail sampling.
+ * <p>
+ * The head sampling ratio is resolved once per {@link WorkflowDefinitionId}, from the most specific workflow override
+ * ({@code namespace:name:version}, then {@code namespace:name}, then {@code name}), the same keys as the workflow levels
+ * of the Quarkus Flow client configuration. Ratios outside {@code [0.0, 1.0]} are clamped to the nearest bound.
+ */
+public class WorkflowSampler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowSampler.class);
+
+    private final Map<WorkflowDefinitionId, Double> ratios = new ConcurrentHashMap<>();
+
+    @Inject
+    FlowOTelConfig oTelConfig;
+
+    /**
+     * @return whether a new instance of the given workflow definition produces spans
+     */
+    public boolean isSampled(WorkflowDefinitionId id) {
+        double ratio = ratios.computeIfAbsent(id, this::resolveRatio);
+        return ratio >= 1.0 || (ratio > 0.0 && ThreadLocalRandom.current().nextDouble() < ratio);
+    }
+
+    public boolean isTailSampling() {
+        return oTelConfig.sampling().tail().enabled();
+    }
+
+    public int maxBufferedSpans() {
+        return oTelConfig.sampling().tail().maxBufferedSpans();
+    }
+
+    /**
+     * @return whether an instance started at the given time exceeds the tail sampling latency threshold
+     */
+    public boolean exceedsLatencyThreshold(Instant startTime) {
+        return oTelConfig.sampling().tail().latencyThreshold()
+                .map(threshold -> Duration.between(startTime, Instant.now()).compareTo(threshold) > 0)
+                .orElse(false);
+    }
+
+    private double resolveRatio(WorkflowDefinitionId id) {
+        Map<String, Double> overrides = oTelConfig.sampling().workflow();
+        Double ratio = overrides.get(id.namespace() + ":" + id.name() + ":" + id.version());
+        if (ratio == null) {
+            ratio = overrides.get(id.namespace() + ":" + id.name());
+        }
+        if (ratio == null) {
+            ratio = overrides.get(id.name());
+        }
+        double resolved = ratio != null ? ratio : oTelConfig.sampling().ratio();
+        if (resolved >= 0.0 && resolved <= 1.0) {
+            return resolved;
+        }
+        double clamped = resolved > 1.0 ? 1.0 : 0.0;
+        LOG.warn("Flow: Sampling ratio {} of workflow {} is outside [0.0, 1.0], using {}", resolved, id, clamped);
+        return clamped;
+    }
+}
@@ -1,10 +1,13 @@
 package io.quarkiverse.flow.opentelemetry.runtime.config;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigMapping(prefix = "quarkus.flow.otel")
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
@@ -17,6 +20,16 @@ public interface FlowOTelConfig {
      */
     Optional<Boolean> enabled();
 
+    /**
+     * Sampling of the traced workflow instances.
+     */
+    Sampling sampling();
+
+    /**
+     * Spans of the tasks running inside {@code for} loops.
+     */
+    LoopSpans loopSpans();
+
     /**
      * Use this method to access the actual configured value, or default value.
      * To distinguish default value from user explicitly configured value, if any, use enabled() instead.
@@ -26,4 +39,84 @@ public interface FlowOTelConfig {
     default boolean isEnabled() {
         return enabled().orElse(true);
     }
+
+    interface Sampling {
+
+        /**
+         * Ratio of workflow instances producing spans, between {@code 0.0} and {@code 1.0}. Values outside this range
+         * are clamped, with a warning.
+         * <p>
+         * The decision is taken once, when the instance starts. Instances that are not sampled produce neither a workflow
+         * span nor task spans.
+         */
+        @WithDefault("1.0")
+        double ratio();
+
+        /**
+         * Per-workflow sampling ratios, keyed by {@code namespace:name:version}, {@code namespace:name} or {@code name},
+         * the most specific one winning.
+         */
+        Map<String, Double> workflow();
+
+        /**
+         * Tail sampling of task spans.
+         */
+        Tail tail();
+    }
+
+    interface LoopSpans {
+
+        /**
+         * Granularity of the spans of the tasks running inside a {@code for} loop.
+         * <p>
+         * {@code iteration} (the default) produces one span per task and iteration. {@code aggregated} produces one span
+         * per task and loop, with the iteration count, durations and failures as attributes, plus a full span for each
+         * failed iteration.
+         */
+        @WithDefault("iteration")
+        SpanGranularity granularity();
+
+        /**
+         * Granularity per task type, such as {@code set} or {@code call_http}, overriding {@code granularity}.
+         */
+        Map<String, SpanGranularity> taskType();
+
+        /**
+         * @return the granularity of the spans of a task of the given type running inside a loop
+         */
+        default SpanGranularity granularityOf(String taskType) {
+            SpanGranularity granularity = taskType().get(taskType);
+            return granularity != null ? granularity : granularity();
+        }
+    }
+
+    enum SpanGranularity {
+        ITERATION,
+        AGGREGATED
+    }
+
+    interface Tail {
+
+        /**
+         * Keep the task spans of each sampled instance in memory and export them only when the instance fails, one of
+         * its tasks fails or it runs longer than {@code latency-threshold}.
+         * <p>
+         * Workflow spans are always exported.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Instances running longer than this export their task spans.
+         * <p>
+         * When not set (the default), only failures export task spans.
+         */
+        Optional<Duration> latencyThreshold();
+
+        /**
+         * Maximum number of task spans kept in memory per instance. Further task spans are dropped.
+         */
+        @WithDefault("10000")
+        int maxBufferedSpans();
+    }
 }
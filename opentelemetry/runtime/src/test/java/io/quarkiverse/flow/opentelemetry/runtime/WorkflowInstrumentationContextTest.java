@@ -0,0 +1,169 @@
+package io.quarkiverse.flow.opentelemetry.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+
+/**
+ * Unit tests for {@link WorkflowInstrumentationContext}.
+ */
+class WorkflowInstrumentationContextTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkflowInstrumentationContextTest.class);
+
+    private static final String OUTER = "/do/0/outer";
+    private static final String INNER = "/do/0/outer/for/do/0/inner";
+    private static final String STEP = "/do/0/outer/for/do/0/inner/for/do/0/step";
+
+    @Test
+    @DisplayName("tasks outside any container are children of the workflow")
+    void test_top_level_task_parent_is_workflow() {
+        InstrumentationContext workflow = InstrumentationContext.newBuilder().build();
+        WorkflowInstrumentationContext context = new WorkflowInstrumentationContext(workflow);
+
+        context.putTaskInstanceInstanceContext(OUTER, 0, 0, container(OUTER, "/do/0", 0));
+
+        assertThat(context.findEnclosingParentContext(OUTER)).isSameAs(workflow);
+        assertThat(context.findEnclosingParentContext("/do/1/next")).isSameAs(workflow);
+        // not nested in /do/0, only sharing its prefix
+        assertThat(context.findEnclosingParentContext("/do/01/next")).isSameAs(workflow);
+    }
+
+    @Test
+    @DisplayName("tasks are children of the latest iteration of the innermost container")
+    void test_nested_task_parent_is_latest_iteration() {
+        WorkflowInstrumentationContext context = new WorkflowInstrumentationContext(
+                InstrumentationContext.newBuilder().build());
+        InstrumentationContext outer = container(OUTER, "/do/0", 0);
+        context.putTaskInstanceInstanceContext(OUTER, 0, 0, outer);
+        InstrumentationContext first = container(INNER, "/do/0/outer/for/do/0", 0);
+        InstrumentationContext second = container(INNER, "/do/0/outer/for/do/0", 1);
+        context.putTaskInstanceInstanceContext(INNER, 0, 0, first);
+        context.putTaskInstanceInstanceContext(INNER, 1, 0, second);
+
+        assertThat(context.findEnclosingParentContext(INNER)).isSameAs(outer);
+        assertThat(context.findEnclosingParentContext("/do/0/outer/for/do/1/other")).isSameAs(outer);
+        assertThat(context.findEnclosingParentContext(STEP)).isSameAs(second);
+
+        context.removeTaskInstanceInstanceContext(INNER, 1, 0);
+        assertThat(context.findEnclosingParentContext(STEP)).isSameAs(first);
+
+        context.removeTaskInstanceInstanceContext(INNER, 0, 0);
+        assertThat(context.findEnclosingParentContext(STEP)).isSameAs(outer);
+    }
+
+    @Test
+    @DisplayName("tail sampling keeps task spans in start order up to the buffer size")
+    void test_buffered_spans_are_bounded() {
+        WorkflowInstrumentationContext context = WorkflowInstrumentationContext.buffering(
+                InstrumentationContext.newBuilder().build(), 2);
+        BufferedTaskSpan first = new BufferedTaskSpan("first", null, null, null, Instant.now());
+        BufferedTaskSpan second = new BufferedTaskSpan("second", null, null, first, Instant.now());
+
+        context.buffer(first);
+        context.buffer(second);
+        context.buffer(new BufferedTaskSpan("third", null, null, null, Instant.now()));
+
+        assertThat(context.isBuffering()).isTrue();
+        assertThat(context.droppedSpans()).isEqualTo(1);
+        assertThat(context.drainBufferedSpans()).containsExactly(first, second);
+        assertThat(context.drainBufferedSpans()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("instances that are not sampled never buffer")
+    void test_not_sampled_context() {
+        WorkflowInstrumentationContext context = WorkflowInstrumentationContext.notSampled();
+
+        assertThat(context.isSampled()).isFalse();
+        assertThat(context.isBuffering()).isFalse();
+    }
+
+    @Test
+    @DisplayName("loops share one aggregated span per task across iterations")
+    void test_loop_aggregates_spans_per_task() {
+        InstrumentationContext loop = InstrumentationContext.newBuilder()
+                .withJsonPosition(OUTER)
+                .withContainerPosition("/do/0")
+                .withTaskType(TaskType.FOR)
+                .withStartSpan(Span.getInvalid())
+                .parentContext(Context.root())
+                .build();
+        AtomicInteger created = new AtomicInteger();
+
+        AggregatedTaskSpan first = loop.aggregatedSpan(INNER, taskId -> {
+            created.incrementAndGet();
+            return new AggregatedTaskSpan(Span.getInvalid(), Context.root());
+        });
+        AggregatedTaskSpan second = loop.aggregatedSpan(INNER, taskId -> {
+            created.incrementAndGet();
+            return new AggregatedTaskSpan(Span.getInvalid(), Context.root());
+        });
+
+        assertThat(loop.isLoopContext()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(created).hasValue(1);
+        assertThat(container(INNER, "/do/0/outer/for/do/0", 0).isLoopContext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("parent lookups do not slow down with the number of iterations")
+    void test_nested_loop_scales_linearly() {
+        long small = runNestedLoop(100, 100);
+        long large = runNestedLoop(100, 1_000);
+        LOG.info("Nested loop with 10000 task starts took {} ms, with 100000 task starts {} ms",
+                TimeUnit.NANOSECONDS.toMillis(small), TimeUnit.NANOSECONDS.toMillis(large));
+    }
+
+    private static long runNestedLoop(int outerIterations, int innerIterations) {
+        InstrumentationContext workflow = InstrumentationContext.newBuilder().build();
+        WorkflowInstrumentationContext context = new WorkflowInstrumentationContext(workflow);
+        long start = System.nanoTime();
+
+        InstrumentationContext outer = container(OUTER, "/do/0", 0);
+        assertThat(context.findEnclosingParentContext(OUTER)).isSameAs(workflow);
+        context.putTaskInstanceInstanceContext(OUTER, 0, 0, outer);
+        for (int i = 0; i < outerIterations; i++) {
+            assertThat(context.findEnclosingParentContext(INNER)).isSameAs(outer);
+            InstrumentationContext inner = container(INNER, "/do/0/outer/for/do/0", i);
+            context.putTaskInstanceInstanceContext(INNER, i, 0, inner);
+            for (int j = 0; j < innerIterations; j++) {
+                if (context.findEnclosingParentContext(STEP) != inner) {
+                    throw new AssertionError("Unexpected parent for iteration " + i + "/" + j);
+                }
+                context.putTaskInstanceInstanceContext(STEP, j, 0, task(STEP, j));
+                context.removeTaskInstanceInstanceContext(STEP, j, 0);
+            }
+            context.removeTaskInstanceInstanceContext(INNER, i, 0);
+        }
+        context.removeTaskInstanceInstanceContext(OUTER, 0, 0);
+        return System.nanoTime() - start;
+    }
+
+    private static InstrumentationContext container(String jsonPosition, String containerPosition, int iteration) {
+        return InstrumentationContext.newBuilder()
+                .withJsonPosition(jsonPosition)
+                .withContainerPosition(containerPosition)
+                .withTaskType(TaskType.FOR)
+                .withIteration(iteration)
+                .build();
+    }
+
+    private static InstrumentationContext task(String jsonPosition, int iteration) {
+        return InstrumentationContext.newBuilder()
+                .withJsonPosition(jsonPosition)
+                .withTaskType(TaskType.SET)
+                .withIteration(iteration)
+                .build();
+    }
+}
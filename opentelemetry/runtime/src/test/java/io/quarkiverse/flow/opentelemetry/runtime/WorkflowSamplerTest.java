@@ -0,0 +1,53 @@
+package io.quarkiverse.flow.opentelemetry.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.opentelemetry.runtime.config.FlowOTelConfig;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+
+/**
+ * Unit tests for {@link WorkflowSampler}.
+ */
+class WorkflowSamplerTest {
+
+    private static final WorkflowDefinitionId ORDERS = new WorkflowDefinitionId("acme", "orders", "1.0.0");
+    private static final WorkflowDefinitionId INVOICES = new WorkflowDefinitionId("acme", "invoices", "1.0.0");
+    private static final WorkflowDefinitionId PAYMENTS = new WorkflowDefinitionId("acme", "payments", "1.0.0");
+
+    @Test
+    @DisplayName("the most specific workflow ratio wins over the global one")
+    void test_ratio_follows_cascade() {
+        WorkflowSampler sampler = sampler(0.0, Map.of("acme:orders:1.0.0", 1.0, "acme:orders", 0.0, "invoices", 1.0));
+
+        assertThat(sampler.isSampled(ORDERS)).isTrue();
+        assertThat(sampler.isSampled(INVOICES)).isTrue();
+        assertThat(sampler.isSampled(PAYMENTS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ratios outside [0.0, 1.0] are clamped")
+    void test_ratio_out_of_range_is_clamped() {
+        WorkflowSampler sampler = sampler(-0.5, Map.of("orders", 2.0));
+
+        assertThat(sampler.isSampled(ORDERS)).isTrue();
+        assertThat(sampler.isSampled(INVOICES)).isFalse();
+    }
+
+    private static WorkflowSampler sampler(double ratio, Map<String, Double> workflows) {
+        FlowOTelConfig.Sampling sampling = mock(FlowOTelConfig.Sampling.class);
+        when(sampling.ratio()).thenReturn(ratio);
+        when(sampling.workflow()).thenReturn(workflows);
+        FlowOTelConfig config = mock(FlowOTelConfig.class);
+        when(config.sampling()).thenReturn(sampling);
+        WorkflowSampler sampler = new WorkflowSampler();
+        sampler.oTelConfig = config;
+        return sampler;
+    }
+}
@@ -0,0 +1,169 @@
+package io.quarkiverse.flow.persistence.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import io.serverlessworkflow.impl.marshaller.WorkflowBufferFactory;
+import io.serverlessworkflow.impl.marshaller.WorkflowInputBuffer;
+import io.serverlessworkflow.impl.marshaller.WorkflowOutputBuffer;
+
+/**
+ * {@link WorkflowBufferFactory} compressing the marshalled models above a size threshold.
+ * <p>
+ * Models are marshalled by the delegate factory. Every written payload starts with a small header telling whether the
+ * rest is deflated or stored as is, so small models do not pay the compression cost. Payloads without the header,
+ * written before compression was enabled or through {@link #uncompressed(WorkflowBufferFactory)}, are read
+ * unchanged.
+ * <p>
+ * Compressed payloads stay readable once compression is disabled again: a factory created with
+ * {@link #decompressing(WorkflowBufferFactory)} writes the models as the delegate does and still decompresses the
+ * payloads that have the header.
+ */
+public class CompressedBufferFactory implements WorkflowBufferFactory {
+
+    private static final byte[] MAGIC = { 'Q', 'F', 'Z' };
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private final WorkflowBufferFactory delegate;
+    private final int threshold;
+    private final int level;
+    private final boolean compress;
+
+    public CompressedBufferFactory(WorkflowBufferFactory delegate, int threshold, int level) {
+        this(delegate, threshold, level, true);
+    }
+
+    private CompressedBufferFactory(WorkflowBufferFactory delegate, int threshold, int level, boolean compress) {
+        this.delegate = delegate;
+        this.threshold = Math.max(0, threshold);
+        this.level = level;
+        this.compress = compress;
+    }
+
+    /**
+     * @return a factory writing the models uncompressed, reading both compressed and uncompressed payloads
+     */
+    public static CompressedBufferFactory decompressing(WorkflowBufferFactory delegate) {
+        return new CompressedBufferFactory(delegate, 0, Deflater.DEFAULT_COMPRESSION, false);
+    }
+
+    /**
+     * Scalar fields (statuses, dates, counters, identifiers) never reach the threshold, so writing them through a
+     * compressing factory would only add the header to every one of them.
+     *
+     * @return a factory writing without the header, reading both compressed and uncompressed payloads
+     */
+    public static WorkflowBufferFactory uncompressed(WorkflowBufferFactory factory) {
+        return factory instanceof CompressedBufferFactory compressed && compressed.compress
+                ? decompressing(compressed.delegate)
+                : factory;
+    }
+
+    @Override
+    public WorkflowInputBuffer input(InputStream input) {
+        return delegate.input(decompress(input));
+    }
+
+    @Override
+    public WorkflowOutputBuffer output(OutputStream output) {
+        return delegate.output(compress ? new CompressingOutputStream(output, threshold, level) : output);
+    }
+
+    private static InputStream decompress(InputStream input) {
+        try {
+            PushbackInputStream pushback = new PushbackInputStream(input, MAGIC.length + 1);
+            byte[] header = pushback.readNBytes(MAGIC.length + 1);
+            if (header.length == MAGIC.length + 1 && Arrays.equals(header, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+                return header[MAGIC.length] == DEFLATED ? new InflaterInputStream(pushback) : pushback;
+            }
+            pushback.unread(header);
+            return pushback;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Buffers the first {@code threshold} bytes, then either deflates everything once the threshold is crossed or
+     * writes the buffered bytes as is on close.
+     */
+    private static final class CompressingOutputStream extends FilterOutputStream {
+
+        private final int threshold;
+        private final int level;
+        private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private Deflater deflater;
+        private boolean closed;
+
+        CompressingOutputStream(OutputStream out, int threshold, int level) {
+            super(out);
+            this.threshold = threshold;
+            this.level = level;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (pending == null) {
+                out.write(b, off, len);
+                return;
+            }
+            pending.write(b, off, len);
+            if (pending.size() > threshold) {
+                startDeflating();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // pending bytes are only written once it is known whether they have to be compressed
+            if (pending == null) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                if (pending != null) {
+                    out.write(MAGIC);
+                    out.write(RAW);
+                    pending.writeTo(out);
+                    pending = null;
+                }
+                out.close();
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+
+        private void startDeflating() throws IOException {
+            out.write(MAGIC);
+            out.write(DEFLATED);
+            deflater = new Deflater(level);
+            out = new DeflaterOutputStream(out, deflater);
+            pending.writeTo(out);
+            pending = null;
+        }
+    }
+}
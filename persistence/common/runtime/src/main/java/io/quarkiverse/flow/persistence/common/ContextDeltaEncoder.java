@@ -0,0 +1,222 @@
+package io.quarkiverse.flow.persistence.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.serverlessworkflow.impl.WorkflowContextData;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.serverlessworkflow.impl.WorkflowModelFactory;
+
+/**
+ * Stores the workflow context of completed tasks as a delta against the last full snapshot of the instance, instead
+ * of storing the whole context for every task.
+ * <p>
+ * A snapshot is the plain context, stored wherever the persistence provider decides and identified by a reference.
+ * A delta is a map holding the reference of its snapshot, the top level entries that were added or changed since
+ * that snapshot and the ones that were removed. A new snapshot is taken every {@code snapshotInterval} tasks, so a
+ * delta never grows bigger than the changes of that many tasks and is decoded by applying it to a single snapshot.
+ * <p>
+ * The last snapshot of every running instance is kept in memory, as a deep copy of its maps and collections, so
+ * nested values changed in place by the application still show up in the next delta. This costs about the size of
+ * one context per running or waiting instance, so at most {@code maxSnapshots} snapshots are kept: the least recently
+ * written one is evicted first. After a restart, an eviction or a failed write, the next completed task of an
+ * instance is stored as a snapshot.
+ */
+public class ContextDeltaEncoder {
+
+    private static final String DELTA = "@flow.contextDelta";
+    private static final String BASE = "base";
+    private static final String SET = "set";
+    private static final String UNSET = "unset";
+
+    static final int DEFAULT_MAX_SNAPSHOTS = 10_000;
+
+    private static final ContextDeltaEncoder DISABLED = new ContextDeltaEncoder(false, 0, 0);
+
+    private final boolean enabled;
+    private final int snapshotInterval;
+    private final Map<String, Snapshot> snapshots;
+
+    public ContextDeltaEncoder(boolean enabled, int snapshotInterval) {
+        this(enabled, snapshotInterval, DEFAULT_MAX_SNAPSHOTS);
+    }
+
+    /**
+     * @param maxSnapshots maximum number of instances whose last snapshot is kept in memory
+     */
+    public ContextDeltaEncoder(boolean enabled, int snapshotInterval, int maxSnapshots) {
+        this.enabled = enabled;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.snapshots = Collections.synchronizedMap(new SnapshotCache(Math.max(1, maxSnapshots)));
+    }
+
+    /**
+     * @return an encoder always storing the full context.
+     */
+    public static ContextDeltaEncoder disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return whether contexts are encoded as deltas.
+     */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * Encodes the current context of the given workflow instance.
+     *
+     * @param workflowContext the workflow instance whose context is stored
+     * @param snapshotRef the reference under which the context will be stored if it is encoded as a snapshot
+     * @return the context to store
+     */
+    public EncodedContext encode(WorkflowContextData workflowContext, String snapshotRef) {
+        WorkflowModel context = workflowContext.context();
+        if (!enabled || context == null) {
+            return new EncodedContext(context, true);
+        }
+        String instanceKey = instanceKey(workflowContext);
+        Optional<Map<String, Object>> current = context.asMap();
+        if (current.isEmpty()) {
+            // Only object contexts can be encoded as a delta
+            snapshots.remove(instanceKey);
+            return new EncodedContext(context, true);
+        }
+        Snapshot snapshot = snapshots.get(instanceKey);
+        if (snapshot == null || snapshot.deltas() + 1 >= snapshotInterval) {
+            // models may wrap maps still owned by the application, keep a copy to compare the next contexts with
+            snapshots.put(instanceKey, new Snapshot(snapshotRef, copyMap(current.get()), 0));
+            return new EncodedContext(context, true);
+        }
+        snapshots.put(instanceKey, new Snapshot(snapshot.ref(), snapshot.context(), snapshot.deltas() + 1));
+        return new EncodedContext(delta(workflowContext.definition().application().modelFactory(), snapshot,
+                current.get()), false);
+    }
+
+    /**
+     * @return a delta without changes against the given snapshot, for the providers storing snapshots apart from the
+     *         task they belong to.
+     */
+    public WorkflowModel reference(WorkflowContextData workflowContext, String snapshotRef) {
+        return workflowContext.definition().application().modelFactory()
+                .from(Map.of(DELTA, Map.of(BASE, snapshotRef, SET, Map.of(), UNSET, List.of())));
+    }
+
+    /**
+     * Drops the snapshot kept for the given instance, so the next context written for it is a snapshot.
+     */
+    public void forget(WorkflowContextData workflowContext) {
+        if (enabled) {
+            snapshots.remove(instanceKey(workflowContext));
+        }
+    }
+
+    /**
+     * @param stored the context as stored, either a snapshot or a delta
+     * @param snapshots resolves the snapshots of the instance by reference
+     * @param modelFactory the factory building the decoded context
+     * @return the full context
+     */
+    @SuppressWarnings("unchecked")
+    public static WorkflowModel decode(WorkflowModel stored, Function<String, WorkflowModel> snapshots,
+            WorkflowModelFactory modelFactory) {
+        if (stored == null) {
+            return null;
+        }
+        Optional<Map<String, Object>> map = stored.asMap();
+        if (map.isEmpty() || !(map.get().get(DELTA) instanceof Map<?, ?> delta)) {
+            return stored;
+        }
+        String ref = (String) delta.get(BASE);
+        WorkflowModel base = snapshots.apply(ref);
+        if (base == null) {
+            throw new IllegalStateException("Missing context snapshot " + ref);
+        }
+        Map<String, Object> context = new LinkedHashMap<>(base.asMap().orElseThrow());
+        context.putAll((Map<String, Object>) delta.get(SET));
+        ((Collection<String>) delta.get(UNSET)).forEach(context::remove);
+        return modelFactory.from(context);
+    }
+
+    private static WorkflowModel delta(WorkflowModelFactory modelFactory, Snapshot snapshot,
+            Map<String, Object> current) {
+        Map<String, Object> set = new HashMap<>();
+        current.forEach((key, value) -> {
+            if (!snapshot.context().containsKey(key) || !Objects.equals(snapshot.context().get(key), value)) {
+                set.put(key, value);
+            }
+        });
+        List<String> unset = snapshot.context().keySet().stream().filter(key -> !current.containsKey(key)).toList();
+        return modelFactory.from(Map.of(DELTA, Map.of(BASE, snapshot.ref(), SET, set, UNSET, unset)));
+    }
+
+    private static Map<String, Object> copyMap(Map<String, Object> map) {
+        Map<String, Object> copy = new HashMap<>();
+        map.forEach((key, value) -> copy.put(key, copy(value)));
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copy(Object value) {
+        if (value instanceof WorkflowModel model) {
+            return copy(model.asJavaObject());
+        } else if (value instanceof Map<?, ?> map) {
+            return copyMap((Map<String, Object>) map);
+        } else if (value instanceof Set<?> set) {
+            // kept a set so that it is still equal to the set it was copied from
+            Set<Object> copy = new LinkedHashSet<>();
+            set.forEach(item -> copy.add(copy(item)));
+            return copy;
+        } else if (value instanceof Collection<?> collection) {
+            List<Object> copy = new ArrayList<>(collection.size());
+            collection.forEach(item -> copy.add(copy(item)));
+            return copy;
+        }
+        return value;
+    }
+
+    private static String instanceKey(WorkflowContextData workflowContext) {
+        return workflowContext.definition().application().id() + ":" + workflowContext.instanceData().id();
+    }
+
+    /**
+     * @param context the context to store
+     * @param snapshot whether the context is stored in full and may be referenced by later deltas
+     */
+    public record EncodedContext(WorkflowModel context, boolean snapshot) {
+    }
+
+    private record Snapshot(String ref, Map<String, Object> context, int deltas) {
+    }
+
+    /**
+     * Snapshots in the order they were last written, evicting the oldest one above the maximum.
+     */
+    private static final class SnapshotCache extends LinkedHashMap<String, Snapshot> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSnapshots;
+
+        SnapshotCache(int maxSnapshots) {
+            super(16, 0.75f, true);
+            this.maxSnapshots = maxSnapshots;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Snapshot> eldest) {
+            return size() > maxSnapshots;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.quarkiverse.flow.persistence.common;
 import java.util.concurrent.ExecutorService;
 
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
 
 import io.quarkus.arc.DefaultBean;
 import io.serverlessworkflow.impl.marshaller.DefaultBufferFactory;
@@ -13,8 +14,19 @@ import io.serverlessworkflow.impl.persistence.PersistenceExecutor;
 public class FlowFactoryProducer {
     @Produces
     @DefaultBean
-    WorkflowBufferFactory workflowBufferFactory() {
-        return DefaultBufferFactory.factory();
+    WorkflowBufferFactory workflowBufferFactory(FlowPersistenceConfig config) {
+        FlowPersistenceConfig.Compression compression = config.compression();
+        // payloads compressed while compression was enabled must stay readable after it is disabled
+        return compression.enabled()
+                ? new CompressedBufferFactory(DefaultBufferFactory.factory(), compression.threshold(), compression.level())
+                : CompressedBufferFactory.decompressing(DefaultBufferFactory.factory());
+    }
+
+    @Produces
+    @Singleton
+    ContextDeltaEncoder contextDeltaEncoder(FlowPersistenceConfig config) {
+        return new ContextDeltaEncoder(config.contextDelta().enabled(), config.contextDelta().snapshotInterval(),
+                config.contextDelta().maxSnapshots());
     }
 
     @Produces
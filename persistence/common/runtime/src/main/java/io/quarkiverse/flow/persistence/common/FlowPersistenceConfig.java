@@ -27,4 +27,106 @@ public interface FlowPersistenceConfig {
      * Example: quarkus.flow.persistence.exclude-workflows=com.example:workflow:0.1.0,org.acme:workflow:1.2.0
      */
     Optional<List<String>> excludeWorkflows();
-}
\ No newline at end of file
+
+    /**
+     * Restoration of stored workflow instances after restart
+     */
+    Restore restore();
+
+    /**
+     * Delta encoding of the workflow context stored with every completed task
+     */
+    ContextDelta contextDelta();
+
+    interface ContextDelta {
+
+        /**
+         * Store the workflow context of completed tasks as the changes since the last full snapshot of the context,
+         * instead of storing the whole context for every task. Only object contexts are delta encoded.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Number of completed tasks after which the whole context is stored again
+         */
+        @WithDefault("10")
+        int snapshotInterval();
+
+        /**
+         * Maximum number of instances whose last snapshot is kept in memory to compute the next delta. Each one costs
+         * about the size of its context; the next task of an evicted instance stores the whole context again.
+         */
+        @WithDefault("10000")
+        int maxSnapshots();
+    }
+
+    /**
+     * Compression of the marshalled workflow models
+     */
+    Compression compression();
+
+    interface Compression {
+
+        /**
+         * Compress the task outputs, contexts and inputs written by the persistence providers. Only affects writes:
+         * compressed and uncompressed payloads are read whatever this setting is.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Size in bytes above which a marshalled model is compressed. Smaller models are stored as is.
+         */
+        @WithDefault("512")
+        int threshold();
+
+        /**
+         * Deflate compression level, from 1 (fastest) to 9 (smallest)
+         */
+        @WithDefault("1")
+        int level();
+    }
+
+    interface Restore {
+
+        /**
+         * Number of workers starting restored instances in parallel
+         */
+        @WithDefault("4")
+        int parallelism();
+
+        /**
+         * Maximum number of instances restored per second. Restoration is not throttled when not set.
+         */
+        Optional<Integer> maxRate();
+
+        /**
+         * Number of stored instances read at once, for the persistence providers that read them page by page
+         */
+        @WithDefault("500")
+        int pageSize();
+
+        /**
+         * Restore instances in the background instead of delaying the application startup until every stored
+         * instance has been restarted
+         */
+        @WithDefault("false")
+        boolean background();
+
+        /**
+         * Report the application as not ready while a background restoration is in progress. Disable it to let the
+         * application become ready before the restoration finishes.
+         */
+        @WithDefault("true")
+        boolean blockReadiness();
+
+        /**
+         * Fail when a stored instance cannot be read or restarted, instead of logging the error and restoring the
+         * other instances. The application startup fails, or with a background restoration the application is
+         * reported as not ready.
+         */
+        @WithDefault("false")
+        boolean failOnError();
+    }
+}
@@ -4,6 +4,15 @@ import static io.quarkiverse.flow.persistence.common.FlowPersistenceUtils.exclud
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -33,30 +42,152 @@ public class FlowPersistenceRestore {
     @Inject
     FlowPersistenceConfig config;
 
+    private final AtomicLong restored = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicReference<RuntimeException> firstError = new AtomicReference<>();
+    private volatile boolean inProgress;
+
     void restoreInstances(@Observes WorkflowApplicationReadyEvent event) {
         // Check runtime config to see if auto-restore is enabled
         if (!config.autoRestore()) {
             LOG.debug("Auto-restore is disabled, skipping workflow instance restoration");
             return;
         }
-        Map<WorkflowDefinitionId, WorkflowDefinition> definitions = application.workflowDefinitions();
+        inProgress = true;
+        if (config.restore().background()) {
+            Thread restorer = new Thread(this::restore, "flow-persistence-restore");
+            restorer.setDaemon(true);
+            restorer.start();
+        } else {
+            restore();
+            RuntimeException error = firstError.get();
+            if (error != null && config.restore().failOnError()) {
+                throw new IllegalStateException("Flow: " + failed.get() + " stored workflow instances could not be "
+                        + "restored", error);
+            }
+        }
+    }
 
-        Collection<WorkflowDefinitionId> excludedIds = excludedIds(config.excludeWorkflows());
-        LOG.debug("Restoring workflow instances from persistence, found {} workflow definitions", definitions.size());
+    /**
+     * @return whether stored instances are still being restored.
+     */
+    public boolean inProgress() {
+        return inProgress;
+    }
+
+    public long restored() {
+        return restored.get();
+    }
 
-        for (WorkflowDefinition def : definitions.values()) {
-            if (excludedIds.contains(def.id())) {
-                LOG.debug("Skipping restoration for excluded workflow: {}", def.id());
-                continue;
+    public long failed() {
+        return failed.get();
+    }
+
+    /**
+     * @return whether a stored instance could not be read or restarted.
+     */
+    public boolean hasFailures() {
+        return firstError.get() != null;
+    }
+
+    private void restore() {
+        FlowPersistenceConfig.Restore restoreConfig = config.restore();
+        int parallelism = Math.max(1, restoreConfig.parallelism());
+        // Bounds the instances read ahead of the workers, so the stored instances are streamed rather than buffered
+        Semaphore pending = new Semaphore(parallelism * 2);
+        RateLimiter rateLimiter = new RateLimiter(restoreConfig.maxRate().orElse(0));
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, workerFactory());
+        long start = System.nanoTime();
+        try {
+            Map<WorkflowDefinitionId, WorkflowDefinition> definitions = application.workflowDefinitions();
+            Collection<WorkflowDefinitionId> excludedIds = excludedIds(config.excludeWorkflows());
+            LOG.debug("Restoring workflow instances from persistence, found {} workflow definitions", definitions.size());
+
+            for (WorkflowDefinition def : definitions.values()) {
+                if (excludedIds.contains(def.id())) {
+                    LOG.debug("Skipping restoration for excluded workflow: {}", def.id());
+                    continue;
+                }
+
+                try (Stream<WorkflowInstance> stream = handlers.reader().scanAll(def)) {
+                    stream.forEach(instance -> {
+                        rateLimiter.acquire();
+                        pending.acquireUninterruptibly();
+                        workers.execute(() -> {
+                            try {
+                                start(instance);
+                            } finally {
+                                pending.release();
+                            }
+                        });
+                    });
+                } catch (RuntimeException e) {
+                    firstError.compareAndSet(null, e);
+                    LOG.error("Failed to read stored instances of workflow {}", def.id(), e);
+                }
             }
+        } finally {
+            workers.shutdown();
+            awaitWorkers(workers);
+            inProgress = false;
+            LOG.info("Restored {} workflow instances in {} ms, {} failed", restored.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed.get());
+        }
+    }
 
-            try (Stream<WorkflowInstance> stream = handlers.reader().scanAll(def)) {
-                stream.forEach(instance -> {
-                    LOG.debug("Restoring workflow instance: {} with WorkflowInstance.status(): {}", instance.id(),
-                            instance.status());
-                    instance.start();
-                });
+    private void start(WorkflowInstance instance) {
+        try {
+            LOG.debug("Restoring workflow instance: {} with WorkflowInstance.status(): {}", instance.id(),
+                    instance.status());
+            instance.start();
+            restored.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            firstError.compareAndSet(null, e);
+            LOG.error("Failed to restore workflow instance {}", instance.id(), e);
+        }
+    }
+
+    private static void awaitWorkers(ExecutorService workers) {
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                LOG.debug("Waiting for restored workflow instances to be started");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory workerFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "flow-persistence-restore-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Spaces out the restored instances evenly, so that restarting a large backlog does not flood the engine.
+     */
+    private static final class RateLimiter {
+
+        private final long intervalNanos;
+        private long next = System.nanoTime();
+
+        RateLimiter(int permitsPerSecond) {
+            this.intervalNanos = permitsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / permitsPerSecond : 0;
+        }
+
+        void acquire() {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (next > now) {
+                LockSupport.parkNanos(next - now);
             }
+            next = Math.max(next, now) + intervalNanos;
         }
     }
 }
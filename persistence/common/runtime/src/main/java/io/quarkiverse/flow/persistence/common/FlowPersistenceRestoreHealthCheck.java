@@ -0,0 +1,39 @@
+package io.quarkiverse.flow.persistence.common;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+import org.eclipse.microprofile.health.Readiness;
+
+@Readiness
+@ApplicationScoped
+public class FlowPersistenceRestoreHealthCheck implements HealthCheck {
+
+    private static final String NAME = "Workflow Instances Restore";
+
+    @Inject
+    FlowPersistenceRestore restore;
+
+    @Inject
+    FlowPersistenceConfig config;
+
+    @Override
+    public HealthCheckResponse call() {
+        boolean inProgress = restore.inProgress();
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named(NAME)
+                .withData("inProgress", inProgress)
+                .withData("restored", restore.restored())
+                .withData("failed", restore.failed());
+
+        if (inProgress && config.restore().blockReadiness()) {
+            return builder.down().build();
+        }
+        if (restore.hasFailures() && config.restore().failOnError()) {
+            return builder.down().build();
+        }
+        return builder.up().build();
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkiverse.flow.persistence.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+
+import io.serverlessworkflow.impl.marshaller.DefaultBufferFactory;
+import io.serverlessworkflow.impl.marshaller.MarshallingUtils;
+import io.serverlessworkflow.impl.marshaller.WorkflowBufferFactory;
+import io.serverlessworkflow.impl.marshaller.WorkflowInputBuffer;
+import io.serverlessworkflow.impl.marshaller.WorkflowOutputBuffer;
+
+class CompressedBufferFactoryTest {
+
+    private static final String LARGE = "{\"order\":{\"id\":\"1234\",\"items\":[\"apple\",\"banana\",\"cherry\"]}}".repeat(200);
+
+    private final WorkflowBufferFactory factory = new CompressedBufferFactory(DefaultBufferFactory.factory(), 512,
+            Deflater.BEST_SPEED);
+
+    @Test
+    void large_payloads_are_compressed() {
+        byte[] compressed = write(factory, LARGE);
+
+        assertThat(compressed.length).isLessThan(write(DefaultBufferFactory.factory(), LARGE).length / 4);
+        assertThat(read(factory, compressed)).isEqualTo(LARGE);
+    }
+
+    @Test
+    void small_payloads_are_stored_as_is() {
+        byte[] stored = write(factory, "small");
+
+        assertThat(stored.length).isEqualTo(write(DefaultBufferFactory.factory(), "small").length + 4);
+        assertThat(read(factory, stored)).isEqualTo("small");
+    }
+
+    @Test
+    void payloads_written_without_compression_are_read() {
+        assertThat(read(factory, write(DefaultBufferFactory.factory(), LARGE))).isEqualTo(LARGE);
+        assertThat(read(factory, write(DefaultBufferFactory.factory(), "small"))).isEqualTo("small");
+    }
+
+    @Test
+    void compressed_payloads_are_read_once_compression_is_disabled() {
+        WorkflowBufferFactory disabled = CompressedBufferFactory.decompressing(DefaultBufferFactory.factory());
+
+        assertThat(read(disabled, write(factory, LARGE))).isEqualTo(LARGE);
+        assertThat(read(disabled, write(factory, "small"))).isEqualTo("small");
+        assertThat(write(disabled, LARGE)).isEqualTo(write(DefaultBufferFactory.factory(), LARGE));
+    }
+
+    @Test
+    void scalars_are_written_without_header() {
+        WorkflowBufferFactory scalars = CompressedBufferFactory.uncompressed(factory);
+
+        byte[] attempt = MarshallingUtils.writeInt(scalars, 3);
+
+        assertThat(attempt).hasSize(Integer.BYTES);
+        assertThat(MarshallingUtils.readInt(factory, attempt)).isEqualTo(3);
+        assertThat(MarshallingUtils.readInt(factory, MarshallingUtils.writeInt(factory, 3))).isEqualTo(3);
+        assertThat(CompressedBufferFactory.uncompressed(DefaultBufferFactory.factory()))
+                .isSameAs(DefaultBufferFactory.factory());
+    }
+
+    private static byte[] write(WorkflowBufferFactory factory, Object object) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (WorkflowOutputBuffer writer = factory.output(output)) {
+            writer.writeObject(object);
+        }
+        return output.toByteArray();
+    }
+
+    private static Object read(WorkflowBufferFactory factory, byte[] data) {
+        try (WorkflowInputBuffer reader = factory.input(new ByteArrayInputStream(data))) {
+            return reader.readObject();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package io.quarkiverse.flow.persistence.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.dsl.model.JavaModel;
+import io.quarkiverse.flow.dsl.model.JavaModelFactory;
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowContextData;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowInstanceData;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.serverlessworkflow.impl.WorkflowModelFactory;
+
+class ContextDeltaEncoderTest {
+
+    private final WorkflowModelFactory modelFactory = new JavaModelFactory();
+    private final Map<String, WorkflowModel> stored = new HashMap<>();
+
+    @Test
+    void nested_values_changed_in_place_are_part_of_the_delta() {
+        ContextDeltaEncoder encoder = new ContextDeltaEncoder(true, 10);
+        Map<String, Object> order = new LinkedHashMap<>(Map.of("status", "new"));
+        List<Object> items = new ArrayList<>(List.of("apple"));
+        Map<String, Object> context = new LinkedHashMap<>(Map.of("order", order, "items", items, "customer", "ana"));
+
+        store(encoder, "s1", context);
+        order.put("status", "paid");
+        items.add("banana");
+        WorkflowModel delta = store(encoder, "s2", context);
+
+        assertThat(delta(delta).get("set")).isEqualTo(Map.of("order", Map.of("status", "paid"),
+                "items", List.of("apple", "banana")));
+        assertThat(decode(delta)).isEqualTo(Map.of("order", Map.of("status", "paid"),
+                "items", List.of("apple", "banana"), "customer", "ana"));
+    }
+
+    @Test
+    void removed_keys_are_unset() {
+        ContextDeltaEncoder encoder = new ContextDeltaEncoder(true, 10);
+        Map<String, Object> context = new LinkedHashMap<>(Map.of("order", "1234", "customer", "ana"));
+
+        store(encoder, "s1", context);
+        context.remove("customer");
+        WorkflowModel delta = store(encoder, "s2", context);
+
+        assertThat(delta(delta).get("set")).isEqualTo(Map.of());
+        assertThat(delta(delta).get("unset")).isEqualTo(List.of("customer"));
+        assertThat(decode(delta)).isEqualTo(Map.of("order", "1234"));
+    }
+
+    @Test
+    void a_snapshot_is_taken_every_interval() {
+        ContextDeltaEncoder encoder = new ContextDeltaEncoder(true, 2);
+        Map<String, Object> context = new LinkedHashMap<>(Map.of("step", 1));
+
+        assertThat(encoder.encode(workflowContext(context), "s1").snapshot()).isTrue();
+        context.put("step", 2);
+        WorkflowModel delta = store(encoder, "s2", context);
+        context.put("step", 3);
+        ContextDeltaEncoder.EncodedContext rollover = encoder.encode(workflowContext(context), "s3");
+        context.put("step", 4);
+        WorkflowModel afterRollover = store(encoder, "s4", context);
+
+        assertThat(delta(delta).get("base")).isEqualTo("s1");
+        assertThat(rollover.snapshot()).isTrue();
+        assertThat(delta(afterRollover).get("base")).isEqualTo("s3");
+        assertThat(delta(afterRollover).get("set")).isEqualTo(Map.of("step", 4));
+    }
+
+    @Test
+    void maps_changed_after_being_wrapped_do_not_leak_into_snapshots() {
+        ContextDeltaEncoder encoder = new ContextDeltaEncoder(true, 10);
+        Map<String, Object> address = new LinkedHashMap<>(Map.of("city", "Recife"));
+        Map<String, Object> context = new LinkedHashMap<>(Map.of("address", address));
+
+        // JavaModel reads through the application map, so later changes to it are visible
+        JavaModel model = new JavaModel(context);
+        store(encoder, "s1", context);
+        address.put("city", "Olinda");
+        assertThat(model.asMap()).hasValue(Map.of("address", Map.of("city", "Olinda")));
+        WorkflowModel delta = store(encoder, "s2", context);
+
+        assertThat(delta(delta).get("set")).isEqualTo(Map.of("address", Map.of("city", "Olinda")));
+        assertThat(decode(delta)).isEqualTo(Map.of("address", Map.of("city", "Olinda")));
+    }
+
+    @Test
+    void evicted_snapshots_are_stored_in_full_again() {
+        ContextDeltaEncoder encoder = new ContextDeltaEncoder(true, 10, 1);
+        Map<String, Object> context = new LinkedHashMap<>(Map.of("step", 1));
+
+        assertThat(encoder.encode(workflowContext("first", context), "s1").snapshot()).isTrue();
+        assertThat(encoder.encode(workflowContext("second", context), "s2").snapshot()).isTrue();
+        assertThat(encoder.encode(workflowContext("second", context), "s3").snapshot()).isFalse();
+
+        assertThat(encoder.encode(workflowContext("first", context), "s4").snapshot()).isTrue();
+    }
+
+    private WorkflowModel store(ContextDeltaEncoder encoder, String ref, Map<String, Object> context) {
+        ContextDeltaEncoder.EncodedContext encoded = encoder.encode(workflowContext(context), ref);
+        if (encoded.snapshot()) {
+            // persistence providers serialize the snapshot when it is written
+            stored.put(ref, new JavaModel(copy(context)));
+        }
+        return encoded.context();
+    }
+
+    private Map<String, Object> decode(WorkflowModel delta) {
+        return ContextDeltaEncoder.decode(delta, stored::get, modelFactory).asMap().orElseThrow();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> delta(WorkflowModel model) {
+        return (Map<String, Object>) model.asMap().orElseThrow().get("@flow.contextDelta");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> copy(Map<String, Object> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        map.forEach((key, value) -> copy.put(key, value instanceof Map<?, ?> nested ? copy((Map<String, Object>) nested)
+                : value instanceof List<?> list ? new ArrayList<>(list) : value));
+        return copy;
+    }
+
+    private WorkflowContextData workflowContext(Map<String, Object> context) {
+        return workflowContext("instance", context);
+    }
+
+    private WorkflowContextData workflowContext(String instanceId, Map<String, Object> context) {
+        WorkflowApplication application = mock(WorkflowApplication.class);
+        when(application.id()).thenReturn("app");
+        when(application.modelFactory()).thenReturn(modelFactory);
+        WorkflowDefinition definition = mock(WorkflowDefinition.class);
+        when(definition.application()).thenReturn(application);
+        WorkflowInstanceData instance = mock(WorkflowInstanceData.class);
+        when(instance.id()).thenReturn(instanceId);
+        WorkflowContextData workflowContext = mock(WorkflowContextData.class);
+        when(workflowContext.context()).thenReturn(new JavaModel(context));
+        when(workflowContext.definition()).thenReturn(definition);
+        when(workflowContext.instanceData()).thenReturn(instance);
+        return workflowContext;
+    }
+}
@@ -0,0 +1,211 @@
+package io.quarkiverse.flow.persistence.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.flow.internal.WorkflowApplicationReadyEvent;
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
+import io.serverlessworkflow.impl.WorkflowInstance;
+import io.serverlessworkflow.impl.persistence.PersistenceInstanceHandlers;
+
+class FlowPersistenceRestoreTest {
+
+    private static final WorkflowDefinitionId ID = new WorkflowDefinitionId("ns", "wf", "1.0.0");
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void instances_are_restarted_by_the_workers() {
+        FlowPersistenceRestore restore = restore(restoreConfig(4, null, false, false), 50, instance -> {
+            threads.add(Thread.currentThread().getName());
+        });
+
+        restore.restoreInstances(new WorkflowApplicationReadyEvent("app"));
+
+        assertThat(restore.restored()).isEqualTo(50);
+        assertThat(restore.failed()).isZero();
+        assertThat(restore.inProgress()).isFalse();
+        assertThat(threads).allSatisfy(name -> assertThat(name).startsWith("flow-persistence-restore-"));
+    }
+
+    @Test
+    void instances_are_read_ahead_of_the_workers_up_to_twice_the_parallelism() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(2);
+        FlowPersistenceRestore restore = restore(restoreConfig(2, null, true, false), 100, instance -> {
+            started.countDown();
+            await(release);
+        });
+
+        restore.restoreInstances(new WorkflowApplicationReadyEvent("app"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+
+        // the instances held by the two blocked workers and the two waiting in their queue, plus the one read next
+        assertThat(read.get()).isLessThanOrEqualTo(5);
+        release.countDown();
+        awaitDone(restore);
+        assertThat(restore.restored()).isEqualTo(100);
+    }
+
+    @Test
+    void restored_instances_are_spaced_out_by_the_max_rate() {
+        FlowPersistenceRestore restore = restore(restoreConfig(4, 20, false, false), 6, instance -> {
+        });
+
+        long start = System.nanoTime();
+        restore.restoreInstances(new WorkflowApplicationReadyEvent("app"));
+
+        // 6 instances at 20 per second are spaced out by 5 intervals of 50 ms
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(240);
+        assertThat(restore.restored()).isEqualTo(6);
+    }
+
+    @Test
+    void background_restore_keeps_the_application_not_ready_until_done() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        FlowPersistenceConfig config = restoreConfig(1, null, true, false);
+        FlowPersistenceRestore restore = restore(config, 3, instance -> await(release));
+        FlowPersistenceRestoreHealthCheck check = healthCheck(restore, config);
+
+        restore.restoreInstances(new WorkflowApplicationReadyEvent("app"));
+
+        assertThat(restore.inProgress()).isTrue();
+        assertThat(check.call().getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+        release.countDown();
+        awaitDone(restore);
+        assertThat(check.call().getStatus()).isEqualTo(HealthCheckResponse.Status.UP);
+        assertThat(restore.restored()).isEqualTo(3);
+    }
+
+    @Test
+    void failed_instances_are_logged_and_the_others_restored() {
+        FlowPersistenceRestore restore = restore(restoreConfig(2, null, false, false), 5, failing("instance-2"));
+
+        restore.restoreInstances(new WorkflowApplicationReadyEvent("app"));
+
+        assertThat(restore.restored()).isEqualTo(4);
+        assertThat(restore.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void failed_instances_fail_the_startup_when_configured() {
+        FlowPersistenceRestore restore = restore(restoreConfig(2, null, false, true), 5, failing("instance-2"));
+
+        assertThatThrownBy(() -> restore.restoreInstances(new WorkflowApplicationReadyEvent("app")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("1 stored workflow instances could not be restored")
+                .hasRootCauseMessage("cannot restart instance-2");
+        assertThat(restore.restored()).isEqualTo(4);
+    }
+
+    @Test
+    void failed_background_restore_keeps_the_application_not_ready_when_configured() throws InterruptedException {
+        FlowPersistenceConfig config = restoreConfig(2, null, true, true);
+        FlowPersistenceRestore restore = restore(config, 5, failing("instance-2"));
+
+        restore.restoreInstances(new WorkflowApplicationReadyEvent("app"));
+        awaitDone(restore);
+
+        HealthCheckResponse response = healthCheck(restore, config).call();
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.Status.DOWN);
+        assertThat(response.getData()).hasValueSatisfying(data -> assertThat(data).containsEntry("failed", 1L));
+    }
+
+    private FlowPersistenceRestore restore(FlowPersistenceConfig config, int instances,
+            Consumer<WorkflowInstance> start) {
+        WorkflowDefinition definition = mock(WorkflowDefinition.class);
+        when(definition.id()).thenReturn(ID);
+        WorkflowApplication application = mock(WorkflowApplication.class);
+        when(application.workflowDefinitions()).thenReturn(Map.of(ID, definition));
+        PersistenceInstanceHandlers handlers = mock(PersistenceInstanceHandlers.class, RETURNS_DEEP_STUBS);
+        when(handlers.reader().scanAll(definition)).thenAnswer(invocation -> IntStream.range(0, instances)
+                .mapToObj(i -> {
+                    read.incrementAndGet();
+                    return instance("instance-" + i, start);
+                }));
+
+        FlowPersistenceRestore restore = new FlowPersistenceRestore();
+        restore.handlers = handlers;
+        restore.application = application;
+        restore.config = config;
+        return restore;
+    }
+
+    private static WorkflowInstance instance(String id, Consumer<WorkflowInstance> start) {
+        WorkflowInstance instance = mock(WorkflowInstance.class);
+        when(instance.id()).thenReturn(id);
+        when(instance.start()).thenAnswer(invocation -> {
+            start.accept(instance);
+            return null;
+        });
+        return instance;
+    }
+
+    private static Consumer<WorkflowInstance> failing(String id) {
+        return instance -> {
+            if (instance.id().equals(id)) {
+                throw new IllegalArgumentException("cannot restart " + id);
+            }
+        };
+    }
+
+    private static FlowPersistenceRestoreHealthCheck healthCheck(FlowPersistenceRestore restore,
+            FlowPersistenceConfig config) {
+        FlowPersistenceRestoreHealthCheck check = new FlowPersistenceRestoreHealthCheck();
+        check.restore = restore;
+        check.config = config;
+        return check;
+    }
+
+    private static FlowPersistenceConfig restoreConfig(int parallelism, Integer maxRate, boolean background,
+            boolean failOnError) {
+        FlowPersistenceConfig.Restore restore = mock(FlowPersistenceConfig.Restore.class);
+        when(restore.parallelism()).thenReturn(parallelism);
+        when(restore.maxRate()).thenReturn(Optional.ofNullable(maxRate));
+        when(restore.background()).thenReturn(background);
+        when(restore.blockReadiness()).thenReturn(true);
+        when(restore.failOnError()).thenReturn(failOnError);
+        FlowPersistenceConfig config = mock(FlowPersistenceConfig.class);
+        when(config.autoRestore()).thenReturn(true);
+        when(config.excludeWorkflows()).thenReturn(Optional.of(List.of()));
+        when(config.restore()).thenReturn(restore);
+        return config;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitDone(FlowPersistenceRestore restore) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (restore.inProgress() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(restore.inProgress()).isFalse();
+    }
+}
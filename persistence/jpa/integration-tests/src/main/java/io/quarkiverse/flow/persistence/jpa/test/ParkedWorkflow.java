@@ -0,0 +1,25 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import static io.quarkiverse.flow.dsl.FlowDSL.listen;
+import static io.quarkiverse.flow.dsl.FlowDSL.set;
+import static io.quarkiverse.flow.dsl.FlowDSL.toOne;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkiverse.flow.Flow;
+import io.quarkiverse.flow.dsl.FlowWorkflowBuilder;
+import io.serverlessworkflow.api.types.Workflow;
+
+/**
+ * Completes a couple of tasks and then waits for an event that never comes, so its instances stay stored.
+ */
+@ApplicationScoped
+public class ParkedWorkflow extends Flow {
+
+    @Override
+    public Workflow descriptor() {
+        return FlowWorkflowBuilder.workflow("parked")
+                .tasks(set("{ step: 1 }"), set("{ step: 2 }"), listen("park", toOne("org.acme.parked.never")))
+                .build();
+    }
+}
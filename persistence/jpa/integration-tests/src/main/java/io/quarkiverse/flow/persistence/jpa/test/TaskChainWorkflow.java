@@ -0,0 +1,27 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import static io.quarkiverse.flow.dsl.FlowDSL.set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkiverse.flow.Flow;
+import io.quarkiverse.flow.dsl.FlowWorkflowBuilder;
+import io.serverlessworkflow.api.types.Workflow;
+
+/**
+ * Chain of trivial tasks, so running it mostly measures the cost of persisting each completed task.
+ */
+@ApplicationScoped
+public class TaskChainWorkflow extends Flow {
+
+    public static final int TASKS = 10;
+
+    @Override
+    public Workflow descriptor() {
+        return FlowWorkflowBuilder.workflow("task-chain")
+                .tasks(set("{ step: 1 }"), set("{ step: 2 }"), set("{ step: 3 }"), set("{ step: 4 }"), set("{ step: 5 }"),
+                        set("{ step: 6 }"), set("{ step: 7 }"), set("{ step: 8 }"), set("{ step: 9 }"),
+                        set("{ step: 10 }"))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Same measurement as {@link TaskPersistenceLatencyIT}, on the path used before JDBC batching: every operation
+ * commits its own {@code REQUIRES_NEW} transaction and inserts its tasks one statement at a time.
+ */
+@QuarkusTest
+@TestProfile(BaselineTaskPersistenceLatencyIT.BaselineProfile.class)
+public class BaselineTaskPersistenceLatencyIT extends TaskPersistenceLatencyIT {
+
+    public static class BaselineProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flow.persistence.jpa.group-commit.enabled", "false",
+                    "quarkus.flow.persistence.jpa.jdbc-batch-size", "1");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import java.util.Map;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Same measurement as {@link TaskPersistenceLatencyIT}, with group commit enabled.
+ */
+@QuarkusTest
+@TestProfile(GroupCommitTaskPersistenceLatencyIT.GroupCommitProfile.class)
+public class GroupCommitTaskPersistenceLatencyIT extends TaskPersistenceLatencyIT {
+
+    public static class GroupCommitProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flow.persistence.jpa.group-commit.enabled", "true",
+                    "quarkus.hibernate-orm.unsupported-properties.\"hibernate.order_inserts\"", "true");
+        }
+    }
+}
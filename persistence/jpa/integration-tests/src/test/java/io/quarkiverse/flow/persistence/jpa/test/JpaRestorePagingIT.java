@@ -0,0 +1,82 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkiverse.flow.persistence.jpa.JpaInstanceOperations;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowInstance;
+import io.serverlessworkflow.impl.persistence.PersistenceWorkflowInfo;
+
+/**
+ * Checks that the stored instances are read page by page, using the instance id as a cursor, without missing or
+ * repeating any of them.
+ */
+@QuarkusTest
+@DisabledOnOs(OS.WINDOWS)
+@TestProfile(JpaRestorePagingIT.SmallPagesProfile.class)
+public class JpaRestorePagingIT {
+
+    private static final int INSTANCES = 7;
+
+    @Inject
+    ParkedWorkflow workflow;
+
+    @Inject
+    JpaInstanceOperations operations;
+
+    @Test
+    void every_stored_instance_is_read_once_across_pages() throws InterruptedException {
+        Set<String> started = new HashSet<>();
+        for (int i = 0; i < INSTANCES; i++) {
+            WorkflowInstance instance = workflow.instance();
+            instance.start();
+            started.add(instance.id());
+        }
+
+        List<String> read = awaitStored(workflow.definition(), started);
+
+        assertEquals(read.size(), new HashSet<>(read).size());
+        assertEquals(started, read.stream().filter(started::contains).collect(Collectors.toSet()));
+    }
+
+    private List<String> awaitStored(WorkflowDefinition definition, Set<String> started) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        List<String> read = scan(definition);
+        while (!read.containsAll(started) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            read = scan(definition);
+        }
+        return read;
+    }
+
+    private List<String> scan(WorkflowDefinition definition) {
+        try (Stream<PersistenceWorkflowInfo> infos = operations.scanAll(definition.application().id(), definition)) {
+            return infos.map(PersistenceWorkflowInfo::instanceId).toList();
+        }
+    }
+
+    public static class SmallPagesProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flow.persistence.restore.page-size", "2");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+/**
+ * Same checks as {@link QuarkusFlowJpaIT}, with the workflow context stored as deltas.
+ */
+@QuarkusTest
+@DisabledOnOs(OS.WINDOWS)
+@TestProfile(QuarkusFlowContextDeltaJpaIT.ContextDeltaProfile.class)
+public class QuarkusFlowContextDeltaJpaIT extends QuarkusFlowJpaIT {
+
+    public static class ContextDeltaProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flow.persistence.context-delta.enabled", "true",
+                    "quarkus.flow.persistence.context-delta.snapshot-interval", "2");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkiverse.flow.persistence.jpa.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Measures the per-task persistence latency of {@link TaskChainWorkflow} with the default persistence settings.
+ * <p>
+ * The figures are logged rather than asserted, compare them with {@link BaselineTaskPersistenceLatencyIT} and
+ * {@link GroupCommitTaskPersistenceLatencyIT}. Instances run concurrently, so the time per task is the wall time of the
+ * measured run divided by the number of tasks of all its instances.
+ */
+@QuarkusTest
+@DisabledOnOs(OS.WINDOWS)
+public class TaskPersistenceLatencyIT {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskPersistenceLatencyIT.class);
+
+    private static final int WARMUP_INSTANCES = 20;
+    private static final int CONCURRENT_INSTANCES = 200;
+
+    @Inject
+    TaskChainWorkflow workflow;
+
+    @Test
+    void measure_task_persistence_latency() {
+        runInstances(WARMUP_INSTANCES);
+
+        long start = System.nanoTime();
+        runInstances(CONCURRENT_INSTANCES);
+        long elapsed = System.nanoTime() - start;
+
+        long tasks = (long) CONCURRENT_INSTANCES * TaskChainWorkflow.TASKS;
+        LOGGER.info("{}: {} instances of {} tasks in {} ms, {} µs per task, {} tasks/s", getClass().getSimpleName(),
+                CONCURRENT_INSTANCES, TaskChainWorkflow.TASKS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                TimeUnit.NANOSECONDS.toMicros(elapsed) / tasks,
+                tasks * TimeUnit.SECONDS.toNanos(1) / elapsed);
+    }
+
+    private void runInstances(int count) {
+        List<Uni<WorkflowModel>> instances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            instances.add(workflow.startInstance());
+        }
+        for (Uni<WorkflowModel> instance : instances) {
+            WorkflowModel output = instance.await().atMost(Duration.ofMinutes(1));
+            assertEquals(TaskChainWorkflow.TASKS, ((Number) output.asMap().orElseThrow().get("step")).intValue());
+        }
+    }
+}
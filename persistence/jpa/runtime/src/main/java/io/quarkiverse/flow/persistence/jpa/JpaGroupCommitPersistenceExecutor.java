@@ -0,0 +1,199 @@
+package io.quarkiverse.flow.persistence.jpa;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.serverlessworkflow.impl.WorkflowContextData;
+import io.serverlessworkflow.impl.persistence.PersistenceExecutor;
+
+/**
+ * {@link PersistenceExecutor} coalescing the operations of many workflow instances into shared transactions.
+ * <p>
+ * Instances are assigned to a lane by id, so all the operations of an instance are applied by the same thread in
+ * submission order. Each lane collects up to {@code maxBatchSize} operations, waiting at most {@code maxDelay} after the
+ * first one, runs them in a single transaction and completes their futures once it has committed. When the shared
+ * transaction fails, the batch is replayed with one transaction per operation, so only the failing operation reports
+ * an error. The later operations of the instance owning the failing one are not applied, since they may depend on it,
+ * and fail as well.
+ * <p>
+ * Once closed, operations still go through the queue of their lane and are committed one by one after the lane thread
+ * has stopped, so they never overtake an older operation of the same instance.
+ */
+public class JpaGroupCommitPersistenceExecutor implements PersistenceExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JpaGroupCommitPersistenceExecutor.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Lane[] lanes;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Consumer<Runnable> inNewTransaction;
+
+    private volatile boolean running = true;
+
+    public JpaGroupCommitPersistenceExecutor(int lanes, int maxBatchSize, Duration maxDelay) {
+        this(lanes, maxBatchSize, maxDelay, runnable -> QuarkusTransaction.requiringNew().run(runnable));
+    }
+
+    JpaGroupCommitPersistenceExecutor(int lanes, int maxBatchSize, Duration maxDelay,
+            Consumer<Runnable> inNewTransaction) {
+        if (lanes < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Group commit lanes and max batch size must be greater than zero, got "
+                    + lanes + " lanes and a max batch size of " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.inNewTransaction = inNewTransaction;
+        this.lanes = new Lane[lanes];
+        for (int i = 0; i < lanes; i++) {
+            this.lanes[i] = new Lane("flow-jpa-group-commit-" + i);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(Runnable runnable, WorkflowContextData context) {
+        String instanceId = context.instanceData().id();
+        PendingOperation operation = new PendingOperation(instanceId, runnable, new CompletableFuture<>());
+        Lane lane = laneFor(instanceId);
+        lane.queue.add(operation);
+        if (!running) {
+            lane.drainStopped();
+        }
+        return operation.future();
+    }
+
+    public void close() {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.drainStopped();
+        }
+    }
+
+    private Lane laneFor(String instanceId) {
+        return lanes[Math.floorMod(instanceId.hashCode(), lanes.length)];
+    }
+
+    private void commit(List<PendingOperation> batch) {
+        try {
+            inNewTransaction.accept(() -> batch.forEach(operation -> operation.runnable().run()));
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                LOG.debug("Group commit of {} persistence operations failed, committing them one by one", batch.size(), e);
+                commitEach(batch);
+            } else {
+                batch.get(0).future().completeExceptionally(e);
+            }
+            return;
+        }
+        batch.forEach(operation -> operation.future().complete(null));
+    }
+
+    private void commitEach(List<PendingOperation> operations) {
+        Map<String, RuntimeException> failed = new HashMap<>();
+        for (PendingOperation operation : operations) {
+            RuntimeException previous = failed.get(operation.instanceId());
+            if (previous != null) {
+                operation.future().completeExceptionally(new IllegalStateException("Flow: Persistence operation of "
+                        + "instance " + operation.instanceId() + " skipped after a previous one failed", previous));
+                continue;
+            }
+            try {
+                inNewTransaction.accept(operation.runnable());
+                operation.future().complete(null);
+            } catch (RuntimeException e) {
+                failed.put(operation.instanceId(), e);
+                operation.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    private record PendingOperation(String instanceId, Runnable runnable, CompletableFuture<Void> future) {
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<PendingOperation> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+
+        Lane(String name) {
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        @Override
+        public void run() {
+            List<PendingOperation> batch = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    PendingOperation first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    fill(batch, System.nanoTime() + maxDelayNanos);
+                    commit(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    commitEach(batch);
+                    return;
+                } catch (RuntimeException e) {
+                    // Never let a lane die, its instances would stop being persisted
+                    batch.forEach(operation -> operation.future().completeExceptionally(e));
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * Commits the operations left in the queue once the lane thread has stopped. While the thread is still running,
+         * it keeps draining the queue itself.
+         */
+        synchronized void drainStopped() {
+            try {
+                thread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (thread.isAlive()) {
+                LOG.warn("Persistence lane {} is still committing after {} ms", thread.getName(), SHUTDOWN_TIMEOUT_MILLIS);
+                return;
+            }
+            List<PendingOperation> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            commitEach(remaining);
+        }
+
+        private void fill(List<PendingOperation> batch, long deadline) throws InterruptedException {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            while (batch.size() < maxBatchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                PendingOperation next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+                queue.drainTo(batch, maxBatchSize - batch.size());
+            }
+        }
+    }
+}
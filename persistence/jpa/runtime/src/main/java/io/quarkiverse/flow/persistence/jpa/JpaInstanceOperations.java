@@ -1,18 +1,27 @@
 package io.quarkiverse.flow.persistence.jpa;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.persistence.EntityManager;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
 import jakarta.transaction.Transactional;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.quarkiverse.flow.persistence.common.ContextDeltaEncoder;
+import io.quarkiverse.flow.persistence.common.ContextDeltaEncoder.EncodedContext;
+import io.quarkiverse.flow.persistence.common.FlowPersistenceConfig;
 import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.TaskContextData;
@@ -20,6 +29,8 @@ import io.serverlessworkflow.impl.WorkflowContextData;
 import io.serverlessworkflow.impl.WorkflowDefinition;
 import io.serverlessworkflow.impl.WorkflowDefinitionId;
 import io.serverlessworkflow.impl.WorkflowInstanceData;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.serverlessworkflow.impl.WorkflowModelFactory;
 import io.serverlessworkflow.impl.WorkflowStatus;
 import io.serverlessworkflow.impl.executors.AbstractTaskExecutor;
 import io.serverlessworkflow.impl.executors.TransitionInfo;
@@ -46,6 +57,15 @@ public class JpaInstanceOperations implements PersistenceInstanceOperations {
     @Inject
     EntityManager em;
 
+    @Inject
+    FlowPersistenceConfig config;
+
+    @Inject
+    ContextDeltaEncoder contextDeltaEncoder;
+
+    @Inject
+    TransactionSynchronizationRegistry synchronizationRegistry;
+
     @Override
     public void writeInstanceData(WorkflowContextData workflowContext) {
         WorkflowInstanceData instance = workflowContext.instanceData();
@@ -63,20 +83,39 @@ public class JpaInstanceOperations implements PersistenceInstanceOperations {
     public void writeCompletedTask(WorkflowContextData workflowContext, TaskContextData taskContext) {
         TransitionInfo transition = ((TaskContext) taskContext).transition();
         AbstractTaskExecutor<?> next = (AbstractTaskExecutor<?>) transition.next();
+        TaskInfoKey key = TaskInfoKey.from(workflowContext, taskContext);
+        EncodedContext context = contextDeltaEncoder.encode(workflowContext, snapshotRef(key.getJsonPointer(),
+                key.getIteration()));
         em.persist(
                 new CompletedTaskEntity(
-                        TaskInfoKey.from(workflowContext, taskContext), taskContext.completedAt(), taskContext.output(),
-                        workflowContext.context(),
+                        key, taskContext.completedAt(), taskContext.output(),
+                        context.context(),
                         transition.isEndNode(), next == null ? null : next.position().jsonPointer()));
+        // The snapshot kept in memory must not outlive a rolled back transaction, later deltas would reference it
+        synchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != Status.STATUS_COMMITTED) {
+                    contextDeltaEncoder.forget(workflowContext);
+                }
+            }
+        });
     }
 
     @Override
     public void writeStatus(WorkflowContextData workflowContext, WorkflowStatus status) {
-        find(workflowContext).setStatus(status);
+        // Direct update, status changes are frequent and do not need the instance to be loaded
+        repository.update("status = ?1 where instanceId = ?2 and applicationId = ?3", status,
+                workflowContext.instanceData().id(), workflowContext.definition().application().id());
     }
 
     @Override
     public void removeProcessInstance(WorkflowContextData workflowContext) {
+        contextDeltaEncoder.forget(workflowContext);
         repository.deleteById(toKey(workflowContext));
     }
 
@@ -116,31 +155,69 @@ public class JpaInstanceOperations implements PersistenceInstanceOperations {
 
     @Override
     public void clearStatus(WorkflowContextData workflowContext) {
-        find(workflowContext).setStatus(null);
+        repository.update("status = null where instanceId = ?1 and applicationId = ?2",
+                workflowContext.instanceData().id(), workflowContext.definition().application().id());
     }
 
     @Override
     public Stream<PersistenceWorkflowInfo> scanAll(String applicationId, WorkflowDefinition definition) {
-        QuarkusTransaction.begin();
-        WorkflowDefinitionId id = definition.id();
-        return repository.stream(
-                "select x from WorkflowInstanceEntity x where x.applicationId=?1 and x.workflowNamespace=?2 and x.workflowName=?3 and x.workflowVersion=?4",
-                applicationId, id.namespace(), id.name(), id.version()).map(this::from)
-                .onClose(() -> QuarkusTransaction.commit());
+        // Instances are read page by page, each one in its own short transaction, using the instance id as a cursor
+        int pageSize = Math.max(1, config.restore().pageSize());
+        return Stream.iterate(readPage(applicationId, definition, null, pageSize), page -> !page.infos().isEmpty(),
+                page -> page.infos().size() < pageSize ? Page.EMPTY
+                        : readPage(applicationId, definition, page.lastInstanceId(), pageSize))
+                .flatMap(page -> page.infos().stream());
     }
 
-    private PersistenceWorkflowInfo from(WorkflowInstanceEntity x) {
+    private Page readPage(String applicationId, WorkflowDefinition definition, String afterInstanceId, int pageSize) {
+        WorkflowDefinitionId id = definition.id();
+        WorkflowModelFactory modelFactory = definition.application().modelFactory();
+        return QuarkusTransaction.requiringNew().call(() -> {
+            List<String> instanceIds = em.createQuery(
+                    "select x.instanceId from WorkflowInstanceEntity x where x.applicationId=?1 and x.workflowNamespace=?2 and x.workflowName=?3 and x.workflowVersion=?4 and x.instanceId > ?5 order by x.instanceId",
+                    String.class)
+                    .setParameter(1, applicationId).setParameter(2, id.namespace()).setParameter(3, id.name())
+                    .setParameter(4, id.version()).setParameter(5, afterInstanceId == null ? "" : afterInstanceId)
+                    .setMaxResults(pageSize)
+                    .getResultList();
+            if (instanceIds.isEmpty()) {
+                return Page.EMPTY;
+            }
+            // Tasks are fetch joined instead of being loaded lazily with one query per instance
+            List<PersistenceWorkflowInfo> infos = em.createQuery(
+                    "select distinct x from WorkflowInstanceEntity x left join fetch x.tasks where x.applicationId=?1 and x.instanceId in ?2 order by x.instanceId",
+                    WorkflowInstanceEntity.class)
+                    .setParameter(1, applicationId).setParameter(2, instanceIds)
+                    .getResultStream().map(x -> from(x, modelFactory)).toList();
+            return new Page(infos, instanceIds.get(instanceIds.size() - 1));
+        });
+    }
+
+    private record Page(List<PersistenceWorkflowInfo> infos, String lastInstanceId) {
+        static final Page EMPTY = new Page(List.of(), null);
+    }
+
+    private PersistenceWorkflowInfo from(WorkflowInstanceEntity x, WorkflowModelFactory modelFactory) {
         return new PersistenceWorkflowInfo(x.getInstanceId(), x.getStartedAt(), x.getInput(), x.getStatus(),
-                from(x.getTasks()));
+                from(x.getTasks(), modelFactory));
     }
 
-    private Map<String, PersistenceTaskInfo> from(Collection<TaskInfoEntity> taskEntities) {
-        return taskEntities.stream().collect(Collectors.toMap(e -> e.jsonPointer(), this::from));
+    private Map<String, PersistenceTaskInfo> from(Collection<TaskInfoEntity> taskEntities, WorkflowModelFactory modelFactory) {
+        Map<String, WorkflowModel> contexts = new HashMap<>();
+        for (TaskInfoEntity taskEntity : taskEntities) {
+            if (taskEntity instanceof CompletedTaskEntity c) {
+                contexts.put(snapshotRef(c.jsonPointer(), c.iteration()), c.getContext());
+            }
+        }
+        Function<String, WorkflowModel> snapshots = contexts::get;
+        return taskEntities.stream().collect(Collectors.toMap(e -> e.jsonPointer(), e -> from(e, snapshots, modelFactory)));
     }
 
-    private PersistenceTaskInfo from(TaskInfoEntity taskEntity) {
+    private PersistenceTaskInfo from(TaskInfoEntity taskEntity, Function<String, WorkflowModel> snapshots,
+            WorkflowModelFactory modelFactory) {
         if (taskEntity instanceof CompletedTaskEntity c) {
-            return new CompletedTaskInfo(c.getInstant(), c.getModel(), c.getContext(), c.isEndNode(), c.getNextPosition(),
+            return new CompletedTaskInfo(c.getInstant(), c.getModel(),
+                    ContextDeltaEncoder.decode(c.getContext(), snapshots, modelFactory), c.isEndNode(), c.getNextPosition(),
                     c.iteration());
         } else if (taskEntity instanceof RetriedTaskEntity r) {
             return new RetriedTaskInfo(r.getRetryAttempt());
@@ -151,11 +228,12 @@ public class JpaInstanceOperations implements PersistenceInstanceOperations {
     @Override
     @Transactional
     public Optional<PersistenceWorkflowInfo> readWorkflowInfo(WorkflowDefinition definition, String instanceId) {
-        return repository.findByIdOptional(new WorkflowInstanceKey(instanceId, definition.application().id())).map(this::from);
+        return repository.findByIdOptional(new WorkflowInstanceKey(instanceId, definition.application().id()))
+                .map(x -> from(x, definition.application().modelFactory()));
     }
 
-    private WorkflowInstanceEntity find(WorkflowContextData workflowContext) {
-        return repository.findById(toKey(workflowContext));
+    private static String snapshotRef(String jsonPointer, int iteration) {
+        return jsonPointer + "#" + iteration;
     }
 
     private WorkflowInstanceKey toKey(WorkflowContextData workflowContext) {
@@ -4,9 +4,11 @@ import java.util.function.Consumer;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
-import jakarta.transaction.Transactional;
-import jakarta.transaction.Transactional.TxType;
+import jakarta.persistence.EntityManager;
 
+import org.hibernate.Session;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import io.serverlessworkflow.impl.WorkflowDefinitionData;
 import io.serverlessworkflow.impl.persistence.PersistenceExecutor;
 import io.serverlessworkflow.impl.persistence.PersistenceInstanceOperations;
@@ -21,9 +23,24 @@ public class JpaInstanceWriter extends TransactedPersistenceInstanceWriter {
     @Inject
     PersistenceExecutor executor;
 
+    @Inject
+    EntityManager em;
+
+    @Inject
+    JpaPersistenceConfig config;
+
     @Override
-    @Transactional(TxType.REQUIRES_NEW)
     protected void doTransaction(Consumer<PersistenceInstanceOperations> operation, WorkflowDefinitionData definition) {
+        if (config.groupCommit().enabled()) {
+            // The group commit executor runs the operation inside the shared transaction of its batch
+            QuarkusTransaction.joiningExisting().run(() -> apply(operation));
+        } else {
+            QuarkusTransaction.requiringNew().run(() -> apply(operation));
+        }
+    }
+
+    private void apply(Consumer<PersistenceInstanceOperations> operation) {
+        em.unwrap(Session.class).setJdbcBatchSize(config.jdbcBatchSize());
         operation.accept(operations);
     }
 
@@ -0,0 +1,57 @@
+package io.quarkiverse.flow.persistence.jpa;
+
+import java.time.Duration;
+
+import io.quarkiverse.flow.persistence.common.FlowPersistenceConfig;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = FlowPersistenceConfig.PREFIX + ".jpa")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface JpaPersistenceConfig {
+
+    /**
+     * JDBC batch size of the sessions writing workflow instances, so the task inserts of a transaction are sent to the
+     * database in as few round-trips as possible. Mostly relevant when group commit is enabled.
+     */
+    @WithDefault("32")
+    int jdbcBatchSize();
+
+    /**
+     * Group commit of persistence operations
+     */
+    GroupCommit groupCommit();
+
+    interface GroupCommit {
+
+        /**
+         * Coalesce the persistence operations of concurrent workflow instances into shared transactions instead of
+         * committing one transaction per operation.
+         * <p>
+         * Operations of the same instance are still applied in order, and each one is only acknowledged once the shared
+         * transaction has committed.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Maximum number of operations committed in a single transaction
+         */
+        @WithDefault("128")
+        int maxBatchSize();
+
+        /**
+         * Maximum time to wait for more operations after the first one of a batch has arrived
+         */
+        @WithDefault("2ms")
+        Duration maxDelay();
+
+        /**
+         * Number of threads committing batches in parallel. Instances are assigned to a lane by their id.
+         */
+        @WithDefault("4")
+        int lanes();
+    }
+}
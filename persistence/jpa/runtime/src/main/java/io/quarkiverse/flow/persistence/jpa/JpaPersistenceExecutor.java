@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.context.ManagedExecutor;
@@ -13,6 +14,7 @@ import io.serverlessworkflow.impl.persistence.AbstractAsyncPersistenceExecutor;
 import io.smallrye.context.api.ManagedExecutorConfig;
 
 @ApplicationScoped
+@Typed(JpaPersistenceExecutor.class)
 public class JpaPersistenceExecutor extends AbstractAsyncPersistenceExecutor {
 
     @Inject
@@ -5,6 +5,8 @@ import java.util.Map;
 import java.util.function.Function;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
 
 import io.cloudevents.CloudEvent;
@@ -27,6 +29,23 @@ public class JpaPersistenceHandlerProducer {
         return new PersistenceInstanceHandlers(writer, reader);
     }
 
+    @ApplicationScoped
+    @Produces
+    PersistenceExecutor jpaPersistenceExecutor(JpaPersistenceConfig config, Instance<JpaPersistenceExecutor> asyncExecutor) {
+        JpaPersistenceConfig.GroupCommit groupCommit = config.groupCommit();
+        if (groupCommit.enabled()) {
+            return new JpaGroupCommitPersistenceExecutor(groupCommit.lanes(), groupCommit.maxBatchSize(),
+                    groupCommit.maxDelay());
+        }
+        return asyncExecutor.get();
+    }
+
+    void closePersistenceExecutor(@Disposes PersistenceExecutor executor) {
+        if (executor instanceof JpaGroupCommitPersistenceExecutor groupCommitExecutor) {
+            groupCommitExecutor.close();
+        }
+    }
+
     @ApplicationScoped
     @Produces
     AllStrategyCorrelationInfoFactory correlationFactory(PersistenceExecutor executor,
@@ -0,0 +1,155 @@
+package io.quarkiverse.flow.persistence.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.serverlessworkflow.impl.WorkflowContextData;
+
+class JpaGroupCommitPersistenceExecutorTest {
+
+    private final List<String> committed = new CopyOnWriteArrayList<>();
+    private final List<Integer> transactions = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<List<String>> staged = new ThreadLocal<>();
+    private final CountDownLatch gateStarted = new CountDownLatch(1);
+    private final CountDownLatch gateReleased = new CountDownLatch(1);
+
+    private final JpaGroupCommitPersistenceExecutor executor = new JpaGroupCommitPersistenceExecutor(1, 10,
+            Duration.ZERO, this::inTransaction);
+
+    @Test
+    void queued_operations_share_one_transaction() throws Exception {
+        CompletableFuture<Void> gate = executor.execute(gate(), context("a"));
+        assertThat(gateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            futures.add(executor.execute(operation("a" + i), context("a")));
+        }
+        gateReleased.countDown();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(gate).isDone();
+        assertThat(committed).containsExactly("gate", "a1", "a2", "a3", "a4", "a5");
+        assertThat(transactions).containsExactly(1, 5);
+        executor.close();
+    }
+
+    @Test
+    void a_failed_batch_is_committed_one_by_one() throws Exception {
+        executor.execute(gate(), context("a"));
+        assertThat(gateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> first = executor.execute(operation("a1"), context("a"));
+        CompletableFuture<Void> failing = executor.execute(failing(), context("b"));
+        CompletableFuture<Void> last = executor.execute(operation("a2"), context("a"));
+        gateReleased.countDown();
+
+        last.get(5, TimeUnit.SECONDS);
+        assertThat(first).isCompletedWithValue(null);
+        assertThat(failing).isCompletedExceptionally();
+        assertThat(committed).containsExactly("gate", "a1", "a2");
+        executor.close();
+    }
+
+    @Test
+    void operations_following_a_failed_one_of_the_same_instance_are_skipped() throws Exception {
+        executor.execute(gate(), context("gate"));
+        assertThat(gateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> a1 = executor.execute(operation("a1"), context("a"));
+        CompletableFuture<Void> failing = executor.execute(failing(), context("a"));
+        CompletableFuture<Void> b1 = executor.execute(operation("b1"), context("b"));
+        CompletableFuture<Void> a2 = executor.execute(operation("a2"), context("a"));
+        CompletableFuture<Void> b2 = executor.execute(operation("b2"), context("b"));
+        gateReleased.countDown();
+
+        b2.get(5, TimeUnit.SECONDS);
+        assertThat(a1).isCompletedWithValue(null);
+        assertThat(failing).isCompletedExceptionally();
+        assertThat(b1).isCompletedWithValue(null);
+        assertThatThrownBy(() -> a2.get(5, TimeUnit.SECONDS))
+                .hasRootCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("constraint violation");
+        assertThat(committed).containsExactly("gate", "a1", "b1", "b2");
+        executor.close();
+    }
+
+    @Test
+    void operations_after_close_do_not_overtake_queued_ones() throws Exception {
+        executor.execute(gate(), context("a"));
+        assertThat(gateStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> queued = executor.execute(operation("a1"), context("a"));
+
+        Thread closing = new Thread(executor::close);
+        closing.start();
+        // waiting for the lane to stop, so the executor no longer accepts operations on its lanes
+        awaitState(closing, Thread.State.TIMED_WAITING);
+        CompletableFuture<CompletableFuture<Void>> late = CompletableFuture
+                .supplyAsync(() -> executor.execute(operation("a2"), context("a")));
+        gateReleased.countDown();
+
+        late.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        closing.join(TimeUnit.SECONDS.toMillis(5));
+        assertThat(queued).isCompletedWithValue(null);
+        assertThat(committed).containsExactly("gate", "a1", "a2");
+    }
+
+    private void inTransaction(Runnable runnable) {
+        List<String> changes = new ArrayList<>();
+        staged.set(changes);
+        try {
+            runnable.run();
+            // only visible once the whole transaction succeeded
+            committed.addAll(changes);
+            transactions.add(changes.size());
+        } finally {
+            staged.remove();
+        }
+    }
+
+    private Runnable operation(String name) {
+        return () -> staged.get().add(name);
+    }
+
+    private static Runnable failing() {
+        return () -> {
+            throw new IllegalStateException("constraint violation");
+        };
+    }
+
+    private Runnable gate() {
+        return () -> {
+            gateStarted.countDown();
+            try {
+                gateReleased.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            staged.get().add("gate");
+        };
+    }
+
+    private static WorkflowContextData context(String instanceId) {
+        WorkflowContextData context = mock(WorkflowContextData.class, RETURNS_DEEP_STUBS);
+        when(context.instanceData().id()).thenReturn(instanceId);
+        return context;
+    }
+
+    private static void awaitState(Thread thread, Thread.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(thread.getState()).isEqualTo(state);
+    }
+}
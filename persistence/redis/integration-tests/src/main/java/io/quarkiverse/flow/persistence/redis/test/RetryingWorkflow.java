@@ -0,0 +1,37 @@
+package io.quarkiverse.flow.persistence.redis.test;
+
+import static io.quarkiverse.flow.dsl.FlowDSL.function;
+import static io.quarkiverse.flow.dsl.FlowDSL.tasks;
+import static io.quarkiverse.flow.dsl.FlowDSL.tryCatch;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkiverse.flow.Flow;
+import io.quarkiverse.flow.dsl.FlowWorkflowBuilder;
+import io.serverlessworkflow.api.types.Workflow;
+import io.serverlessworkflow.impl.WorkflowError;
+import io.serverlessworkflow.impl.WorkflowException;
+
+/**
+ * Fails its only task and waits long before retrying it, so its instances stay stored with a retried task.
+ */
+@ApplicationScoped
+public class RetryingWorkflow extends Flow {
+
+    static final String TRANSIENT_ERROR = "https://serverlessworkflow.io/spec/1.0.0/errors/transient";
+
+    @Override
+    public Workflow descriptor() {
+        return FlowWorkflowBuilder.workflow("retrying")
+                .tasks(tryCatch("tryTask", t -> t
+                        .tryCatch(tasks(function("failingTask", (String input) -> {
+                            throw new WorkflowException(WorkflowError.error(TRANSIENT_ERROR, 503).build());
+                        }, String.class)))
+                        .catchHandler(handler -> handler
+                                .errorsWith(err -> err.type(TRANSIENT_ERROR))
+                                .retry(retry -> retry
+                                        .delay(d -> d.milliseconds(3_600_000))
+                                        .limit(limit -> limit.attempt(a -> a.count(3)))))))
+                .build();
+    }
+}
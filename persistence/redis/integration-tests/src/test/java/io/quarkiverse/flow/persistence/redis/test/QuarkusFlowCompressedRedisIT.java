@@ -0,0 +1,80 @@
+package io.quarkiverse.flow.persistence.redis.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkiverse.flow.persistence.redis.RedisInstanceStore;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.serverlessworkflow.impl.WorkflowInstance;
+import io.serverlessworkflow.impl.marshaller.WorkflowBufferFactory;
+import io.serverlessworkflow.impl.persistence.PersistenceWorkflowInfo;
+import io.serverlessworkflow.impl.persistence.RetriedTaskInfo;
+
+/**
+ * Same checks as {@link QuarkusFlowRedisIT}, with every stored model compressed, plus the restoration of a retried
+ * task whose attempt is stored next to compressed models.
+ */
+@QuarkusTest
+@DisabledOnOs(OS.WINDOWS)
+@TestProfile(QuarkusFlowCompressedRedisIT.CompressionProfile.class)
+public class QuarkusFlowCompressedRedisIT extends QuarkusFlowRedisIT {
+
+    @Inject
+    RetryingWorkflow workflow;
+
+    @Inject
+    RedisDataSource ds;
+
+    @Inject
+    WorkflowBufferFactory factory;
+
+    @Test
+    void retried_task_is_restored_with_its_attempt() throws InterruptedException {
+        WorkflowInstance instance = workflow.instance("input");
+        instance.start();
+
+        List<RetriedTaskInfo> retried = awaitRetried(instance.id());
+
+        assertEquals(1, retried.size());
+        assertEquals(1, retried.get(0).retryAttempt());
+    }
+
+    private List<RetriedTaskInfo> awaitRetried(String instanceId) throws InterruptedException {
+        RedisInstanceStore store = new RedisInstanceStore(ds, factory, 100);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        List<RetriedTaskInfo> retried = List.of();
+        while (retried.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            Optional<PersistenceWorkflowInfo> info = store.begin().readWorkflowInfo(workflow.definition(), instanceId);
+            retried = info.map(i -> i.tasks().values().stream()
+                    .filter(RetriedTaskInfo.class::isInstance)
+                    .map(RetriedTaskInfo.class::cast)
+                    .collect(Collectors.toList()))
+                    .orElse(List.of());
+        }
+        return retried;
+    }
+
+    public static class CompressionProfile implements QuarkusTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flow.persistence.compression.enabled", "true",
+                    "quarkus.flow.persistence.compression.threshold", "0");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkiverse.flow.persistence.redis.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.quarkiverse.flow.persistence.redis.RedisInstanceStore;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.serverlessworkflow.impl.marshaller.WorkflowBufferFactory;
+import io.serverlessworkflow.impl.persistence.PersistenceInstanceTransaction;
+
+/**
+ * Checks that registrations leave the index walked by {@code clearProcessed} once their events are removed.
+ */
+@QuarkusTest
+@DisabledOnOs(OS.WINDOWS)
+public class RedisRegistrationsIndexIT {
+
+    private static final String REGISTRATIONS_INDEX = "IDX:registrations";
+
+    @Inject
+    ParkedWorkflow workflow;
+
+    @Inject
+    RedisDataSource ds;
+
+    @Inject
+    WorkflowBufferFactory factory;
+
+    private RedisInstanceStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisInstanceStore(ds, factory, 100);
+    }
+
+    @Test
+    void registration_is_removed_from_the_index_with_its_last_event() {
+        inTransaction(tx -> {
+            tx.storeEvent("reg-1", event("ce-1"));
+            tx.storeEvent("reg-1", event("ce-2"));
+            tx.storeEvent("reg-2", event("ce-3"));
+        });
+        assertTrue(registrations().containsAll(Set.of("reg-1", "reg-2")));
+
+        inTransaction(tx -> tx.removeCloudEvents(Map.of("reg-1", "ce-1", "reg-2", "ce-3")));
+        assertTrue(registrations().contains("reg-1"));
+        assertFalse(registrations().contains("reg-2"));
+
+        inTransaction(tx -> tx.removeCloudEvents(Map.of("reg-1", "ce-2")));
+        assertFalse(registrations().contains("reg-1"));
+        assertFalse(registrations().contains("reg-2"));
+    }
+
+    @Test
+    void registrations_without_events_are_pruned_when_clearing_processed_events() {
+        ds.set(String.class).sadd(REGISTRATIONS_INDEX, "stale");
+        inTransaction(tx -> tx.storeEvent("reg-3", event("ce-4")));
+
+        inTransaction(PersistenceInstanceTransaction::clearProcessed);
+
+        assertTrue(registrations().contains("reg-3"));
+        assertFalse(registrations().contains("stale"));
+        inTransaction(tx -> tx.removeCloudEvents(Map.of("reg-3", "ce-4")));
+    }
+
+    @Test
+    void registration_stays_indexed_when_an_event_is_stored_after_its_last_removal() {
+        inTransaction(tx -> tx.storeEvent("reg-4", event("ce-5")));
+
+        inTransaction(tx -> {
+            tx.removeCloudEvents(Map.of("reg-4", "ce-5"));
+            tx.storeEvent("reg-4", event("ce-6"));
+        });
+
+        assertTrue(registrations().contains("reg-4"));
+        inTransaction(tx -> tx.removeCloudEvents(Map.of("reg-4", "ce-6")));
+        assertFalse(registrations().contains("reg-4"));
+    }
+
+    @Test
+    void index_version_is_marked_once_rebuilt_at_startup() {
+        assertTrue(ds.set(String.class).sismember("IDX:version", "1"));
+    }
+
+    private Set<String> registrations() {
+        return ds.set(String.class).smembers(REGISTRATIONS_INDEX);
+    }
+
+    private void inTransaction(Consumer<PersistenceInstanceTransaction> operations) {
+        PersistenceInstanceTransaction tx = store.begin();
+        operations.accept(tx);
+        tx.commit(workflow.definition());
+    }
+
+    private static CloudEvent event(String id) {
+        return CloudEventBuilder.v1()
+                .withId(id)
+                .withType("org.acme.registered")
+                .withSource(URI.create("/test"))
+                .build();
+    }
+}
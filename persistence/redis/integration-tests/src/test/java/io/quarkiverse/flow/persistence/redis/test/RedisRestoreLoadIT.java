@@ -0,0 +1,79 @@
+package io.quarkiverse.flow.persistence.redis.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.quarkiverse.flow.persistence.redis.RedisInstanceStore;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.marshaller.WorkflowBufferFactory;
+import io.serverlessworkflow.impl.persistence.PersistenceWorkflowInfo;
+
+/**
+ * Compares the time needed to load 10k stored instances for restoration, one instance per round-trip versus batched
+ * loading.
+ * <p>
+ * The figures are logged rather than asserted. Not part of the default build, run it with {@code -Pload-tests}.
+ */
+@QuarkusTest
+@DisabledOnOs(OS.WINDOWS)
+public class RedisRestoreLoadIT {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RedisRestoreLoadIT.class);
+
+    private static final int INSTANCES = 10_000;
+
+    @Inject
+    ParkedWorkflow workflow;
+
+    @Inject
+    RedisDataSource ds;
+
+    @Inject
+    WorkflowBufferFactory factory;
+
+    @Test
+    void measure_restore_load_time() throws InterruptedException {
+        WorkflowDefinition definition = workflow.definition();
+        for (int i = 0; i < INSTANCES; i++) {
+            workflow.instance().start();
+        }
+        awaitStored(definition);
+
+        for (int batchSize : new int[] { 1, 10, 100, 500 }) {
+            RedisInstanceStore store = new RedisInstanceStore(ds, factory, batchSize);
+            long start = System.nanoTime();
+            long loaded = count(store, definition);
+            long elapsed = System.nanoTime() - start;
+            assertEquals(INSTANCES, loaded);
+            LOGGER.info("Loaded {} instances in {} ms with {} instances per batch", loaded,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), batchSize);
+        }
+    }
+
+    private void awaitStored(WorkflowDefinition definition) throws InterruptedException {
+        RedisInstanceStore store = new RedisInstanceStore(ds, factory, 500);
+        long deadline = System.nanoTime() + Duration.ofMinutes(5).toNanos();
+        while (count(store, definition) < INSTANCES && System.nanoTime() < deadline) {
+            Thread.sleep(500);
+        }
+    }
+
+    private static long count(RedisInstanceStore store, WorkflowDefinition definition) {
+        try (Stream<PersistenceWorkflowInfo> infos = store.begin().scanAll(definition.application().id(), definition)) {
+            return infos.count();
+        }
+    }
+}
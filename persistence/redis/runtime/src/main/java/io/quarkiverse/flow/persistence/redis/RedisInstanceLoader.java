@@ -0,0 +1,132 @@
+package io.quarkiverse.flow.persistence.redis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.Command;
+
+/**
+ * Loads workflow instances together with all their task hashes in two pipelined round-trips.
+ * <p>
+ * The instance hashes and the index sets of their task keys are requested first, then the hashes of all those tasks.
+ * Every command is a plain single key command sent on the same connection without waiting for the previous replies,
+ * so it works the same against a single server and against a cluster, where each command is routed to the node owning
+ * its key.
+ */
+final class RedisInstanceLoader {
+
+    /**
+     * Commands sent before waiting for their replies, kept below the default pipeline limit of the Redis client.
+     */
+    private static final int MAX_PIPELINED = 1000;
+
+    private final RedisDataSource ds;
+    private final int batchSize;
+
+    RedisInstanceLoader(RedisDataSource ds, int batchSize) {
+        this.ds = ds;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * @return the maximum number of instances loaded per round-trip when scanning.
+     */
+    int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param keys the instance key and task index key of every instance to load
+     * @return the loaded instances, in the order of the given keys, with a {@code null} data map for missing ones
+     */
+    List<LoadedInstance> load(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        RedisConnection connection = ds.getRedis().connect().await().indefinitely();
+        try {
+            return load(connection, keys);
+        } finally {
+            connection.closeAndAwait();
+        }
+    }
+
+    private static List<LoadedInstance> load(RedisConnection connection, List<String> keys) {
+        List<Request> requests = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i += 2) {
+            requests.add(Request.cmd(Command.HGETALL).arg(keys.get(i)));
+            requests.add(Request.cmd(Command.SMEMBERS).arg(keys.get(i + 1)));
+        }
+        List<Response> indexes = send(connection, requests);
+
+        List<Request> taskRequests = new ArrayList<>();
+        List<List<String>> taskKeys = new ArrayList<>(keys.size() / 2);
+        for (int i = 0; i < indexes.size(); i += 2) {
+            List<String> instanceTasks = new ArrayList<>();
+            if (!isEmpty(indexes.get(i)) && indexes.get(i + 1) != null) {
+                for (Response task : indexes.get(i + 1)) {
+                    instanceTasks.add(task.toString());
+                    taskRequests.add(Request.cmd(Command.HGETALL).arg(task.toString()));
+                }
+            }
+            taskKeys.add(instanceTasks);
+        }
+        List<Response> taskHashes = send(connection, taskRequests);
+
+        List<LoadedInstance> instances = new ArrayList<>(taskKeys.size());
+        int task = 0;
+        for (int i = 0; i < taskKeys.size(); i++) {
+            Response instance = indexes.get(i * 2);
+            if (isEmpty(instance)) {
+                instances.add(LoadedInstance.MISSING);
+                continue;
+            }
+            Map<String, Map<String, byte[]>> tasks = new HashMap<>();
+            for (String taskKey : taskKeys.get(i)) {
+                Response taskHash = taskHashes.get(task++);
+                // a task removed between the two round-trips is skipped
+                if (!isEmpty(taskHash)) {
+                    tasks.put(taskKey, toHash(taskHash));
+                }
+            }
+            instances.add(new LoadedInstance(toHash(instance), tasks));
+        }
+        return instances;
+    }
+
+    private static List<Response> send(RedisConnection connection, List<Request> requests) {
+        List<Response> responses = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += MAX_PIPELINED) {
+            List<Uni<Response>> pipelined = new ArrayList<>();
+            for (Request request : requests.subList(from, Math.min(from + MAX_PIPELINED, requests.size()))) {
+                pipelined.add(connection.send(request));
+            }
+            responses.addAll(Uni.join().all(pipelined).andFailFast().await().indefinitely());
+        }
+        return responses;
+    }
+
+    private static boolean isEmpty(Response response) {
+        return response == null || response.size() == 0;
+    }
+
+    private static Map<String, byte[]> toHash(Response hash) {
+        Map<String, byte[]> result = new HashMap<>();
+        for (String field : hash.getKeys()) {
+            result.put(field, hash.get(field).toBytes());
+        }
+        return result;
+    }
+
+    record LoadedInstance(Map<String, byte[]> data, Map<String, Map<String, byte[]>> tasks) {
+
+        static final LoadedInstance MISSING = new LoadedInstance(null, Map.of());
+    }
+}
@@ -1,11 +1,21 @@
 package io.quarkiverse.flow.persistence.redis;
 
+import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
 
+import io.quarkiverse.flow.internal.WorkflowApplicationReadyEvent;
+import io.quarkiverse.flow.persistence.common.ContextDeltaEncoder;
 import io.quarkus.arc.Unremovable;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.hash.HashCommands;
 import io.quarkus.redis.datasource.keys.KeyCommands;
+import io.quarkus.redis.datasource.set.SetCommands;
+import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.serverlessworkflow.impl.WorkflowApplication;
+import io.serverlessworkflow.impl.WorkflowDefinition;
 import io.serverlessworkflow.impl.marshaller.WorkflowBufferFactory;
 import io.serverlessworkflow.impl.persistence.PersistenceInstanceStore;
 import io.serverlessworkflow.impl.persistence.PersistenceInstanceTransaction;
@@ -18,16 +28,57 @@ public class RedisInstanceStore implements PersistenceInstanceStore {
     private final WorkflowBufferFactory factory;
     private final KeyCommands<String> keyCommands;
     private final HashCommands<String, String, byte[]> hashCommands;
+    private final SetCommands<String, String> setCommands;
+    private final SortedSetCommands<String, String> sortedSetCommands;
+    private final RedisInstanceLoader loader;
+    private final ContextDeltaEncoder contextDeltaEncoder;
 
-    public RedisInstanceStore(RedisDataSource ds, WorkflowBufferFactory factory) {
+    @Inject
+    public RedisInstanceStore(RedisDataSource ds, WorkflowBufferFactory factory, RedisPersistenceConfig config,
+            ContextDeltaEncoder contextDeltaEncoder) {
+        this(ds, factory, config.loadBatchSize(), contextDeltaEncoder);
+    }
+
+    public RedisInstanceStore(RedisDataSource ds, WorkflowBufferFactory factory, int loadBatchSize) {
+        this(ds, factory, loadBatchSize, ContextDeltaEncoder.disabled());
+    }
+
+    public RedisInstanceStore(RedisDataSource ds, WorkflowBufferFactory factory, int loadBatchSize,
+            ContextDeltaEncoder contextDeltaEncoder) {
         this.ds = ds;
         this.factory = factory;
         this.keyCommands = ds.key(String.class);
         this.hashCommands = ds.hash(String.class, String.class, byte[].class);
+        this.setCommands = ds.set(String.class);
+        this.sortedSetCommands = ds.sortedSet(String.class);
+        this.loader = new RedisInstanceLoader(ds, loadBatchSize);
+        this.contextDeltaEncoder = contextDeltaEncoder;
     }
 
     @Override
     public PersistenceInstanceTransaction begin() {
-        return new RedisInstanceTransaction(ds, keyCommands, hashCommands, factory);
+        return newTransaction();
+    }
+
+    // Runs before the stored instances are restored, so they are found through the rebuilt indexes
+    void reindex(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) WorkflowApplicationReadyEvent event,
+            WorkflowApplication application, RedisPersistenceConfig config) {
+        if (!config.reindex() && newTransaction().indexed()) {
+            return;
+        }
+        for (WorkflowDefinition definition : application.workflowDefinitions().values()) {
+            RedisInstanceTransaction transaction = newTransaction();
+            transaction.reindexInstances(application.id(), definition);
+            transaction.commit(definition);
+        }
+        RedisInstanceTransaction transaction = newTransaction();
+        transaction.reindexEvents();
+        transaction.markIndexed();
+        transaction.commit(null);
+    }
+
+    private RedisInstanceTransaction newTransaction() {
+        return new RedisInstanceTransaction(ds, keyCommands, hashCommands, setCommands, sortedSetCommands, loader,
+                contextDeltaEncoder, factory);
     }
 }
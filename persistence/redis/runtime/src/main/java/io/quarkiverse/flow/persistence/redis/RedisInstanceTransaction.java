@@ -16,25 +16,37 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import io.cloudevents.CloudEvent;
 import io.cloudevents.CloudEventData;
 import io.cloudevents.SpecVersion;
 import io.cloudevents.core.builder.CloudEventBuilder;
+import io.quarkiverse.flow.persistence.common.CompressedBufferFactory;
+import io.quarkiverse.flow.persistence.common.ContextDeltaEncoder;
+import io.quarkiverse.flow.persistence.common.ContextDeltaEncoder.EncodedContext;
+import io.quarkus.redis.datasource.Cursor;
 import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.ScanArgs;
 import io.quarkus.redis.datasource.hash.HashCommands;
 import io.quarkus.redis.datasource.hash.TransactionalHashCommands;
 import io.quarkus.redis.datasource.keys.KeyCommands;
 import io.quarkus.redis.datasource.keys.KeyScanArgs;
 import io.quarkus.redis.datasource.keys.KeyScanCursor;
 import io.quarkus.redis.datasource.keys.TransactionalKeyCommands;
+import io.quarkus.redis.datasource.set.SetCommands;
+import io.quarkus.redis.datasource.set.TransactionalSetCommands;
+import io.quarkus.redis.datasource.sortedset.SortedSetCommands;
+import io.quarkus.redis.datasource.sortedset.TransactionalSortedSetCommands;
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.serverlessworkflow.impl.TaskContext;
 import io.serverlessworkflow.impl.TaskContextData;
 import io.serverlessworkflow.impl.WorkflowContextData;
 import io.serverlessworkflow.impl.WorkflowDefinition;
 import io.serverlessworkflow.impl.WorkflowDefinitionData;
+import io.serverlessworkflow.impl.WorkflowModel;
+import io.serverlessworkflow.impl.WorkflowModelFactory;
 import io.serverlessworkflow.impl.WorkflowStatus;
 import io.serverlessworkflow.impl.executors.AbstractTaskExecutor;
 import io.serverlessworkflow.impl.executors.TransitionInfo;
@@ -61,6 +73,8 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
     private final static String NEXT = "next";
     private final static String ITERATION = "iteration";
     private final static String SEPARATOR = ":";
+    // Context snapshots are stored apart from their task, which is overwritten by every iteration of a loop
+    private final static String SNAPSHOT = "@snapshot";
 
     private static final String CE_SOURCE = "source";
     private static final String CE_TYPE = "type";
@@ -75,94 +89,157 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
     private static final String PROCESSED_FLAG = "processed";
     private static final byte[] PROCESSED_VALUE = new byte[] { 1 };
 
+    // Secondary indexes, so instances, tasks and events are found without scanning the whole keyspace
+    private static final String INDEX_PREFIX = "IDX" + SEPARATOR;
+    private static final String INSTANCES_INDEX = INDEX_PREFIX + "instances" + SEPARATOR;
+    private static final String TASKS_INDEX = INDEX_PREFIX + "tasks" + SEPARATOR;
+    private static final String EVENTS_INDEX = INDEX_PREFIX + "events" + SEPARATOR;
+    private static final String REGISTRATIONS_INDEX = INDEX_PREFIX + "registrations";
+    private static final String INDEX_VERSION = INDEX_PREFIX + "version";
+    private static final String CURRENT_INDEX_VERSION = "1";
+    // Evaluated inside MULTI, so no event can be stored between the check and the removal
+    private static final String PRUNE_REGISTRATION = "if redis.call('EXISTS', KEYS[2]) == 0 then "
+            + "return redis.call('SREM', KEYS[1], ARGV[1]) end return 0";
+
     private final RedisDataSource ds;
     private final WorkflowBufferFactory factory;
+    private final WorkflowBufferFactory scalarFactory;
     private final KeyCommands<String> keyCommands;
     private final HashCommands<String, String, byte[]> hashCommands;
+    private final SetCommands<String, String> setCommands;
+    private final SortedSetCommands<String, String> sortedSetCommands;
+    private final RedisInstanceLoader loader;
+    private final ContextDeltaEncoder contextDeltaEncoder;
 
     private final List<Consumer<TransactionalRedisDataSource>> operations;
+    private final List<WorkflowContextData> encodedContexts;
 
     private TransactionalHashCommands<String, String, byte[]> txHashCommands;
     private TransactionalKeyCommands<String> txKeyCommands;
+    private TransactionalSetCommands<String, String> txSetCommands;
+    private TransactionalSortedSetCommands<String, String> txSortedSetCommands;
 
     public RedisInstanceTransaction(RedisDataSource ds, KeyCommands<String> keyCommands,
-            HashCommands<String, String, byte[]> hashCommands,
-            WorkflowBufferFactory factory) {
+            HashCommands<String, String, byte[]> hashCommands, SetCommands<String, String> setCommands,
+            SortedSetCommands<String, String> sortedSetCommands, RedisInstanceLoader loader,
+            ContextDeltaEncoder contextDeltaEncoder, WorkflowBufferFactory factory) {
         this.ds = ds;
         this.keyCommands = keyCommands;
         this.hashCommands = hashCommands;
+        this.setCommands = setCommands;
+        this.sortedSetCommands = sortedSetCommands;
+        this.loader = loader;
+        this.contextDeltaEncoder = contextDeltaEncoder;
         this.operations = new ArrayList<>();
+        this.encodedContexts = new ArrayList<>();
         this.factory = factory;
+        this.scalarFactory = CompressedBufferFactory.uncompressed(factory);
     }
 
     @Override
     public void commit(WorkflowDefinitionData definition) {
         if (!operations.isEmpty()) {
-            ds.withTransaction(tx -> {
-                operations.forEach(x -> x.accept(tx));
-            });
+            try {
+                ds.withTransaction(tx -> {
+                    operations.forEach(x -> x.accept(tx));
+                });
+            } catch (RuntimeException e) {
+                forgetEncodedContexts();
+                throw e;
+            }
         }
     }
 
     @Override
     public void rollback(WorkflowDefinitionData definition) {
+        forgetEncodedContexts();
+    }
+
+    // The snapshots kept in memory must not outlive a failed transaction, later deltas would reference them
+    private void forgetEncodedContexts() {
+        encodedContexts.forEach(contextDeltaEncoder::forget);
     }
 
     @Override
     public void writeInstanceData(WorkflowContextData workflowContext) {
         String instanceId = key(workflowContext);
         operations.add(tx -> hashCommands(tx).hset(instanceId, DATE,
-                MarshallingUtils.writeInstant(factory, workflowContext.instanceData().startedAt())));
+                MarshallingUtils.writeInstant(scalarFactory, workflowContext.instanceData().startedAt())));
         operations.add(tx -> hashCommands(tx).hset(instanceId, INPUT,
                 MarshallingUtils.writeModel(factory, workflowContext.instanceData().input())));
+        operations.add(tx -> setCommands(tx).sadd(instancesIndex(workflowContext.definition()),
+                workflowContext.instanceData().id()));
     }
 
     @Override
     public void writeRetryTask(WorkflowContextData workflowContext, TaskContextData taskContext) {
         String key = taskId(workflowContext, taskContext);
-        operations.add(tx -> hashCommands(tx).hset(key, STATUS, MarshallingUtils.writeEnum(factory, TaskStatus.RETRIED)));
+        operations.add(tx -> hashCommands(tx).hset(key, STATUS, MarshallingUtils.writeEnum(scalarFactory, TaskStatus.RETRIED)));
         operations.add(tx -> hashCommands(tx).hset(key, RETRY_ATTEMPT,
-                MarshallingUtils.writeInt(factory, ((TaskContext) taskContext).retryAttempt())));
+                MarshallingUtils.writeInt(scalarFactory, ((TaskContext) taskContext).retryAttempt())));
+        operations.add(tx -> setCommands(tx).sadd(tasksIndex(workflowContext.instanceData().id()), key));
     }
 
     @Override
     public void writeCompletedTask(WorkflowContextData workflowContext,
             TaskContextData taskContext) {
         String key = taskId(workflowContext, taskContext);
-        operations.add(tx -> hashCommands(tx).hset(key, STATUS, MarshallingUtils.writeEnum(factory, TaskStatus.COMPLETED)));
         operations.add(
-                tx -> hashCommands(tx).hset(key, DATE, MarshallingUtils.writeInstant(factory, taskContext.completedAt())));
+                tx -> hashCommands(tx).hset(key, STATUS, MarshallingUtils.writeEnum(scalarFactory, TaskStatus.COMPLETED)));
+        operations.add(tx -> hashCommands(tx).hset(key, DATE,
+                MarshallingUtils.writeInstant(scalarFactory, taskContext.completedAt())));
         operations.add(tx -> hashCommands(tx).hset(key, OUTPUT, MarshallingUtils.writeModel(factory, taskContext.output())));
         if (workflowContext.context() != null) {
-            operations.add(
-                    tx -> hashCommands(tx).hset(key, CONTEXT, MarshallingUtils.writeModel(factory, workflowContext.context())));
+            writeContext(workflowContext, taskContext, key);
         }
         TransitionInfo transition = ((TaskContext) taskContext).transition();
-        operations.add(
-                tx -> hashCommands(tx).hset(key, END_NODE, MarshallingUtils.writeBoolean(factory, transition.isEndNode())));
+        operations.add(tx -> hashCommands(tx).hset(key, END_NODE,
+                MarshallingUtils.writeBoolean(scalarFactory, transition.isEndNode())));
         AbstractTaskExecutor<?> next = (AbstractTaskExecutor<?>) transition.next();
         if (next != null) {
             operations.add(tx -> hashCommands(tx).hset(key, NEXT,
-                    MarshallingUtils.writeString(factory, next.position().jsonPointer())));
+                    MarshallingUtils.writeString(scalarFactory, next.position().jsonPointer())));
+        }
+        operations.add(tx -> hashCommands(tx).hset(key, ITERATION, writeInt(scalarFactory, taskContext.iteration())));
+        operations.add(tx -> setCommands(tx).sadd(tasksIndex(workflowContext.instanceData().id()), key));
+    }
+
+    private void writeContext(WorkflowContextData workflowContext, TaskContextData taskContext, String key) {
+        if (!contextDeltaEncoder.enabled()) {
+            operations.add(
+                    tx -> hashCommands(tx).hset(key, CONTEXT, MarshallingUtils.writeModel(factory, workflowContext.context())));
+            return;
+        }
+        String snapshotKey = snapshotKey(workflowContext, taskContext);
+        EncodedContext encoded = contextDeltaEncoder.encode(workflowContext, snapshotKey);
+        encodedContexts.add(workflowContext);
+        if (encoded.snapshot()) {
+            byte[] snapshot = MarshallingUtils.writeModel(factory, encoded.context());
+            operations.add(tx -> hashCommands(tx).hset(snapshotKey, CONTEXT, snapshot));
+            operations.add(tx -> setCommands(tx).sadd(tasksIndex(workflowContext.instanceData().id()), snapshotKey));
+            byte[] reference = MarshallingUtils.writeModel(factory, contextDeltaEncoder.reference(workflowContext, snapshotKey));
+            operations.add(tx -> hashCommands(tx).hset(key, CONTEXT, reference));
+        } else {
+            byte[] delta = MarshallingUtils.writeModel(factory, encoded.context());
+            operations.add(tx -> hashCommands(tx).hset(key, CONTEXT, delta));
         }
-        operations.add(tx -> hashCommands(tx).hset(key, ITERATION, writeInt(factory, taskContext.iteration())));
     }
 
     @Override
     public void writeStatus(WorkflowContextData workflowContext, WorkflowStatus status) {
-        operations.add(tx -> hashCommands(tx).hset(key(workflowContext), STATUS, MarshallingUtils.writeEnum(factory, status)));
+        operations.add(tx -> hashCommands(tx).hset(key(workflowContext), STATUS,
+                MarshallingUtils.writeEnum(scalarFactory, status)));
     }
 
     @Override
     public void removeProcessInstance(WorkflowContextData workflowContext) {
-        KeyScanCursor<String> keysCursor = keyCommands
-                .scan(new KeyScanArgs().match(taskPrefix(workflowContext.instanceData().id()) + "*"));
-        Collection<String> toDelete = new ArrayList<>();
+        contextDeltaEncoder.forget(workflowContext);
+        String instanceId = workflowContext.instanceData().id();
+        Collection<String> toDelete = new ArrayList<>(setCommands.smembers(tasksIndex(instanceId)));
         toDelete.add(key(workflowContext));
-        while (keysCursor.hasNext()) {
-            keysCursor.next().forEach(toDelete::add);
-        }
+        toDelete.add(tasksIndex(instanceId));
         operations.add(tx -> keyCommands(tx).del(toDelete.toArray(new String[toDelete.size()])));
+        operations.add(tx -> setCommands(tx).srem(instancesIndex(workflowContext.definition()), instanceId));
     }
 
     @Override
@@ -172,37 +249,40 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
 
     @Override
     public Stream<PersistenceWorkflowInfo> scanAll(String applicationId, WorkflowDefinition definition) {
-        PersistenceWorkflowInfoGenerator generator = new PersistenceWorkflowInfoGenerator(keyCommands
-                .scan(new KeyScanArgs().match(prefixId(applicationId, definition) + "*")));
+        PersistenceWorkflowInfoGenerator generator = new PersistenceWorkflowInfoGenerator(
+                setCommands.sscan(instancesIndex(applicationId, definition), new ScanArgs().count(loader.batchSize())),
+                prefixId(applicationId, definition), definition.application().modelFactory());
         return Stream.generate(generator::next).takeWhile(Objects::nonNull);
     }
 
     @Override
     public void storeEvent(String regId, CloudEvent event) {
         String key = ceKey(regId, event.getId());
+        operations.add(tx -> sortedSetCommands(tx).zadd(eventsIndex(regId), System.currentTimeMillis(), event.getId()));
+        operations.add(tx -> setCommands(tx).sadd(REGISTRATIONS_INDEX, regId));
         operations.add(tx -> hashCommands(tx).hset(key, CE_SOURCE,
-                MarshallingUtils.writeURI(factory, event.getSource())));
-        operations.add(tx -> hashCommands(tx).hset(key, CE_TYPE, MarshallingUtils.writeString(factory, event.getType())));
+                MarshallingUtils.writeURI(scalarFactory, event.getSource())));
+        operations.add(tx -> hashCommands(tx).hset(key, CE_TYPE, MarshallingUtils.writeString(scalarFactory, event.getType())));
         operations.add(tx -> hashCommands(tx).hset(key, CE_VERSION,
-                MarshallingUtils.writeEnum(factory, event.getSpecVersion())));
+                MarshallingUtils.writeEnum(scalarFactory, event.getSpecVersion())));
         String subject = event.getSubject();
         if (subject != null) {
-            operations.add(tx -> hashCommands(tx).hset(key, CE_SUBJECT, MarshallingUtils.writeString(factory, subject)));
+            operations.add(tx -> hashCommands(tx).hset(key, CE_SUBJECT, MarshallingUtils.writeString(scalarFactory, subject)));
         }
         URI dataSchema = event.getDataSchema();
         if (dataSchema != null) {
             operations.add(
-                    tx -> hashCommands(tx).hset(key, CE_SCHEMA, MarshallingUtils.writeURI(factory, dataSchema)));
+                    tx -> hashCommands(tx).hset(key, CE_SCHEMA, MarshallingUtils.writeURI(scalarFactory, dataSchema)));
         }
         String contentType = event.getDataContentType();
         if (contentType != null) {
-            operations
-                    .add(tx -> hashCommands(tx).hset(key, CE_CONTENT_TYPE, MarshallingUtils.writeString(factory, contentType)));
+            operations.add(tx -> hashCommands(tx).hset(key, CE_CONTENT_TYPE,
+                    MarshallingUtils.writeString(scalarFactory, contentType)));
         }
         OffsetDateTime time = event.getTime();
         if (time != null) {
             operations
-                    .add(tx -> hashCommands(tx).hset(key, CE_TIME, MarshallingUtils.writeOffsetDateTime(factory, time)));
+                    .add(tx -> hashCommands(tx).hset(key, CE_TIME, MarshallingUtils.writeOffsetDateTime(scalarFactory, time)));
         }
         CloudEventData data = event.getData();
         if (data != null) {
@@ -211,7 +291,7 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
         Set<String> extensionNames = event.getExtensionNames();
         if (!extensionNames.isEmpty()) {
             operations.add(tx -> hashCommands(tx).hset(key, CE_EXTENSIONS,
-                    MarshallingUtils.writeCloudEventExtensions(factory, event)));
+                    MarshallingUtils.writeCloudEventExtensions(scalarFactory, event)));
         }
     }
 
@@ -219,13 +299,10 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
     public void retrieveEvents(Map<String, Collection<CloudEvent>> result) {
         result.entrySet().forEach(e -> {
             String targetRegId = e.getKey();
-            KeyScanCursor<String> cursor = keyCommands.scan(new KeyScanArgs().match(CE_PREFIX + targetRegId + SEPARATOR + "*"));
-            while (cursor.hasNext()) {
-                for (String key : cursor.next()) {
-                    Map<String, byte[]> storedInfo = hashCommands.hgetall(key);
-                    if (!storedInfo.containsKey(PROCESSED_FLAG)) {
-                        e.getValue().add(readCloudEvent(lastChunk(key), storedInfo));
-                    }
+            for (String ceId : sortedSetCommands.zrange(eventsIndex(targetRegId), 0, -1)) {
+                Map<String, byte[]> storedInfo = hashCommands.hgetall(ceKey(targetRegId, ceId));
+                if (!storedInfo.isEmpty() && !storedInfo.containsKey(PROCESSED_FLAG)) {
+                    e.getValue().add(readCloudEvent(ceId, storedInfo));
                 }
             }
         });
@@ -276,9 +353,15 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
 
     @Override
     public void clearProcessed() {
-        KeyScanCursor<String> cursor = keyCommands.scan(new KeyScanArgs().match(CE_PREFIX));
-        while (cursor.hasNext()) {
-            cursor.next().forEach(k -> operations.add(tx -> hashCommands(tx).hdel(k, PROCESSED_FLAG)));
+        for (String regId : setCommands.smembers(REGISTRATIONS_INDEX)) {
+            List<String> ceIds = sortedSetCommands.zrange(eventsIndex(regId), 0, -1);
+            if (ceIds.isEmpty()) {
+                pruneRegistration(regId);
+            }
+            for (String ceId : ceIds) {
+                String key = ceKey(regId, ceId);
+                operations.add(tx -> hashCommands(tx).hdel(key, PROCESSED_FLAG));
+            }
         }
     }
 
@@ -287,31 +370,109 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
         if (!ids.isEmpty()) {
             operations.add(tx -> keyCommands(tx)
                     .del(ids.entrySet().stream().map(e -> ceKey(e.getKey(), e.getValue())).toArray(String[]::new)));
+            ids.forEach((regId, ceId) -> {
+                operations.add(tx -> sortedSetCommands(tx).zrem(eventsIndex(regId), ceId));
+                pruneRegistration(regId);
+            });
+        }
+    }
+
+    /**
+     * Drops the registration from the index once Redis has dropped its emptied events set.
+     */
+    private void pruneRegistration(String regId) {
+        operations.add(tx -> tx.execute("EVAL", PRUNE_REGISTRATION, "2", REGISTRATIONS_INDEX, eventsIndex(regId), regId));
+    }
+
+    /**
+     * @return whether the indexes were already rebuilt for the data stored before they were maintained
+     */
+    boolean indexed() {
+        return setCommands.sismember(INDEX_VERSION, CURRENT_INDEX_VERSION);
+    }
+
+    void markIndexed() {
+        operations.add(tx -> setCommands(tx).sadd(INDEX_VERSION, CURRENT_INDEX_VERSION));
+    }
+
+    /**
+     * Indexes the instances of the given definition, and their tasks, stored before the indexes were maintained.
+     */
+    void reindexInstances(String applicationId, WorkflowDefinitionData definition) {
+        String prefix = prefixId(applicationId, definition);
+        String instancesIndex = instancesIndex(applicationId, definition);
+        KeyScanCursor<String> instances = keyCommands.scan(new KeyScanArgs().match(prefix + "*"));
+        while (instances.hasNext()) {
+            for (String key : instances.next()) {
+                String instanceId = key.substring(prefix.length());
+                operations.add(tx -> setCommands(tx).sadd(instancesIndex, instanceId));
+                KeyScanCursor<String> tasks = keyCommands.scan(new KeyScanArgs().match(taskPrefix(instanceId) + "*"));
+                while (tasks.hasNext()) {
+                    for (String taskKey : tasks.next()) {
+                        operations.add(tx -> setCommands(tx).sadd(tasksIndex(instanceId), taskKey));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes the events stored before the indexes were maintained.
+     */
+    void reindexEvents() {
+        long now = System.currentTimeMillis();
+        KeyScanCursor<String> events = keyCommands.scan(new KeyScanArgs().match(CE_PREFIX + "*"));
+        while (events.hasNext()) {
+            for (String key : events.next()) {
+                String regId = key.substring(CE_PREFIX.length(), key.lastIndexOf(SEPARATOR));
+                String ceId = lastChunk(key);
+                operations.add(tx -> sortedSetCommands(tx).zadd(eventsIndex(regId), now, ceId));
+                operations.add(tx -> setCommands(tx).sadd(REGISTRATIONS_INDEX, regId));
+            }
         }
     }
 
     private class PersistenceWorkflowInfoGenerator {
 
-        private final KeyScanCursor<String> cursor;
-        private Iterator<String> keys;
+        private final Cursor<? extends Collection<String>> cursor;
+        private final String prefix;
+        private final WorkflowModelFactory modelFactory;
+        private Iterator<String> instanceIds;
+        private Iterator<PersistenceWorkflowInfo> loaded;
 
-        public PersistenceWorkflowInfoGenerator(KeyScanCursor<String> cursor) {
+        public PersistenceWorkflowInfoGenerator(Cursor<? extends Collection<String>> cursor, String prefix,
+                WorkflowModelFactory modelFactory) {
             this.cursor = cursor;
-            this.keys = Collections.emptyIterator();
+            this.prefix = prefix;
+            this.modelFactory = modelFactory;
+            this.instanceIds = Collections.emptyIterator();
+            this.loaded = Collections.emptyIterator();
         }
 
         public PersistenceWorkflowInfo next() {
-            if (!keys.hasNext()) {
-                if (!cursor.hasNext()) {
+            while (!loaded.hasNext()) {
+                List<String> batch = nextBatch();
+                if (batch.isEmpty()) {
                     return null;
                 }
-                this.keys = cursor.next().iterator();
-                if (!keys.hasNext()) {
-                    return null;
+                loaded = readPersistenceInfos(prefix, batch, modelFactory).iterator();
+            }
+            return loaded.next();
+        }
+
+        private List<String> nextBatch() {
+            List<String> batch = new ArrayList<>(loader.batchSize());
+            while (batch.size() < loader.batchSize()) {
+                // A cursor step may return no element while the iteration is not finished yet
+                while (!instanceIds.hasNext()) {
+                    if (!cursor.hasNext()) {
+                        return batch;
+                    }
+                    this.instanceIds = cursor.next().iterator();
                 }
+                batch.add(instanceIds.next());
             }
-            String key = keys.next();
-            return readPersistenceInfo(key, lastChunk(key));
+            return batch;
         }
     }
 
@@ -319,39 +480,68 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
         return key.substring(key.lastIndexOf(SEPARATOR) + 1);
     }
 
-    private PersistenceWorkflowInfo readPersistenceInfo(String key, String instanceId) {
-        Map<String, byte[]> instanceData = hashCommands.hgetall(key);
-        return instanceData.isEmpty() ? null
-                : new PersistenceWorkflowInfo(instanceId, MarshallingUtils.readInstant(factory,
-                        instanceData.get(DATE)), MarshallingUtils.readModel(factory, instanceData.get(INPUT)),
-                        MarshallingUtils.readEnum(factory, instanceData.get(STATUS), WorkflowStatus.class),
-                        readTasksInfo(instanceId));
-    }
-
-    private Map<String, PersistenceTaskInfo> readTasksInfo(String instanceId) {
-        // scan key:* for task keys and then hgetall for each one of them
-        KeyScanCursor<String> cursor = keyCommands.scan(new KeyScanArgs().match(taskPrefix(instanceId) + "*"));
-        Map<String, PersistenceTaskInfo> result = new HashMap<>();
-        while (cursor.hasNext()) {
-            cursor.next().forEach(s -> result.put(lastChunk(s), readTaskInfo(s)));
+    /**
+     * Loads the given instances, with all their tasks, in two pipelined round-trips. Missing instances are skipped.
+     */
+    private List<PersistenceWorkflowInfo> readPersistenceInfos(String prefix, List<String> instanceIds,
+            WorkflowModelFactory modelFactory) {
+        List<String> keys = new ArrayList<>(instanceIds.size() * 2);
+        for (String instanceId : instanceIds) {
+            keys.add(prefix + instanceId);
+            keys.add(tasksIndex(instanceId));
+        }
+        List<RedisInstanceLoader.LoadedInstance> instances = loader.load(keys);
+        List<PersistenceWorkflowInfo> result = new ArrayList<>(instances.size());
+        for (int i = 0; i < instances.size(); i++) {
+            RedisInstanceLoader.LoadedInstance instance = instances.get(i);
+            if (instance.data() != null) {
+                result.add(readPersistenceInfo(instanceIds.get(i), instance, modelFactory));
+            }
         }
         return result;
     }
 
-    private PersistenceTaskInfo readTaskInfo(String key) {
-        Map<String, byte[]> data = hashCommands.hgetall(key);
+    private PersistenceWorkflowInfo readPersistenceInfo(String instanceId, RedisInstanceLoader.LoadedInstance instance,
+            WorkflowModelFactory modelFactory) {
+        Map<String, byte[]> instanceData = instance.data();
+        String snapshotPrefix = taskPrefix(instanceId) + SNAPSHOT;
+        Map<String, byte[]> snapshots = new HashMap<>();
+        Map<String, PersistenceTaskInfo> tasks = new HashMap<>();
+        instance.tasks().forEach((key, data) -> {
+            if (key.startsWith(snapshotPrefix)) {
+                snapshots.put(key, data.get(CONTEXT));
+            }
+        });
+        Function<String, WorkflowModel> snapshotLookup = key -> snapshots.containsKey(key)
+                ? MarshallingUtils.readModel(factory, snapshots.get(key))
+                : null;
+        instance.tasks().forEach((key, data) -> {
+            if (!key.startsWith(snapshotPrefix)) {
+                tasks.put(lastChunk(key), readTaskInfo(data, snapshotLookup, modelFactory));
+            }
+        });
+        return new PersistenceWorkflowInfo(instanceId, MarshallingUtils.readInstant(factory,
+                instanceData.get(DATE)), MarshallingUtils.readModel(factory, instanceData.get(INPUT)),
+                MarshallingUtils.readEnum(factory, instanceData.get(STATUS), WorkflowStatus.class),
+                tasks);
+    }
+
+    private PersistenceTaskInfo readTaskInfo(Map<String, byte[]> data, Function<String, WorkflowModel> snapshots,
+            WorkflowModelFactory modelFactory) {
         TaskStatus status = MarshallingUtils.readEnum(factory, data.get(STATUS), TaskStatus.class);
         if (status == TaskStatus.COMPLETED) {
             return new CompletedTaskInfo(MarshallingUtils.readInstant(factory, data.get(DATE)),
                     MarshallingUtils.readModel(factory, data.get(OUTPUT)),
-                    MarshallingUtils.readModel(factory, data.get(CONTEXT)),
+                    ContextDeltaEncoder.decode(MarshallingUtils.readModel(factory, data.get(CONTEXT)), snapshots,
+                            modelFactory),
                     MarshallingUtils.readBoolean(factory, data.get(END_NODE)),
                     MarshallingUtils.readString(factory, data.get(NEXT)),
                     readInt(factory, data.get(ITERATION)));
         } else if (status == TaskStatus.RETRIED) {
             byte[] retryBytes = data.get(RETRY_ATTEMPT);
-            return new RetriedTaskInfo(retryBytes.length == 4 ? MarshallingUtils.readInt(factory, retryBytes)
-                    : MarshallingUtils.readShort(factory, retryBytes));
+            // attempts used to be stored as shorts; ints read through the factory whatever header they carry
+            return new RetriedTaskInfo(retryBytes.length == Short.BYTES ? MarshallingUtils.readShort(factory, retryBytes)
+                    : MarshallingUtils.readInt(factory, retryBytes));
         } else {
             throw new IllegalArgumentException("Unsupported status " + status);
         }
@@ -359,7 +549,8 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
 
     @Override
     public Optional<PersistenceWorkflowInfo> readWorkflowInfo(WorkflowDefinition definition, String instanceId) {
-        return Optional.ofNullable(readPersistenceInfo(key(definition, instanceId), instanceId));
+        return readPersistenceInfos(prefixId(definition.application().id(), definition), List.of(instanceId),
+                definition.application().modelFactory()).stream().findFirst();
     }
 
     private TransactionalHashCommands<String, String, byte[]> hashCommands(TransactionalRedisDataSource tx) {
@@ -376,6 +567,20 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
         return txKeyCommands;
     }
 
+    private TransactionalSetCommands<String, String> setCommands(TransactionalRedisDataSource tx) {
+        if (txSetCommands == null) {
+            txSetCommands = tx.set(String.class);
+        }
+        return txSetCommands;
+    }
+
+    private TransactionalSortedSetCommands<String, String> sortedSetCommands(TransactionalRedisDataSource tx) {
+        if (txSortedSetCommands == null) {
+            txSortedSetCommands = tx.sortedSet(String.class);
+        }
+        return txSortedSetCommands;
+    }
+
     private String key(WorkflowContextData workflowContext) {
         return key(workflowContext.definition(), workflowContext.instanceData().id());
     }
@@ -389,10 +594,31 @@ public class RedisInstanceTransaction implements PersistenceInstanceTransaction
         return applicationId + SEPARATOR + definition.id().toString(SEPARATOR) + SEPARATOR;
     }
 
+    private String instancesIndex(WorkflowDefinitionData definition) {
+        return instancesIndex(definition.application().id(), definition);
+    }
+
+    private String instancesIndex(String applicationId, WorkflowDefinitionData definition) {
+        return INSTANCES_INDEX + prefixId(applicationId, definition);
+    }
+
+    private static String tasksIndex(String instanceId) {
+        return TASKS_INDEX + instanceId;
+    }
+
+    private static String eventsIndex(String regId) {
+        return EVENTS_INDEX + regId;
+    }
+
     private String taskId(WorkflowContextData workflowContext, TaskContextData taskContext) {
         return taskPrefix(workflowContext.instanceData().id()) + taskContext.position().jsonPointer();
     }
 
+    private String snapshotKey(WorkflowContextData workflowContext, TaskContextData taskContext) {
+        return taskPrefix(workflowContext.instanceData().id()) + SNAPSHOT + taskContext.position().jsonPointer() + "#"
+                + taskContext.iteration();
+    }
+
     private String taskPrefix(String instanceId) {
         return instanceId + SEPARATOR;
     }
@@ -0,0 +1,28 @@
+package io.quarkiverse.flow.persistence.redis;
+
+import io.quarkiverse.flow.persistence.common.FlowPersistenceConfig;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = FlowPersistenceConfig.PREFIX + ".redis")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface RedisPersistenceConfig {
+
+    /**
+     * Maximum number of instances, with all their tasks, loaded per batch while restoring stored instances
+     */
+    @WithDefault("100")
+    int loadBatchSize();
+
+    /**
+     * Rebuild the index sets of stored instances, tasks and events at startup by scanning the whole keyspace, even if
+     * they were already rebuilt.
+     * <p>
+     * The sets are rebuilt once anyway, on the first startup against a datastore without the index version marker, to
+     * index the data written by versions that did not maintain them.
+     */
+    @WithDefault("false")
+    boolean reindex();
+}
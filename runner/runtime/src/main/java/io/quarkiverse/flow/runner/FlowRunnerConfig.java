@@ -1,7 +1,9 @@
 package io.quarkiverse.flow.runner;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -120,6 +122,27 @@ public interface FlowRunnerConfig {
         @WithDefault("false")
         Boolean followSymlinks();
 
+        /**
+         * Number of threads parsing workflow definition files at startup.
+         * <p>
+         * Files are parsed in parallel and registered one by one once parsed, in the order they were found.
+         *
+         * @return the number of parsing threads, or empty to use the number of available processors
+         */
+        OptionalInt parallelism();
+
+        /**
+         * Directory of the on-disk cache of parsed workflow definitions.
+         * <p>
+         * When set, YAML definitions are cached as JSON, keyed by file path, modification time and content hash, so
+         * unchanged files are not parsed again as YAML on the next start. Point it to a volume that outlives the
+         * application, e.g. an {@code emptyDir} in Kubernetes to survive container restarts. Entries of removed or
+         * changed files are deleted after loading.
+         *
+         * @return the cache directory, or empty (default) to disable the cache
+         */
+        Optional<String> cachePath();
+
         /**
          * File watcher runtime configuration.
          *
@@ -149,6 +172,32 @@ public interface FlowRunnerConfig {
              */
             @WithDefault("5s")
             String interval();
+
+            /**
+             * How changes to the source path are detected.
+             * <p>
+             * {@code POLL} scans the whole source tree at every {@link #interval()}. {@code EVENTS} listens to file
+             * system events and only processes the files that changed, falling back to polling when the file system
+             * does not support it. Network file systems may not report remote changes, keep {@code POLL} for them.
+             *
+             * @return the watch mode (default: POLL)
+             */
+            @WithDefault("POLL")
+            Mode mode();
+
+            /**
+             * Quiet period after the last file system event before the changed files are processed, so that files
+             * written in several steps are processed once. Only used by the {@code EVENTS} mode.
+             *
+             * @return the debounce period (default: 500ms)
+             */
+            @WithDefault("500ms")
+            Duration debounce();
+
+            enum Mode {
+                POLL,
+                EVENTS
+            }
         }
     }
 
@@ -0,0 +1,122 @@
+package io.quarkiverse.flow.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.serverlessworkflow.api.WorkflowFormat;
+import io.serverlessworkflow.api.WorkflowReader;
+import io.serverlessworkflow.api.WorkflowWriter;
+import io.serverlessworkflow.api.types.Workflow;
+
+/**
+ * On-disk cache of parsed YAML workflow definitions.
+ * <p>
+ * Every entry is the definition written as JSON, which is much cheaper to read back than YAML. Entries are keyed by
+ * the file path, its modification time and the hash of its content, so a file is parsed again as soon as it changes.
+ * Entries not used by a load are removed by {@link #prune()}. JSON files are always read directly.
+ */
+class WorkflowDefinitionCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowDefinitionCache.class.getName());
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private final Path directory;
+    private final Set<Path> used = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    WorkflowDefinitionCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Reads the workflow definition in the given file from the cache, parsing and caching it on a miss.
+     */
+    Workflow read(Path path) throws IOException {
+        if (isJson(path)) {
+            return WorkflowReader.readWorkflow(path);
+        }
+        WorkflowFileWatcher.FileContent content = WorkflowFileWatcher.FileContent.read(path);
+        Path entry = directory.resolve(key(path, content.state()) + ENTRY_SUFFIX);
+        used.add(entry);
+        if (Files.isRegularFile(entry)) {
+            try {
+                Workflow workflow = WorkflowReader.readWorkflow(entry, WorkflowFormat.JSON);
+                hits.incrementAndGet();
+                return workflow;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debug("Flow Runner: Ignoring unreadable cache entry {} for {}", entry, path, e);
+            }
+        }
+        Workflow workflow = content.readWorkflow();
+        write(entry, workflow);
+        return workflow;
+    }
+
+    /**
+     * @return the number of definitions read from the cache so far
+     */
+    int hits() {
+        return hits.get();
+    }
+
+    /**
+     * Removes the entries that were not used since this cache was created.
+     */
+    void prune() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+            for (Path entry : entries) {
+                if (!used.contains(entry)) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Flow Runner: Failed to prune workflow definition cache {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void write(Path entry, Workflow workflow) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "entry", ".tmp");
+            try {
+                Files.writeString(tmp, WorkflowWriter.workflowAsString(workflow, WorkflowFormat.JSON));
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException | RuntimeException e) {
+            // the cache is an optimization only, a definition that cannot be cached is parsed again on next start
+            LOGGER.warn("Flow Runner: Failed to write workflow definition cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private static boolean isJson(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(".json");
+    }
+
+    private static String key(Path path, WorkflowFileWatcher.FileState state) {
+        String key = path.toAbsolutePath().normalize() + "\n" + state.lastModified() + "\n" + state.hash();
+        try {
+            return HexFormat.of()
+                    .formatHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -6,8 +6,15 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -74,24 +81,98 @@ public class WorkflowDefinitionRuntimeLoader {
             return new ArrayList<>();
         }
 
+        final long start = System.nanoTime();
+        final List<Path> files = scanWorkflowFiles();
+        final long scanned = System.nanoTime();
+
+        final WorkflowDefinitionCache cache = config.source().cachePath()
+                .map(cachePath -> new WorkflowDefinitionCache(Path.of(cachePath)))
+                .orElse(null);
+        final int parallelism = parallelism(files.size());
+        final List<ParsedWorkflow> parsedWorkflows = parseWorkflows(files, cache, parallelism);
+        final long parsed = System.nanoTime();
+
+        // Registration stays serial and in scan order, so duplicates are always resolved the same way
         final List<WorkflowDefinitionId> workflowDefinitionIds = new ArrayList<>();
+        final Set<WorkflowDefinitionId> loaded = new HashSet<>();
         final List<Path> failedFiles = new ArrayList<>();
-        for (Path path : scanWorkflowFiles()) {
+        for (ParsedWorkflow parsedWorkflow : parsedWorkflows) {
+            Path path = parsedWorkflow.path();
             try {
-                loadWorkflow(path, workflowDefinitionIds).ifPresent(workflowDefinitionIds::add);
+                if (parsedWorkflow.error() != null) {
+                    throw parsedWorkflow.error();
+                }
+                loadWorkflow(path, parsedWorkflow.workflow(), loaded).ifPresent(defId -> {
+                    loaded.add(defId);
+                    workflowDefinitionIds.add(defId);
+                });
             } catch (Exception e) {
                 failedFiles.add(path);
                 LOGGER.error("Flow Runner: Failed to load workflow definition from {}, skipping it and continuing with "
                         + "the remaining files", path, e);
             }
         }
+        final long registered = System.nanoTime();
+        if (cache != null) {
+            cache.prune();
+        }
+
         if (!failedFiles.isEmpty()) {
             LOGGER.warn("Flow Runner: {} workflow definition(s) failed to load and were skipped: {}. "
                     + "See errors above for details.", failedFiles.size(), failedFiles);
         }
+        LOGGER.info("Flow Runner: Loaded {} workflow definition(s) from {} file(s) in {} ms "
+                + "(scan: {} ms, parse: {} ms with {} thread(s) and {} cache hit(s), register: {} ms)",
+                workflowDefinitionIds.size(), files.size(), millis(start, registered), millis(start, scanned),
+                millis(scanned, parsed), parallelism, cache == null ? 0 : cache.hits(), millis(parsed, registered));
         return workflowDefinitionIds;
     }
 
+    private int parallelism(int files) {
+        int parallelism = config.source().parallelism().orElse(Runtime.getRuntime().availableProcessors());
+        return Math.max(1, Math.min(parallelism, files));
+    }
+
+    /**
+     * Parses the given files on a bounded pool. Parsing failures are returned rather than thrown, so one bad file
+     * does not prevent the others from loading.
+     */
+    private List<ParsedWorkflow> parseWorkflows(List<Path> files, WorkflowDefinitionCache cache, int parallelism) {
+        if (parallelism == 1) {
+            return files.stream().map(path -> parse(path, cache)).toList();
+        }
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "flow-runner-loader-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<ParsedWorkflow>> futures = files.stream()
+                    .map(path -> CompletableFuture.supplyAsync(() -> parse(path, cache), executor))
+                    .toList();
+            return futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static ParsedWorkflow parse(Path path, WorkflowDefinitionCache cache) {
+        try {
+            Workflow workflow = cache != null ? cache.read(path) : WorkflowReader.readWorkflow(path);
+            return new ParsedWorkflow(path, workflow, null);
+        } catch (IOException e) {
+            return new ParsedWorkflow(path, null,
+                    new UncheckedIOException("Flow Runner: Failed to load workflow from " + path, e));
+        } catch (RuntimeException e) {
+            return new ParsedWorkflow(path, null, e);
+        }
+    }
+
+    private static long millis(long from, long to) {
+        return TimeUnit.NANOSECONDS.toMillis(to - from);
+    }
+
     /**
      * Scans the configured source path and returns all supported workflow file paths.
      * Respects the {@code followSymlinks} configuration.
@@ -106,6 +187,8 @@ public class WorkflowDefinitionRuntimeLoader {
         if (!Files.exists(basePath) || !Files.isDirectory(basePath)) {
             return List.of();
         }
+        // the cache entries are JSON definitions, they must not be loaded when the cache lives in the source path
+        Optional<Path> cachePath = config.source().cachePath().map(p -> Path.of(p).toAbsolutePath().normalize());
         try (Stream<Path> paths = config.source().followSymlinks()
                 ? Files.walk(basePath, FileVisitOption.FOLLOW_LINKS).sorted()
                 : Files.walk(basePath).sorted()) {
@@ -113,48 +196,47 @@ public class WorkflowDefinitionRuntimeLoader {
                     .filter(Files::isRegularFile)
                     .filter(this::isSupportedWorkflowFile)
                     .filter(f -> !Files.isSymbolicLink(f) || config.source().followSymlinks())
+                    .filter(f -> cachePath.isEmpty() || !f.toAbsolutePath().normalize().startsWith(cachePath.get()))
                     .toList();
         } catch (IOException e) {
             throw new UncheckedIOException("Flow Runner: Failed to scan workflow directory: " + basePath, e);
         }
     }
 
-    private boolean isSupportedWorkflowFile(Path path) {
+    boolean isSupportedWorkflowFile(Path path) {
         String fileName = path.getFileName().toString().toLowerCase();
         return WorkflowNameUtils.SUPPORTED_WORKFLOW_FILE_EXTENSIONS.stream()
                 .anyMatch(fileName::endsWith);
     }
 
-    private Optional<WorkflowDefinitionId> loadWorkflow(Path path, List<WorkflowDefinitionId> alreadyLoaded) {
-        try {
-            Workflow workflow = WorkflowReader.readWorkflow(path);
+    private Optional<WorkflowDefinitionId> loadWorkflow(Path path, Workflow workflow,
+            Set<WorkflowDefinitionId> alreadyLoaded) {
+        if (workflow.getDocument().getNamespace() == null || workflow.getDocument().getName() == null
+                || workflow.getDocument().getVersion() == null) {
+            throw new IllegalStateException(
+                    String.format("Flow Runner: Workflow at %s is missing required fields (namespace, name, or version)",
+                            path));
+        }
 
-            if (workflow.getDocument().getNamespace() == null || workflow.getDocument().getName() == null
-                    || workflow.getDocument().getVersion() == null) {
-                throw new IllegalStateException(
-                        String.format("Flow Runner: Workflow at %s is missing required fields (namespace, name, or version)",
-                                path));
-            }
+        WorkflowDefinitionId defId = WorkflowDefinitionId.of(workflow);
+        if (alreadyLoaded.contains(defId)) {
+            LOGGER.warn("Flow Runner: Skipping duplicated workflow definition ({}) found in path {}",
+                    defId.toString(":"), path);
+            return Optional.empty();
+        }
 
-            WorkflowDefinitionId defId = WorkflowDefinitionId.of(workflow);
-            if (alreadyLoaded.contains(defId)) {
-                LOGGER.warn("Flow Runner: Skipping duplicated workflow definition ({}) found in path {}",
-                        defId.toString(":"), path);
-                return Optional.empty();
-            }
+        registrarService.register(workflow);
 
-            registrarService.register(workflow);
+        LOGGER.debug("Flow Runner: Registered workflow {}:{}:{} from {}",
+                workflow.getDocument().getNamespace(),
+                workflow.getDocument().getName(),
+                workflow.getDocument().getVersion(),
+                path);
 
-            LOGGER.debug("Flow Runner: Registered workflow {}:{}:{} from {}",
-                    workflow.getDocument().getNamespace(),
-                    workflow.getDocument().getName(),
-                    workflow.getDocument().getVersion(),
-                    path);
+        return Optional.of(defId);
+    }
 
-            return Optional.of(defId);
-        } catch (IOException e) {
-            throw new UncheckedIOException("Flow Runner: Failed to load workflow from " + path, e);
-        }
+    private record ParsedWorkflow(Path path, Workflow workflow, RuntimeException error) {
     }
 
 }
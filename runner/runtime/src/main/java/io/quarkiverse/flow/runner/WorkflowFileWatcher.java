@@ -1,11 +1,33 @@
 package io.quarkiverse.flow.runner;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.event.Observes;
@@ -18,6 +40,7 @@ import io.quarkiverse.flow.internal.WorkflowApplicationReadyEvent;
 import io.quarkiverse.flow.internal.WorkflowRegistrarService;
 import io.quarkus.scheduler.Scheduled;
 import io.quarkus.scheduler.Scheduler;
+import io.serverlessworkflow.api.WorkflowFormat;
 import io.serverlessworkflow.api.WorkflowReader;
 import io.serverlessworkflow.api.types.Workflow;
 import io.serverlessworkflow.impl.WorkflowApplication;
@@ -28,6 +51,8 @@ public class WorkflowFileWatcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowFileWatcher.class.getName());
     static final String JOB_IDENTITY = "flow-runner-file-watcher";
 
+    private static final int MAX_PARSERS = 4;
+
     @Inject
     WorkflowRegistrarService registrarService;
 
@@ -44,7 +69,11 @@ public class WorkflowFileWatcher {
     Scheduler scheduler;
 
     final Map<Path, WorkflowDefinitionId> registeredFiles = new HashMap<>();
+    final Map<Path, FileState> fileStates = new HashMap<>();
     private volatile boolean active = false;
+    private WatchService watchService;
+    private Thread eventThread;
+    private ExecutorService parsers;
 
     void onStart(@Observes WorkflowApplicationReadyEvent ev) {
         if (!config.enabled()) {
@@ -58,31 +87,64 @@ public class WorkflowFileWatcher {
 
         buildBaseline();
 
+        FlowRunnerConfig.Source.Watch watch = config.source().watch();
+        active = true;
+        if (watch.mode() == FlowRunnerConfig.Source.Watch.Mode.EVENTS && startEventWatcher(watch.debounce())) {
+            LOGGER.info("Flow Runner: File watcher started — listening to file system events on {} ({} files in baseline)",
+                    config.source().path().get(), registeredFiles.size());
+            return;
+        }
+
         scheduler.newJob(JOB_IDENTITY)
-                .setInterval(config.source().watch().interval())
+                .setInterval(watch.interval())
                 .setConcurrentExecution(Scheduled.ConcurrentExecution.SKIP)
                 .setTask(executionContext -> poll())
                 .schedule();
 
-        active = true;
         LOGGER.info("Flow Runner: File watcher started — monitoring {} with interval {} ({} files in baseline)",
-                config.source().path().get(), config.source().watch().interval(), registeredFiles.size());
+                config.source().path().get(), watch.interval(), registeredFiles.size());
     }
 
     @PreDestroy
     void stop() {
-        if (active) {
+        if (!active) {
+            return;
+        }
+        active = false;
+        if (eventThread != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.debug("Flow Runner: File watcher — failed to close the watch service", e);
+            }
+            eventThread.interrupt();
+        } else {
             scheduler.unscheduleJob(JOB_IDENTITY);
-            LOGGER.debug("Flow Runner: File watcher stopped");
         }
+        if (parsers != null) {
+            parsers.shutdownNow();
+        }
+        LOGGER.debug("Flow Runner: File watcher stopped");
     }
 
-    void buildBaseline() {
+    /**
+     * Records the files loaded at startup. Only their attributes are read, their content is hashed the first time they
+     * change.
+     */
+    synchronized void buildBaseline() {
         for (Path path : loader.scanWorkflowFiles()) {
             registeredFiles.put(path, null);
+            try {
+                fileStates.put(path, FileState.attributes(path));
+            } catch (IOException e) {
+                LOGGER.debug("Flow Runner: File watcher — failed to read {} for the baseline", path, e);
+            }
         }
     }
 
+    /**
+     * Scans the whole source tree and processes the new and modified workflow files.
+     */
     void poll() {
         List<Path> currentFiles;
         try {
@@ -91,18 +153,63 @@ public class WorkflowFileWatcher {
             LOGGER.warn("Flow Runner: File watcher — failed to scan directory: {}", e.getMessage());
             return;
         }
+        process(currentFiles);
+    }
 
-        for (Path path : currentFiles) {
-            if (!registeredFiles.containsKey(path)) {
-                tryRegisterNewFile(path);
+    /**
+     * Parses the new or modified files among the given ones in parallel, then registers their workflows one by one.
+     */
+    synchronized void process(Collection<Path> paths) {
+        List<Path> changed = paths.stream().filter(this::isChanged).toList();
+        for (ParsedFile parsed : parse(changed)) {
+            if (parsed.unchanged()) {
+                fileStates.put(parsed.path(), parsed.state());
+            } else if (parsed.workflow() != null) {
+                tryRegister(parsed);
+            } else if (parsed.error() instanceof IOException) {
+                LOGGER.warn("Flow Runner: File watcher — failed to parse {} — will retry next cycle: {}",
+                        parsed.path(), parsed.error().getMessage());
+            } else {
+                LOGGER.warn("Flow Runner: File watcher — unexpected error processing {}: {}",
+                        parsed.path(), parsed.error().getMessage());
             }
         }
     }
 
-    private void tryRegisterNewFile(Path path) {
+    private boolean isChanged(Path path) {
+        if (!registeredFiles.containsKey(path)) {
+            return true;
+        }
+        FileState previous = fileStates.get(path);
+        if (previous == null) {
+            return true;
+        }
         try {
-            Workflow workflow = WorkflowReader.readWorkflow(path);
+            // the content of files with new attributes is compared with the previous one when they are read
+            return !previous.sameAttributes(path);
+        } catch (IOException e) {
+            LOGGER.debug("Flow Runner: File watcher — failed to read {}", path, e);
+            return false;
+        }
+    }
+
+    private List<ParsedFile> parse(List<Path> paths) {
+        if (paths.size() <= 1) {
+            return paths.stream().map(path -> ParsedFile.parse(path, fileStates.get(path))).toList();
+        }
+        List<CompletableFuture<ParsedFile>> parsing = paths.stream()
+                .map(path -> {
+                    FileState previous = fileStates.get(path);
+                    return CompletableFuture.supplyAsync(() -> ParsedFile.parse(path, previous), parsers());
+                })
+                .toList();
+        return parsing.stream().map(CompletableFuture::join).toList();
+    }
 
+    private void tryRegister(ParsedFile parsed) {
+        Path path = parsed.path();
+        Workflow workflow = parsed.workflow();
+        try {
             if (workflow.getDocument().getNamespace() == null || workflow.getDocument().getName() == null
                     || workflow.getDocument().getVersion() == null) {
                 LOGGER.warn("Flow Runner: File watcher — skipping {} — missing required fields (namespace, name, or version)",
@@ -111,25 +218,208 @@ public class WorkflowFileWatcher {
             }
 
             WorkflowDefinitionId defId = WorkflowDefinitionId.of(workflow);
+            boolean modified = registeredFiles.containsKey(path);
 
             if (application.workflowDefinitions().containsKey(defId)) {
-                LOGGER.warn("Flow Runner: File watcher — skipping {} — workflow {} is already registered",
-                        path, defId.toString(":"));
+                if (modified && parsed.previous() != null && parsed.previous().hash() == null) {
+                    // a file of the baseline read for the first time, it may only have been touched
+                    LOGGER.debug("Flow Runner: File watcher — {} still declares registered workflow {}", path,
+                            defId.toString(":"));
+                } else if (modified) {
+                    LOGGER.warn("Flow Runner: File watcher — {} was modified but still declares workflow {}, which is "
+                            + "already registered — bump its version to register the change", path, defId.toString(":"));
+                } else {
+                    LOGGER.warn("Flow Runner: File watcher — skipping {} — workflow {} is already registered",
+                            path, defId.toString(":"));
+                }
                 registeredFiles.put(path, defId);
+                fileStates.put(path, parsed.state());
                 return;
             }
 
             registrarService.register(workflow);
             registeredFiles.put(path, defId);
+            fileStates.put(path, parsed.state());
 
-            LOGGER.info("Flow Runner: File watcher — registered new workflow {} from {}",
-                    defId.toString(":"), path);
-        } catch (IOException e) {
-            LOGGER.warn("Flow Runner: File watcher — failed to parse {} — will retry next cycle: {}",
-                    path, e.getMessage());
+            if (modified) {
+                LOGGER.info("Flow Runner: File watcher — registered workflow {} from modified file {}",
+                        defId.toString(":"), path);
+            } else {
+                LOGGER.info("Flow Runner: File watcher — registered new workflow {} from {}",
+                        defId.toString(":"), path);
+            }
         } catch (Exception e) {
             LOGGER.warn("Flow Runner: File watcher — unexpected error processing {}: {}",
                     path, e.getMessage());
         }
     }
+
+    private boolean startEventWatcher(Duration debounce) {
+        Path basePath = Path.of(config.source().path().get());
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerTree(basePath);
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Flow Runner: File watcher — file system events are not supported for {}, falling back to polling: {}",
+                    basePath, e.getMessage());
+            closeWatchService();
+            return false;
+        }
+        eventThread = new Thread(() -> watchEvents(debounce), JOB_IDENTITY);
+        eventThread.setDaemon(true);
+        eventThread.start();
+        return true;
+    }
+
+    private void watchEvents(Duration debounce) {
+        try {
+            while (active) {
+                Set<Path> changed = new LinkedHashSet<>();
+                boolean rescan = collect(watchService.take(), changed);
+                // Waits for the file system to settle, so files written in several steps are processed once
+                WatchKey key;
+                while ((key = watchService.poll(debounce.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+                    rescan |= collect(key, changed);
+                }
+                if (rescan) {
+                    poll();
+                } else {
+                    process(changed.stream().filter(Files::isRegularFile).toList());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            LOGGER.debug("Flow Runner: File watcher — watch service closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Collects the workflow files of the given key events.
+     *
+     * @return whether the whole tree must be scanned again, because events were lost or because the change does not
+     *         concern a workflow file directly (a new directory, or a Kubernetes volume swapping its data symlink)
+     */
+    private boolean collect(WatchKey key, Set<Path> changed) {
+        boolean rescan = false;
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                rescan = true;
+                continue;
+            }
+            Path path = directory.resolve((Path) event.context());
+            if (Files.isDirectory(path)) {
+                try {
+                    registerTree(path);
+                } catch (IOException e) {
+                    LOGGER.warn("Flow Runner: File watcher — failed to watch directory {}: {}", path, e.getMessage());
+                }
+                rescan = true;
+            } else if (loader.isSupportedWorkflowFile(path)) {
+                if (!Files.isSymbolicLink(path) || config.source().followSymlinks()) {
+                    changed.add(path);
+                }
+            } else if (Files.isSymbolicLink(path) || path.getFileName().toString().startsWith("..")) {
+                rescan = true;
+            }
+        }
+        key.reset();
+        return rescan;
+    }
+
+    private void registerTree(Path root) throws IOException {
+        try (Stream<Path> paths = config.source().followSymlinks()
+                ? Files.walk(root, FileVisitOption.FOLLOW_LINKS)
+                : Files.walk(root)) {
+            for (Path directory : paths.filter(Files::isDirectory).toList()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.debug("Flow Runner: File watcher — failed to close the watch service", e);
+            }
+            watchService = null;
+        }
+    }
+
+    private synchronized ExecutorService parsers() {
+        if (parsers == null) {
+            AtomicInteger counter = new AtomicInteger();
+            parsers = Executors.newFixedThreadPool(Math.min(MAX_PARSERS, Runtime.getRuntime().availableProcessors()),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, JOB_IDENTITY + "-parser-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        return parsers;
+    }
+
+    /**
+     * Modification time, size and content hash of a workflow file, so that files are only parsed again when their
+     * content changes. The hash is {@code null} until the content is read.
+     */
+    record FileState(long lastModified, long size, String hash) {
+
+        static FileState attributes(Path path) throws IOException {
+            return new FileState(Files.getLastModifiedTime(path).toMillis(), Files.size(path), null);
+        }
+
+        boolean sameAttributes(Path path) throws IOException {
+            return Files.getLastModifiedTime(path).toMillis() == lastModified && Files.size(path) == size;
+        }
+
+        private static String sha256(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Content of a workflow file, read once to be both hashed and parsed.
+     */
+    record FileContent(Path path, FileState state, byte[] bytes) {
+
+        static FileContent read(Path path) throws IOException {
+            // taken before reading the content, so a change made while reading is detected on the next check
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            byte[] bytes = Files.readAllBytes(path);
+            return new FileContent(path, new FileState(lastModified, bytes.length, FileState.sha256(bytes)), bytes);
+        }
+
+        Workflow readWorkflow() throws IOException {
+            return WorkflowReader.readWorkflow(new ByteArrayInputStream(bytes), WorkflowFormat.fromPath(path));
+        }
+    }
+
+    private record ParsedFile(Path path, FileState previous, FileState state, Workflow workflow, Exception error) {
+
+        static ParsedFile parse(Path path, FileState previous) {
+            try {
+                FileContent content = FileContent.read(path);
+                // Touched files whose content did not change are not parsed again
+                if (previous != null && content.state().hash().equals(previous.hash())) {
+                    return new ParsedFile(path, previous, content.state(), null, null);
+                }
+                return new ParsedFile(path, previous, content.state(), content.readWorkflow(), null);
+            } catch (Exception e) {
+                return new ParsedFile(path, previous, null, null, e);
+            }
+        }
+
+        boolean unchanged() {
+            return workflow == null && error == null;
+        }
+    }
 }
@@ -26,7 +26,7 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
-import io.quarkiverse.flow.internal.WorkflowVersionComparator;
+import io.quarkiverse.flow.internal.WorkflowDefinitionIndex;
 import io.quarkiverse.flow.runner.FlowRunnerConfig;
 import io.quarkiverse.flow.runner.model.WorkflowDefinitionHeader;
 import io.quarkiverse.flow.runner.model.WorkflowFormatUtils;
@@ -36,9 +36,9 @@ import io.quarkiverse.flow.runner.security.NamespaceAuthorizationService;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.serverlessworkflow.api.WorkflowFormat;
 import io.serverlessworkflow.api.WorkflowWriter;
-import io.serverlessworkflow.api.types.Document;
 import io.serverlessworkflow.impl.WorkflowApplication;
 import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.serverlessworkflow.impl.WorkflowDefinitionId;
 
 @FlowRunnerEndpoint
 @Path("/q/flow/definitions")
@@ -50,6 +50,9 @@ public class DefinitionResource {
     @Inject
     WorkflowApplication application;
 
+    @Inject
+    WorkflowDefinitionIndex definitionIndex;
+
     @Inject
     NamespaceAuthorizationService namespaceAuth;
 
@@ -78,11 +81,7 @@ public class DefinitionResource {
 
         if (namespace != null && !namespace.isBlank()) {
             // Access to this namespace is validated by NamespaceAuthorizationFilter.
-            definitions = definitions.filter(
-                    definition -> namespace.equals(
-                            definition.workflow()
-                                    .getDocument()
-                                    .getNamespace()));
+            definitions = definitionIndex.namespace(namespace).stream();
         } else if (config.security().namespace().validate()
                 && !securityIdentity.hasRole(AuthzConsts.ROLE_ADMIN)) {
 
@@ -129,11 +128,8 @@ public class DefinitionResource {
             @Context HttpHeaders headers) {
         final WorkflowFormat format = WorkflowFormatUtils.mediaTypeToFormat(headers);
 
-        // Find latest version by comparing all versions for this namespace:name
-        Optional<String> workflowDocument = application.workflowDefinitions().entrySet().stream()
-                .filter(entry -> namespace.equals(entry.getKey().namespace()) && name.equals(entry.getKey().name()))
-                .max(new WorkflowVersionComparator())
-                .map(entry -> parseWorkflowDocument(entry.getValue(), format));
+        Optional<String> workflowDocument = definitionIndex.latest(namespace, name)
+                .map(definition -> parseWorkflowDocument(definition, format));
 
         if (workflowDocument.isPresent()) {
             return Response.ok(workflowDocument.get()).type(WorkflowFormatUtils.formatToMediaType(format)).build();
@@ -162,14 +158,8 @@ public class DefinitionResource {
             @Parameter(description = "Workflow version", required = true) @PathParam("version") String version,
             @Context HttpHeaders headers) {
         final WorkflowFormat format = WorkflowFormatUtils.mediaTypeToFormat(headers);
-        Optional<String> workflowDocument = application.workflowDefinitions().values().stream()
-                .filter(def -> {
-                    final Document doc = def.workflow().getDocument();
-                    return namespace.equals(doc.getNamespace()) &&
-                            name.equals(doc.getName()) &&
-                            version.equals(doc.getVersion());
-                })
-                .findFirst()
+        Optional<String> workflowDocument = Optional
+                .ofNullable(application.workflowDefinitions().get(new WorkflowDefinitionId(namespace, name, version)))
                 .map(def -> parseWorkflowDocument(def, format));
 
         if (workflowDocument.isPresent()) {
@@ -1,6 +1,5 @@
 package io.quarkiverse.flow.runner.resources;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -24,7 +23,8 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
-import io.quarkiverse.flow.internal.WorkflowVersionComparator;
+import io.quarkiverse.flow.internal.WorkflowDefinitionIndex;
+import io.quarkiverse.flow.providers.WorkflowAdmissionException;
 import io.quarkiverse.flow.runner.model.ExecutionResponse;
 import io.quarkiverse.flow.runner.security.AuthzConsts;
 import io.quarkiverse.flow.runner.security.FlowRunnerEndpoint;
@@ -45,6 +45,9 @@ public class RunnerExecResource {
     @Inject
     WorkflowApplication application;
 
+    @Inject
+    WorkflowDefinitionIndex definitionIndex;
+
     @POST
     @Path("/{namespace}/{name}")
     @Consumes(MediaType.APPLICATION_JSON)
@@ -60,16 +63,14 @@ public class RunnerExecResource {
     @APIResponse(responseCode = "401", description = "Authentication required - missing or invalid credentials")
     @APIResponse(responseCode = "403", description = "Access denied to requested namespace")
     @APIResponse(responseCode = "404", description = "Workflow not found")
+    @APIResponse(responseCode = "429", description = "Too many instances of the workflow running or waiting to start")
     public Uni<Response> executeWorkflow(
             @Parameter(description = "Workflow namespace (access validated if namespace authorization enabled)", required = true) @PathParam("namespace") String namespace,
             @Parameter(description = "Workflow name", required = true) @PathParam("name") String name,
             @Parameter(description = "Wait for workflow completion (default: false)") @QueryParam("wait") @DefaultValue("false") boolean wait,
             @RequestBody(description = "Workflow input data (can be object, array, string, number, or boolean)", required = false) Object request) {
 
-        final Optional<WorkflowDefinition> definition = application.workflowDefinitions().entrySet().stream()
-                .filter(entry -> name.equals(entry.getKey().name()) && namespace.equals(entry.getKey().namespace()))
-                .max(new WorkflowVersionComparator())
-                .map(Map.Entry::getValue);
+        final Optional<WorkflowDefinition> definition = definitionIndex.latest(namespace, name);
 
         return executeWorkflow(wait, request, new WorkflowDefinitionId(namespace, name, "latest"),
                 definition.orElse(null));
@@ -89,6 +90,7 @@ public class RunnerExecResource {
     @APIResponse(responseCode = "401", description = "Authentication required - missing or invalid credentials")
     @APIResponse(responseCode = "403", description = "Access denied to requested namespace")
     @APIResponse(responseCode = "404", description = "Workflow version not found")
+    @APIResponse(responseCode = "429", description = "Too many instances of the workflow running or waiting to start")
     public Uni<Response> executeWorkflow(
             @Parameter(description = "Workflow namespace (access validated if namespace authorization enabled)", required = true) @PathParam("namespace") String namespace,
             @Parameter(description = "Workflow name", required = true) @PathParam("name") String name,
@@ -111,6 +113,11 @@ public class RunnerExecResource {
 
         final WorkflowInstance instance = definition.instance(request);
         final CompletableFuture<WorkflowModel> workflowOutput = instance.start();
+        // a start rejected right away by admission control fails the request, surfaced as 429 by the exception mapper
+        final WorkflowAdmissionException rejection = rejection(workflowOutput);
+        if (rejection != null) {
+            return Uni.createFrom().failure(rejection);
+        }
         if (wait) {
             return Uni.createFrom()
                     .completionStage(workflowOutput)
@@ -121,4 +128,15 @@ public class RunnerExecResource {
                 .item(Response.status(Response.Status.ACCEPTED).entity(ExecutionResponse.from(instance)).build());
     }
 
+    private static WorkflowAdmissionException rejection(CompletableFuture<WorkflowModel> workflowOutput) {
+        if (!workflowOutput.isCompletedExceptionally()) {
+            return null;
+        }
+        // the engine may wrap the rejection raised while the instance starts
+        Throwable error = workflowOutput.handle((model, e) -> e).join();
+        while (error != null && !(error instanceof WorkflowAdmissionException)) {
+            error = error.getCause();
+        }
+        return (WorkflowAdmissionException) error;
+    }
 }
@@ -1,5 +1,6 @@
 package io.quarkiverse.flow.runner;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,12 +13,16 @@ import static org.mockito.Mockito.when;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 
 import io.quarkiverse.flow.internal.WorkflowApplicationReadyEvent;
 import io.quarkiverse.flow.internal.WorkflowRegistrarService;
@@ -632,4 +637,111 @@ class WorkflowDefinitionRuntimeLoaderTest {
         // Then - only the real file is loaded, both symlinks are skipped
         verify(mockRegistrar, times(1)).register(any(Workflow.class));
     }
+
+    @Test
+    @DisplayName("test_loader_parses_workflows_in_parallel")
+    void test_loader_parses_workflows_in_parallel() throws IOException {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            Files.writeString(tempDir.resolve("workflow-" + i + ".yaml"), cachedWorkflow("parallel-" + i, "1.0.0"));
+        }
+        // a duplicate is still skipped when files are parsed concurrently
+        Files.writeString(tempDir.resolve("workflow-duplicate.yaml"), cachedWorkflow("parallel-0", "1.0.0"));
+
+        WorkflowDefinition mockDefinition = mock(WorkflowDefinition.class);
+        when(mockRegistrar.register(any(Workflow.class))).thenReturn(mockDefinition);
+
+        when(mockConfig.enabled()).thenReturn(true);
+        when(mockSource.path()).thenReturn(Optional.of(tempDir.toString()));
+        when(mockSource.parallelism()).thenReturn(OptionalInt.of(4));
+
+        // When
+        loader.onStart(new WorkflowApplicationReadyEvent("ABC123"));
+
+        // Then
+        verify(mockRegistrar, times(20)).register(any(Workflow.class));
+    }
+
+    @Test
+    @DisplayName("test_loader_caches_parsed_workflows")
+    void test_loader_caches_parsed_workflows(@TempDir Path cacheDir) throws IOException {
+        // Given
+        Path workflowFile = tempDir.resolve("cached.yaml");
+        Files.writeString(workflowFile, cachedWorkflow("cached", "1.0.0"));
+
+        WorkflowDefinition mockDefinition = mock(WorkflowDefinition.class);
+        when(mockRegistrar.register(any(Workflow.class))).thenReturn(mockDefinition);
+
+        when(mockConfig.enabled()).thenReturn(true);
+        when(mockSource.path()).thenReturn(Optional.of(tempDir.toString()));
+        when(mockSource.cachePath()).thenReturn(Optional.of(cacheDir.toString()));
+
+        // When - first start parses the file and caches it
+        loader.onStart(new WorkflowApplicationReadyEvent("ABC123"));
+        List<Path> firstEntries = cacheEntries(cacheDir);
+
+        // Then
+        assertThat(firstEntries).hasSize(1);
+
+        // When - second start reads the cached entry
+        loader.onStart(new WorkflowApplicationReadyEvent("ABC123"));
+
+        // Then
+        assertThat(cacheEntries(cacheDir)).isEqualTo(firstEntries);
+        ArgumentCaptor<Workflow> captor = ArgumentCaptor.forClass(Workflow.class);
+        verify(mockRegistrar, times(2)).register(captor.capture());
+        assertThat(captor.getAllValues()).allSatisfy(workflow -> {
+            assertThat(workflow.getDocument().getName()).isEqualTo("cached");
+            assertThat(workflow.getDo()).hasSize(1);
+        });
+
+        // When - the file changes, its stale entry is replaced
+        Files.writeString(workflowFile, cachedWorkflow("cached", "2.0.0"));
+        loader.onStart(new WorkflowApplicationReadyEvent("ABC123"));
+
+        // Then
+        assertThat(cacheEntries(cacheDir)).hasSize(1).doesNotContainAnyElementsOf(firstEntries);
+        verify(mockRegistrar, times(3)).register(any(Workflow.class));
+    }
+
+    @Test
+    @DisplayName("test_loader_ignores_cache_entries_in_source_path")
+    void test_loader_ignores_cache_entries_in_source_path() throws IOException {
+        // Given - the cache lives inside the scanned directory
+        Files.writeString(tempDir.resolve("cached.yaml"), cachedWorkflow("cached", "1.0.0"));
+
+        WorkflowDefinition mockDefinition = mock(WorkflowDefinition.class);
+        when(mockRegistrar.register(any(Workflow.class))).thenReturn(mockDefinition);
+
+        when(mockConfig.enabled()).thenReturn(true);
+        when(mockSource.path()).thenReturn(Optional.of(tempDir.toString()));
+        when(mockSource.cachePath()).thenReturn(Optional.of(tempDir.resolve(".cache").toString()));
+
+        // When
+        loader.onStart(new WorkflowApplicationReadyEvent("ABC123"));
+        loader.onStart(new WorkflowApplicationReadyEvent("ABC123"));
+
+        // Then - the cached JSON entry is never loaded as a definition
+        verify(mockRegistrar, times(2)).register(any(Workflow.class));
+    }
+
+    private static String cachedWorkflow(String name, String version) {
+        return """
+                document:
+                  dsl: '1.0.0'
+                  namespace: test-namespace
+                  name: %s
+                  version: '%s'
+                do:
+                  - setMessage:
+                      set:
+                        message: "Cached"
+                """.formatted(name, version);
+    }
+
+    private static List<Path> cacheEntries(Path cacheDir) throws IOException {
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            return entries.sorted().toList();
+        }
+    }
 }
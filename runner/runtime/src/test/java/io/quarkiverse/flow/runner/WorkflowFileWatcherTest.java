@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -163,6 +164,76 @@ class WorkflowFileWatcherTest {
         verify(mockRegistrar, times(1)).register(any(Workflow.class));
     }
 
+    @Test
+    @DisplayName("test_watcher_registers_modified_file_with_new_version")
+    void test_watcher_registers_modified_file_with_new_version() throws IOException {
+        Path workflowFile = tempDir.resolve("evolving.yaml");
+        Files.writeString(workflowFile, WORKFLOW_YAML_TEMPLATE.formatted("test-ns", "evolving", "1.0.0"));
+
+        watcher.poll();
+        verify(mockRegistrar, times(1)).register(any(Workflow.class));
+
+        Files.writeString(workflowFile, WORKFLOW_YAML_TEMPLATE.formatted("test-ns", "evolving", "2.0.0"));
+        Files.setLastModifiedTime(workflowFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        watcher.poll();
+        verify(mockRegistrar, times(2)).register(any(Workflow.class));
+        assertThat(watcher.registeredFiles)
+                .containsEntry(workflowFile, new WorkflowDefinitionId("test-ns", "evolving", "2.0.0"));
+    }
+
+    @Test
+    @DisplayName("test_watcher_does_not_reparse_touched_file_with_same_content")
+    void test_watcher_does_not_reparse_touched_file_with_same_content() throws IOException {
+        watcher.buildBaseline();
+        Path workflowFile = tempDir.resolve("touched.yaml");
+        Files.writeString(workflowFile, WORKFLOW_YAML_TEMPLATE.formatted("test-ns", "touched", "1.0.0"));
+        watcher.poll();
+        verify(mockRegistrar, times(1)).register(any(Workflow.class));
+
+        Files.setLastModifiedTime(workflowFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        watcher.poll();
+        // the definition map of the mocked application stays empty, so parsing the file again would register it again
+        verify(mockRegistrar, times(1)).register(any(Workflow.class));
+        assertThat(watcher.fileStates.get(workflowFile).lastModified())
+                .isEqualTo(Files.getLastModifiedTime(workflowFile).toMillis());
+    }
+
+    @Test
+    @DisplayName("test_baseline_reads_only_file_attributes")
+    void test_baseline_reads_only_file_attributes() throws IOException {
+        Path workflowFile = tempDir.resolve("touched.yaml");
+        Files.writeString(workflowFile, WORKFLOW_YAML_TEMPLATE.formatted("test-ns", "touched", "1.0.0"));
+        watcher.buildBaseline();
+        assertThat(watcher.fileStates.get(workflowFile).hash()).isNull();
+
+        WorkflowDefinitionId existingId = new WorkflowDefinitionId("test-ns", "touched", "1.0.0");
+        when(mockApplication.workflowDefinitions()).thenReturn(Map.of(existingId, mock(WorkflowDefinition.class)));
+        Files.setLastModifiedTime(workflowFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        watcher.poll();
+        verify(mockRegistrar, never()).register(any(Workflow.class));
+        assertThat(watcher.fileStates.get(workflowFile).hash()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("test_watcher_skips_modified_file_declaring_registered_workflow")
+    void test_watcher_skips_modified_file_declaring_registered_workflow() throws IOException {
+        Path workflowFile = tempDir.resolve("same-id.yaml");
+        Files.writeString(workflowFile, WORKFLOW_YAML_TEMPLATE.formatted("test-ns", "same-id", "1.0.0"));
+        watcher.buildBaseline();
+
+        WorkflowDefinitionId existingId = new WorkflowDefinitionId("test-ns", "same-id", "1.0.0");
+        when(mockApplication.workflowDefinitions()).thenReturn(Map.of(existingId, mock(WorkflowDefinition.class)));
+        Files.writeString(workflowFile, WORKFLOW_YAML_TEMPLATE.formatted("test-ns", "same-id", "1.0.0") + "# changed\n");
+        Files.setLastModifiedTime(workflowFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+        watcher.poll();
+        verify(mockRegistrar, never()).register(any(Workflow.class));
+        assertThat(watcher.registeredFiles).containsEntry(workflowFile, existingId);
+    }
+
     @Test
     @DisplayName("test_baseline_prevents_parsing_startup_files")
     void test_baseline_prevents_parsing_startup_files() throws IOException {
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.quarkiverse.flow.internal.WorkflowDefinitionIndex;
 import io.quarkiverse.flow.runner.FlowRunnerConfig;
 import io.quarkiverse.flow.runner.model.WorkflowDefinitionHeader;
 import io.quarkiverse.flow.runner.security.AuthzConsts;
@@ -56,6 +57,7 @@ class DefinitionResourceTest {
         securityIdentity = mock(SecurityIdentity.class);
 
         resource.application = mockApplication;
+        resource.definitionIndex = new WorkflowDefinitionIndex(mockApplication);
         resource.namespaceAuth = mockNamespaceAuth;
         resource.config = config;
         resource.securityIdentity = securityIdentity;
@@ -1,6 +1,7 @@
 package io.quarkiverse.flow.runner.resources;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -8,6 +9,7 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import jakarta.ws.rs.core.Response;
 
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.quarkiverse.flow.internal.WorkflowDefinitionIndex;
+import io.quarkiverse.flow.providers.WorkflowAdmissionException;
 import io.quarkiverse.flow.runner.model.ExecutionResponse;
 import io.serverlessworkflow.impl.WorkflowApplication;
 import io.serverlessworkflow.impl.WorkflowDefinition;
@@ -34,6 +38,7 @@ class RunnerExecResourceTest {
         resource = new RunnerExecResource();
         mockApplication = mock(WorkflowApplication.class);
         resource.application = mockApplication;
+        resource.definitionIndex = new WorkflowDefinitionIndex(mockApplication);
     }
 
     @Test
@@ -210,4 +215,24 @@ class RunnerExecResourceTest {
         // Then - should return 404 (no matching workflow)
         assertThat(response.getStatus()).isEqualTo(404);
     }
+
+    @Test
+    @DisplayName("test_execute_workflow_rejected_by_admission_control")
+    void test_execute_workflow_rejected_by_admission_control() {
+        // Given
+        WorkflowDefinitionId id = new WorkflowDefinitionId("test-ns", "test-wf", "1.0.0");
+        WorkflowDefinition mockDefinition = mock(WorkflowDefinition.class);
+        WorkflowInstance mockInstance = mock(WorkflowInstance.class);
+        when(mockInstance.id()).thenReturn("instance-rejected");
+        when(mockInstance.start()).thenReturn(CompletableFuture.failedFuture(
+                new CompletionException(new WorkflowAdmissionException("Too many instances of workflow " + id))));
+        when(mockDefinition.id()).thenReturn(id);
+        when(mockDefinition.instance(any())).thenReturn(mockInstance);
+        when(mockApplication.workflowDefinitions()).thenReturn(Map.of(id, mockDefinition));
+
+        // When / Then - the rejection is unwrapped for the exception mapper, even without waiting
+        assertThatThrownBy(() -> resource.executeWorkflow("test-ns", "test-wf", "1.0.0", false, Map.of())
+                .await().indefinitely())
+                .isInstanceOf(WorkflowAdmissionException.class);
+    }
 }
@@ -0,0 +1,48 @@
+package io.quarkiverse.flow.scheduler.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.serverlessworkflow.impl.WorkflowDefinition;
+import io.smallrye.common.annotation.Identifier;
+
+@QuarkusTest
+@TestProfile(FlowSchedulerWheelTest.WheelSchedulerProfile.class)
+public class FlowSchedulerWheelTest {
+
+    public static class WheelSchedulerProfile implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return Map.of("quarkus.flow.scheduler.after-timer", "wheel",
+                    "quarkus.flow.scheduler.wheel.tick-duration", "5ms");
+        }
+    }
+
+    @Inject
+    @Identifier("test:after-driven-schedule:0.1.0")
+    WorkflowDefinition afterStartDefinition;
+
+    @Test
+    void should_schedule_after_instances_on_the_wheel() {
+        afterStartDefinition.instance(Map.of()).start().join();
+
+        // Allow extra time for CI with parallel builds
+        await()
+                .pollDelay(Duration.ofMillis(50))
+                .pollInterval(Duration.ofMillis(100))
+                .atMost(Duration.ofSeconds(5))
+                .until(() -> !afterStartDefinition.scheduledInstances().isEmpty());
+        assertThat(Thread.getAllStackTraces().keySet())
+                .anyMatch(thread -> thread.getName().equals("flow-scheduler-wheel"));
+    }
+}
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -26,6 +27,11 @@ public class FlowScheduler extends EventWorkflowScheduler {
     @Inject
     ScheduledExecutorService service;
 
+    @Inject
+    FlowSchedulerConfig config;
+
+    private volatile HashedWheelTimer wheel;
+
     @Override
     public Cancellable scheduleEvery(WorkflowDefinition definition, Duration interval) {
         return scheduleJob(definition, j -> j.setInterval(interval.toString()));
@@ -38,9 +44,39 @@ public class FlowScheduler extends EventWorkflowScheduler {
 
     @Override
     public Cancellable scheduleAfter(WorkflowDefinition definition, Duration delay) {
+        if (config.afterTimer() == FlowSchedulerConfig.AfterTimer.WHEEL) {
+            HashedWheelTimer.Timeout timeout = wheel().schedule(
+                    () -> ScheduledInstanceRunnable.runScheduledInstance(definition,
+                            definition.application().modelFactory().fromNull()),
+                    delay, definition.application().executorService());
+            return timeout::cancel;
+        }
         return ExecutorServiceWorkflowScheduler.scheduleAfter(service, definition, delay);
     }
 
+    @PreDestroy
+    void stopWheel() {
+        HashedWheelTimer current = wheel;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private HashedWheelTimer wheel() {
+        HashedWheelTimer current = wheel;
+        if (current == null) {
+            synchronized (this) {
+                current = wheel;
+                if (current == null) {
+                    current = new HashedWheelTimer(config.wheel().tickDuration(), config.wheel().wheelSize(),
+                            "flow-scheduler-wheel");
+                    wheel = current;
+                }
+            }
+        }
+        return current;
+    }
+
     @SuppressWarnings("rawtypes")
     private Cancellable scheduleJob(WorkflowDefinition definition, Consumer<JobDefinition> setup) {
         String id = jobId(definition);
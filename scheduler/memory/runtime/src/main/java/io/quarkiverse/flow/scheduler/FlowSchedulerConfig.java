@@ -0,0 +1,50 @@
+package io.quarkiverse.flow.scheduler;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+@ConfigMapping(prefix = "quarkus.flow.scheduler")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface FlowSchedulerConfig {
+
+    /**
+     * Timer used to start workflows scheduled with {@code after}.
+     * <p>
+     * {@code executor} (the default) schedules every timer on the Quarkus {@code ScheduledExecutorService}.
+     * {@code wheel} uses a hashed timing wheel instead: scheduling and cancelling are O(1), which suits applications
+     * keeping hundreds of thousands of timers, at the cost of firing up to one {@code tick-duration} late.
+     */
+    @WithDefault("executor")
+    AfterTimer afterTimer();
+
+    /**
+     * Hashed timing wheel settings, used when {@code after-timer} is {@code wheel}.
+     */
+    Wheel wheel();
+
+    interface Wheel {
+
+        /**
+         * Duration of a tick of the wheel, the precision of the timers.
+         */
+        @WithDefault("10ms")
+        Duration tickDuration();
+
+        /**
+         * Number of slots of the wheel, rounded up to a power of two.
+         * <p>
+         * A wheel turns once every {@code tick-duration * wheel-size}; timers further away wait for as many turns.
+         */
+        @WithDefault("512")
+        int wheelSize();
+    }
+
+    enum AfterTimer {
+        EXECUTOR,
+        WHEEL
+    }
+}
@@ -0,0 +1,277 @@
+package io.quarkiverse.flow.scheduler;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timing wheel for one-shot timers.
+ * <p>
+ * The wheel is an array of buckets, each a doubly linked list of timers, advanced by a single ticker thread every tick.
+ * A timer lands in the bucket of its deadline and remembers how many full turns of the wheel are left before it
+ * expires, so scheduling and cancelling are O(1) and a tick only visits the timers of one bucket. Expired timers are
+ * handed over to their executor, the ticker thread never runs them.
+ * <p>
+ * New and cancelled timers go through lock-free queues drained by the ticker thread, which is the only one touching
+ * the buckets. Timers fire up to one tick late.
+ */
+class HashedWheelTimer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private static final int STATE_PENDING = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread ticker;
+    private final long startTime;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    HashedWheelTimer(Duration tickDuration, int wheelSize, String threadName) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero, got " + tickDuration);
+        }
+        if (wheelSize < 1 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("Wheel size must be between 1 and 2^30, got " + wheelSize);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[roundToPowerOfTwo(wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.startTime = System.nanoTime();
+        this.ticker = new Thread(this::run, threadName);
+        this.ticker.setDaemon(true);
+        this.ticker.start();
+    }
+
+    /**
+     * Runs the given task on the given executor once the delay has elapsed.
+     */
+    Timeout schedule(Runnable task, Duration delay, Executor executor) {
+        if (!running) {
+            throw new RejectedExecutionException("Timer has been stopped");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(this, task, executor, deadline);
+        pending.incrementAndGet();
+        added.offer(timeout);
+        return timeout;
+    }
+
+    /**
+     * @return the number of timers neither dispatched nor cancelled yet
+     */
+    long pending() {
+        return pending.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ticker.interrupt();
+        try {
+            ticker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                continue;
+            }
+            removeCancelled();
+            transferAdded();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    /**
+     * @return whether the current tick is due, {@code false} when interrupted by {@link #close()}
+     */
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferAdded() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = added.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != STATE_PENDING) {
+                continue;
+            }
+            long ticks = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private static int roundToPowerOfTwo(int value) {
+        int size = 1;
+        while (size < value) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * A scheduled timer.
+     */
+    static final class Timeout {
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+
+        // only touched by the ticker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, Executor executor, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels this timer if it has not expired yet.
+         *
+         * @return whether the timer was cancelled by this call
+         */
+        boolean cancel() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.cancelled.offer(this);
+            return true;
+        }
+
+        boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to dispatch expired timer", e);
+            } finally {
+                timer.pending.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timers of one slot of the wheel.
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.quarkiverse.flow.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Load test of {@link HashedWheelTimer}, run with {@code -Pload-tests}.
+ */
+class HashedWheelTimerLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HashedWheelTimerLoadTest.class);
+
+    private static final int TIMERS = 1_000_000;
+
+    @Test
+    @DisplayName("schedules one million timers")
+    void test_schedules_one_million_timers() {
+        try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(10), 512, "test-wheel")) {
+            AtomicInteger fired = new AtomicInteger();
+            List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>(TIMERS);
+
+            long start = System.nanoTime();
+            for (int i = 0; i < TIMERS; i++) {
+                // spread over several turns of the wheel
+                timeouts.add(timer.schedule(fired::incrementAndGet, Duration.ofMillis(500 + i % 5_000), Runnable::run));
+            }
+            long scheduled = System.nanoTime();
+            for (int i = 0; i < TIMERS; i += 2) {
+                timeouts.get(i).cancel();
+            }
+            long cancelled = System.nanoTime();
+            LOG.info("Scheduled {} timers in {} ms, cancelled half of them in {} ms", TIMERS,
+                    TimeUnit.NANOSECONDS.toMillis(scheduled - start), TimeUnit.NANOSECONDS.toMillis(cancelled - scheduled));
+
+            await().atMost(Duration.ofSeconds(30)).until(() -> timer.pending() == 0);
+            LOG.info("Fired {} timers in {} ms", fired.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            assertThat(fired).hasValue(TIMERS / 2);
+        }
+    }
+}
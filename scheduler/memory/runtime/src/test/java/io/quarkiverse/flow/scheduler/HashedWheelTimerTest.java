@@ -0,0 +1,53 @@
+package io.quarkiverse.flow.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HashedWheelTimer}.
+ */
+class HashedWheelTimerTest {
+
+    @Test
+    @DisplayName("timers fire after their delay")
+    void test_timers_fire_after_delay() throws InterruptedException {
+        try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(5), 8, "test-wheel")) {
+            CountDownLatch fired = new CountDownLatch(1);
+            long start = System.nanoTime();
+
+            // longer than a turn of the wheel, so the timer has to wait for a second round
+            timer.schedule(fired::countDown, Duration.ofMillis(100), Runnable::run);
+
+            assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+            await().atMost(Duration.ofSeconds(5)).until(() -> timer.pending() == 0);
+        }
+    }
+
+    @Test
+    @DisplayName("cancelled timers never fire")
+    void test_cancelled_timers_never_fire() throws InterruptedException {
+        try (HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(5), 8, "test-wheel")) {
+            AtomicInteger fired = new AtomicInteger();
+            CountDownLatch kept = new CountDownLatch(1);
+
+            HashedWheelTimer.Timeout cancelled = timer.schedule(fired::incrementAndGet, Duration.ofMillis(50),
+                    Runnable::run);
+            timer.schedule(kept::countDown, Duration.ofMillis(100), Runnable::run);
+
+            assertThat(cancelled.cancel()).isTrue();
+            assertThat(cancelled.cancel()).isFalse();
+            assertThat(kept.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(fired).hasValue(0);
+            assertThat(cancelled.isCancelled()).isTrue();
+        }
+    }
+}